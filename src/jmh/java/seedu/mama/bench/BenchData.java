@@ -0,0 +1,102 @@
+package seedu.mama.bench;
+
+import seedu.mama.model.BodyMeasurementEntry;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MealEntry;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.model.WeightEntry;
+import seedu.mama.model.WorkoutEntry;
+import seedu.mama.model.WorkoutGoalEntry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic entry lists for the benchmarks.
+ * <p>
+ * Entries are spaced {@link #SPACING_MINUTES} apart and end at {@link #NOW}, with the mix a user
+ * would log over a day: mostly milk and meals, some workouts, an occasional weight, measurement or
+ * workout goal.
+ */
+final class BenchData {
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 29, 20, 0);
+    static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+    static final int SPACING_MINUTES = 15;
+
+    private BenchData() {
+    }
+
+    /**
+     * Mutes INFO logging the way {@code Mama.main} does, so log output is not part of the measurement.
+     */
+    static void quietLogging() {
+        Logger.getLogger("").setLevel(Level.WARNING);
+    }
+
+    /**
+     * The {@code i}-th of {@code n} generated entries.
+     */
+    static Entry entry(int i, int n) {
+        LocalDateTime when = NOW.minusMinutes((long) (n - 1 - i) * SPACING_MINUTES);
+        if (i % 1000 == 0) {
+            return new WorkoutGoalEntry(150 + (i / 1000) % 5 * 30, when);
+        }
+        if (i % 500 == 0) {
+            return new BodyMeasurementEntry(70 + i % 10, 95, 88, null, 30);
+        }
+        int slot = i % 10;
+        if (slot < 4) {
+            return new MilkEntry((60 + i % 120) + "ml", when);
+        }
+        if (slot < 7) {
+            return new MealEntry("meal " + i % 7, 200 + i % 600, 20, 30, null, when);
+        }
+        if (slot < 9) {
+            return new WorkoutEntry("walk", 10 + i % 50, 1 + i % 5, when);
+        }
+        return new WeightEntry(60 + (i % 100) / 10.0);
+    }
+
+    static EntryList list(int n) {
+        EntryList list = new EntryList();
+        for (int i = 0; i < n; i++) {
+            list.add(entry(i, n));
+        }
+        return list;
+    }
+
+    /**
+     * Deletes {@code dir} and the files directly inside it.
+     */
+    static void deleteDir(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(p);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Writes {@code n} generated entries to {@code file} in the storage format.
+     */
+    static void write(Path file, int n) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < n; i++) {
+                out.write(entry(i, n).toStorageString());
+                out.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.mama.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mama.model.DashboardSummary;
+import seedu.mama.model.EntryList;
+import seedu.mama.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a {@link DashboardSummary} over lists of increasing size, with the clock pinned
+ * to the end of the generated data so "today" and "this week" are populated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class DashboardBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path dir;
+    private EntryList list;
+    private Storage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchData.quietLogging();
+        dir = Files.createTempDirectory("mama-bench");
+        storage = new Storage(dir.resolve("mama.txt"));
+        storage.saveGoal(1800);
+        list = BenchData.list(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storage.close();
+        BenchData.deleteDir(dir);
+    }
+
+    @Benchmark
+    public DashboardSummary build() {
+        return new DashboardSummary(list, storage, BenchData.CLOCK);
+    }
+}
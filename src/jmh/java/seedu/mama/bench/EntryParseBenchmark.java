@@ -0,0 +1,56 @@
+package seedu.mama.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mama.model.Entry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-line cost of {@link Entry#fromStorageString(String)} for each stored entry type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryParseBenchmark {
+
+    private static final Map<String, String> LINES = Map.of(
+            "MILK", "MILK|150ml|28/10/25 01:14",
+            "MEAL", "MEAL|chicken rice|650|30|80|-|28/10/25 12:30",
+            "WORKOUT", "WORKOUT|yoga|45|4|28/10/25 07:00",
+            "WEIGHT", "WEIGHT|62.5",
+            "MEASURE", "MEASURE|75|95|88|-|30|28/10/25 08:00",
+            "WORKOUT_GOAL", "WORKOUT_GOAL|150|27/10/25 00:00",
+            "CALORIE_GOAL", "CALORIE_GOAL|1800",
+            "NOTE", "NOTE|slept well");
+
+    @Param({"MILK", "MEAL", "WORKOUT", "WEIGHT", "MEASURE", "WORKOUT_GOAL", "CALORIE_GOAL", "NOTE"})
+    private String type;
+
+    private String line;
+
+    @Setup
+    public void setUp() {
+        BenchData.quietLogging();
+        line = LINES.get(type);
+    }
+
+    @Benchmark
+    public Entry fromStorageString() {
+        return Entry.fromStorageString(line);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.mama.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mama.command.Command;
+import seedu.mama.command.CommandException;
+import seedu.mama.command.CommandType;
+import seedu.mama.parser.Parser;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Parser#parse(String)} for a typical input of each {@link CommandType}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final Map<CommandType, String> INPUTS = new EnumMap<>(CommandType.class);
+
+    static {
+        INPUTS.put(CommandType.HELP, "help");
+        INPUTS.put(CommandType.WORKOUT, "workout yoga /dur 45 /feel 4");
+        INPUTS.put(CommandType.MEAL, "meal chicken rice /cal 650 /protein 30 /carbs 80");
+        INPUTS.put(CommandType.WEIGHT, "weight 62.5");
+        INPUTS.put(CommandType.MILK, "milk 150");
+        INPUTS.put(CommandType.MEASURE, "measure waist/75 hips/95 chest/88 arm/30");
+        INPUTS.put(CommandType.DELETE, "delete 3");
+        INPUTS.put(CommandType.LIST, "list /t meal");
+        INPUTS.put(CommandType.DASHBOARD, "dashboard");
+        INPUTS.put(CommandType.WORKOUT_GOAL_SET, "workout goal 150");
+        INPUTS.put(CommandType.WORKOUT_GOAL_VIEW, "workout goal");
+        INPUTS.put(CommandType.CALORIE_GOAL_SET, "calorie goal 1800");
+        INPUTS.put(CommandType.CALORIE_GOAL_VIEW, "calorie goal");
+        INPUTS.put(CommandType.STATS, "stats");
+        INPUTS.put(CommandType.BYE, "bye");
+    }
+
+    @Param({"HELP", "WORKOUT", "MEAL", "WEIGHT", "MILK", "MEASURE", "DELETE", "LIST", "DASHBOARD",
+        "WORKOUT_GOAL_SET", "WORKOUT_GOAL_VIEW", "CALORIE_GOAL_SET", "CALORIE_GOAL_VIEW", "STATS", "BYE"})
+    private CommandType type;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        BenchData.quietLogging();
+        input = INPUTS.get(type);
+    }
+
+    @Benchmark
+    public Command parse() throws CommandException {
+        return Parser.parse(input);
+    }
+}
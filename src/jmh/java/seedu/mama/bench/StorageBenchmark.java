@@ -0,0 +1,96 @@
+package seedu.mama.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.storage.Storage;
+import seedu.mama.storage.StorageFormat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load and save cost of {@link Storage} for data files of increasing size.
+ * <p>
+ * {@code snapshotSave} rewrites the whole file, as a non-journalled save does; {@code journalSave}
+ * adds one entry and saves through a journalled storage, so it includes the amortised cost of
+ * compacting every {@link Storage#DEFAULT_COMPACT_THRESHOLD} records. Every case runs against a text
+ * and a binary snapshot file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"TEXT", "BINARY"})
+    private StorageFormat format;
+
+    private Path dir;
+    private Path dataFile;
+    private Path saveFile;
+    private EntryList loaded;
+    private Storage snapshotStorage;
+    private Storage journalStorage;
+    private EntryList journalList;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchData.quietLogging();
+        dir = Files.createTempDirectory("mama-bench");
+        dataFile = dir.resolve("load.txt");
+        BenchData.write(dataFile, size);
+        loaded = new Storage(dataFile).migrate(format);
+
+        saveFile = dir.resolve("save.txt");
+        snapshotStorage = new Storage(saveFile, false, Storage.DEFAULT_COMPACT_THRESHOLD, format);
+
+        Path journalFile = dir.resolve("journal.txt");
+        BenchData.write(journalFile, size);
+        journalStorage = new Storage(journalFile, true, Storage.DEFAULT_COMPACT_THRESHOLD);
+        journalList = journalStorage.migrate(format);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journalStorage.close();
+        snapshotStorage.close();
+        BenchData.deleteDir(dir);
+    }
+
+    @Benchmark
+    public EntryList loadOrEmpty() {
+        return new Storage(dataFile).loadOrEmpty();
+    }
+
+    @Benchmark
+    public void snapshotSave() {
+        snapshotStorage.save(loaded);
+    }
+
+    @Benchmark
+    public void journalSave() {
+        journalList.add(new MilkEntry("120ml", BenchData.NOW));
+        journalStorage.save(journalList);
+    }
+}
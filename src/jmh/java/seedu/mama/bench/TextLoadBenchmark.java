@@ -0,0 +1,72 @@
+package seedu.mama.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.mama.model.EntryList;
+import seedu.mama.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a text snapshot sequentially against decoding it in parallel chunks.
+ * <p>
+ * With {@code threads} = 1 the storage reads the file line by line, as it does on a single-core
+ * machine; with more it decodes the file with {@code ParallelTextLoader} on a pool of that many
+ * threads. Compare the two to see whether the parallel loader pays off on the machine at hand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class TextLoadBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private Path dir;
+    private Path dataFile;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchData.quietLogging();
+        dir = Files.createTempDirectory("mama-bench");
+        dataFile = dir.resolve("load.txt");
+        BenchData.write(dataFile, size);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        BenchData.deleteDir(dir);
+    }
+
+    @Benchmark
+    public EntryList load() {
+        Storage storage = new Storage(dataFile);
+        storage.setParallelLoad(pool, 0);
+        return storage.loadOrEmpty();
+    }
+}
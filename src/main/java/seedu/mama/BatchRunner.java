@@ -0,0 +1,181 @@
+package seedu.mama;
+
+import seedu.mama.command.Command;
+import seedu.mama.command.CommandException;
+import seedu.mama.command.CommandResult;
+import seedu.mama.metrics.CommandEvent;
+import seedu.mama.metrics.CommandMetrics;
+import seedu.mama.model.EntryList;
+import seedu.mama.parser.CommandInput;
+import seedu.mama.parser.Parser;
+import seedu.mama.storage.Storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executes a file of commands (e.g. a backfill of paper logs) without per-line feedback.
+ * <p>
+ * The file is streamed line by line through the usual {@link Parser} and {@link Command} contract,
+ * but saves are deferred: the list is persisted every {@code checkpointEvery} executed commands
+ * (0 means only at the end), so an import costs a handful of writes instead of one per line.
+ */
+public final class BatchRunner {
+    private static final Logger LOG = Logger.getLogger(BatchRunner.class.getName());
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final EntryList list;
+    private final Storage storage;
+    private final CommandMetrics metrics;
+    private final int checkpointEvery;
+
+    /**
+     * Creates a runner over {@code list} and {@code storage} that records each command in {@code metrics}.
+     *
+     * @param checkpointEvery number of executed commands between saves; 0 to save only at the end
+     */
+    public BatchRunner(EntryList list, Storage storage, CommandMetrics metrics, int checkpointEvery) {
+        if (checkpointEvery < 0) {
+            throw new IllegalArgumentException("checkpointEvery must not be negative");
+        }
+        this.list = list;
+        this.storage = storage;
+        this.metrics = metrics;
+        this.checkpointEvery = checkpointEvery;
+    }
+
+    /**
+     * Runs every command in {@code in} until end of input or an exit command, then saves.
+     *
+     * @return counts and timing for the run
+     * @throws IOException if reading {@code in} fails; changes executed so far are still saved
+     */
+    public Summary run(BufferedReader in) throws IOException {
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+        boolean wasDeferred = storage.isDeferred();
+        storage.setDeferred(true);
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                summary.lines++;
+                String input = line.trim();
+                if (input.isEmpty()) {
+                    continue;
+                }
+                if (execute(input, summary)) {
+                    break;
+                }
+                if (checkpointEvery > 0 && summary.executed % checkpointEvery == 0 && list.hasPendingChanges()) {
+                    storage.checkpoint(list);
+                    summary.checkpoints++;
+                }
+            }
+        } finally {
+            if (list.hasPendingChanges()) {
+                storage.checkpoint(list);
+                summary.checkpoints++;
+            }
+            storage.setDeferred(wasDeferred);
+            summary.elapsedNanos = System.nanoTime() - start;
+        }
+        return summary;
+    }
+
+    /**
+     * Executes one command line, recording the outcome.
+     *
+     * @return true if the command asked to exit
+     */
+    private boolean execute(String input, Summary summary) {
+        CommandEvent event = new CommandEvent();
+        event.start();
+        try {
+            CommandInput in = CommandInput.of(input);
+            Parser.Parsed parsed = Parser.parseTyped(in, metrics);
+            event.parsed(parsed.type());
+            CommandResult result = metrics.execute(parsed.type(), parsed.command(), list, storage);
+            event.executed();
+            if (parsed.type() == null || result.isError()) {
+                summary.fail(input, result.getFeedbackToUser()); // unknown keyword or usage error
+                return false;
+            }
+            summary.executed++;
+            // same exit rule as the interactive loop, which also stops on a plain "bye"
+            return result.isExit() || input.equalsIgnoreCase("bye");
+        } catch (CommandException ce) {
+            summary.fail(input, ce.getMessage());
+        } catch (Exception e) {
+            LOG.log(Level.SEVERE, "Unexpected exception in batch line: " + input, e);
+            summary.fail(input, "An unexpected error occurred: " + e.getMessage());
+        } finally {
+            event.finish();
+        }
+        return false;
+    }
+
+    /**
+     * Outcome of a batch run.
+     */
+    public static final class Summary {
+        private int lines;
+        private int executed;
+        private int failed;
+        private int checkpoints;
+        private long elapsedNanos;
+        private final List<String> failures = new ArrayList<>();
+
+        private void fail(String input, String message) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add("line " + lines + ": " + input + " -> " + message);
+            }
+        }
+
+        public int getLines() {
+            return lines;
+        }
+
+        public int getExecuted() {
+            return executed;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getCheckpoints() {
+            return checkpoints;
+        }
+
+        /**
+         * Commands (executed or failed) per second of wall-clock time.
+         */
+        public double getCommandsPerSecond() {
+            double seconds = elapsedNanos / 1e9;
+            return seconds <= 0 ? 0 : (executed + failed) / seconds;
+        }
+
+        /**
+         * Multi-line report for the user.
+         */
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Batch complete: ").append(executed).append(" command(s) executed, ")
+                    .append(failed).append(" failed, ").append(lines).append(" line(s) read.\n");
+            sb.append(String.format("Took %.3f s (%.0f commands/sec), saved %d time(s).",
+                    elapsedNanos / 1e9, getCommandsPerSecond(), checkpoints));
+            for (String f : failures) {
+                sb.append("\n  ").append(f);
+            }
+            if (failed > failures.size()) {
+                sb.append("\n  ... and ").append(failed - failures.size()).append(" more");
+            }
+            return sb.toString();
+        }
+    }
+}
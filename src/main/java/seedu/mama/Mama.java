@@ -1,22 +1,42 @@
 package seedu.mama;
 
-import seedu.mama.command.Command;
 import seedu.mama.command.CommandException;
 import seedu.mama.command.CommandResult;
+import seedu.mama.metrics.CommandEvent;
+import seedu.mama.metrics.CommandMetrics;
+import seedu.mama.metrics.MetricsReport;
 import seedu.mama.model.EntryList;
+import seedu.mama.parser.CommandInput;
 import seedu.mama.parser.Parser;
 import seedu.mama.storage.Storage;
+import seedu.mama.storage.StorageFormat;
 import seedu.mama.ui.Ui;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class Mama {
     private static final Logger LOG = Logger.getLogger(Mama.class.getName());
+    private static final String WRITE_BEHIND_FLAG = "--write-behind";
+    private static final String BATCH_FLAG = "--batch";
+    private static final String CHECKPOINT_FLAG = "--checkpoint";
+    private static final String STATS_FILE_FLAG = "--stats-file";
+    private static final String MIGRATE_FLAG = "--migrate";
+    private static final String MONTHLY_SEGMENTS_FLAG = "--monthly-segments";
+    private static final String COMPRESS_SEGMENTS_FLAG = "--compress-segments";
+    private static final String LAZY_LOAD_FLAG = "--lazy-load";
     // --- Add Ui instance ---
     private final Ui ui;
     private final Storage storage;
+    private final CommandMetrics metrics;
     private final EntryList list;
 
     /**
@@ -24,8 +44,23 @@ public class Mama {
      * Initializes components.
      */
     public Mama() {
+        this(Storage.defaultStorage());
+    }
+
+    /**
+     * Constructor for Mama application logic backed by {@code storage}.
+     */
+    public Mama(Storage storage) {
+        this(storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructor for Mama application logic backed by {@code storage}, recording commands in {@code metrics}.
+     */
+    public Mama(Storage storage, CommandMetrics metrics) {
         ui = new Ui();
-        storage = Storage.defaultStorage();
+        this.storage = storage;
+        this.metrics = metrics;
         list = storage.loadOrEmpty();
     }
 
@@ -36,6 +71,15 @@ public class Mama {
         ui.showWelcome();
 
         Scanner sc = new Scanner(System.in);
+        try {
+            loop(sc);
+        } finally {
+            sc.close();
+            storage.close(); // bye or EOF: wait for queued saves to reach the disk
+        }
+    }
+
+    private void loop(Scanner sc) {
         while (true) {
             if (!sc.hasNextLine()) {
                 break; // Handle EOF for tests
@@ -45,10 +89,16 @@ public class Mama {
                 continue;
             }
 
+            CommandEvent event = new CommandEvent();
+            event.start();
             try {
-                Command command = Parser.parse(userInput);
-                CommandResult result = command.execute(list, storage);
+                CommandInput in = CommandInput.of(userInput);
+                Parser.Parsed parsed = Parser.parseTyped(in, metrics);
+                event.parsed(parsed.type());
+                CommandResult result = metrics.execute(parsed.type(), parsed.command(), list, storage);
+                event.executed();
                 Ui.showMessage(result.getFeedbackToUser());
+                event.rendered();
 
                 if (result.isExit()) {
                     break;
@@ -65,14 +115,121 @@ public class Mama {
             } catch (Exception e) {
                 LOG.log(Level.SEVERE, "Unexpected exception", e);
                 ui.showError("An unexpected error occurred: " + e.getMessage()); // <-- Use Ui to show error
+            } finally {
+                event.finish();
+            }
+        }
+    }
+
+
+    /**
+     * Executes every command in {@code file} with deferred saves and prints a summary instead of
+     * per-line feedback.
+     *
+     * @param checkpointEvery number of executed commands between saves; 0 to save only at the end
+     */
+    public void runBatch(Path file, int checkpointEvery) {
+        try (BufferedReader in = Files.newBufferedReader(file)) {
+            BatchRunner.Summary summary = new BatchRunner(list, storage, metrics, checkpointEvery).run(in);
+            Ui.showMessage(summary.format());
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Batch failed: " + e.getMessage());
+            ui.showError("Could not read batch file: " + e.getMessage());
+        } finally {
+            storage.close();
+        }
+    }
+
+    /**
+     * Writes the command and storage metrics gathered during this run to {@code file}.
+     */
+    private static void dumpStats(Path file, CommandMetrics metrics, Storage storage) {
+        try {
+            MetricsReport.write(file, metrics, storage.metrics());
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Stats dump failed: " + e.getMessage());
+            new Ui().showError("Could not write stats file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the argument following {@code flag}, or null if the flag is absent.
+     */
+    private static String optionValue(String[] args, String flag) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(flag)) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value after " + flag);
+                }
+                return args[i + 1];
             }
         }
-        sc.close();
+        return null;
     }
 
+    private static StorageFormat parseFormat(String value) {
+        for (StorageFormat f : StorageFormat.values()) {
+            if (f.name().equalsIgnoreCase(value)) {
+                return f;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format after " + MIGRATE_FLAG + ": " + value);
+    }
 
     public static void main(String[] args) {
         Logger.getLogger("").setLevel(Level.WARNING);
-        new Mama().run(); // Create instance and run
+        String batchFile;
+        String statsFile;
+        int checkpointEvery;
+        StorageFormat migrateTo;
+        try {
+            batchFile = optionValue(args, BATCH_FLAG);
+            statsFile = optionValue(args, STATS_FILE_FLAG);
+            String migrate = optionValue(args, MIGRATE_FLAG);
+            migrateTo = migrate == null ? null : parseFormat(migrate);
+            String checkpoint = optionValue(args, CHECKPOINT_FLAG);
+            checkpointEvery = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+            if (checkpointEvery < 0) {
+                throw new IllegalArgumentException(CHECKPOINT_FLAG + " must not be negative");
+            }
+        } catch (IllegalArgumentException e) { // includes NumberFormatException
+            new Ui().showError(e.getMessage() + System.lineSeparator()
+                    + "Usage: [" + WRITE_BEHIND_FLAG + "] [" + STATS_FILE_FLAG + " <file>] ["
+                    + MONTHLY_SEGMENTS_FLAG + " | " + COMPRESS_SEGMENTS_FLAG + "] [" + LAZY_LOAD_FLAG + "] ["
+                    + BATCH_FLAG + " <file> [" + CHECKPOINT_FLAG + " <n>]] | "
+                    + MIGRATE_FLAG + " <text|binary>");
+            return;
+        }
+
+        Storage storage = Storage.defaultStorage();
+        if (Arrays.asList(args).contains(COMPRESS_SEGMENTS_FLAG)) {
+            storage.setMonthlySegments(true);
+        } else if (Arrays.asList(args).contains(MONTHLY_SEGMENTS_FLAG)) {
+            storage.setMonthlySegments(false);
+        }
+        if (Arrays.asList(args).contains(LAZY_LOAD_FLAG)) {
+            storage.setLazyLoad(Storage.DEFAULT_LAZY_WINDOW_DAYS, Storage.DEFAULT_LAZY_LOAD_THRESHOLD);
+        }
+        if (migrateTo != null) {
+            int entries = storage.migrate(migrateTo).size();
+            Ui.showMessage("Data file (" + entries + " entries) is in "
+                    + migrateTo.name().toLowerCase(Locale.ROOT) + " format.");
+            return;
+        }
+        if (Arrays.asList(args).contains(WRITE_BEHIND_FLAG)) {
+            storage.startWriteBehind();
+        }
+        CommandMetrics metrics = new CommandMetrics();
+        try {
+            if (batchFile != null) {
+                new Mama(storage, metrics).runBatch(Paths.get(batchFile), checkpointEvery);
+            } else {
+                new Mama(storage, metrics).run(); // Create instance and run
+            }
+        } finally {
+            if (statsFile != null) {
+                dumpStats(Paths.get(statsFile), metrics, storage);
+            }
+        }
     }
 }
@@ -113,10 +113,7 @@ public class AddMealCommand implements Command {
             storage.save(list);
         }
 
-        int totalCal = list.asList().stream()
-                .filter(e -> e.type().equals("MEAL"))
-                .mapToInt(e -> ((MealEntry) e).getCalories())
-                .sum();
+        int totalCal = list.rollups().overall().calories();
 
         // Calculate difference from goal
         Integer goal = (storage != null) ? storage.loadGoal() : null;
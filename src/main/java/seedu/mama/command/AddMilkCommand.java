@@ -80,17 +80,14 @@ public class AddMilkCommand implements Command {
         // Confirms that milkVolume is greater than 0
         assert this.milkVolume > 0 : "The milkVolume must be greater than 0!";
 
-        // increment the total milk volume everytime
-        MilkEntry.addTotalMilkVol(milkVolume);
-
         Entry newMilk = new MilkEntry(milkVolume + "ml");
         list.add(newMilk);
         if (storage != null) {
             storage.save(list);
         }
 
-        LOG.log(Level.INFO, "AddMilkCommand successfully executed, adding: " + milkVolume + "ml");
+        LOG.log(Level.INFO, () -> "AddMilkCommand successfully executed, adding: " + milkVolume + "ml");
         return new CommandResult("Breast Milk Pumped: " + newMilk.toListLine() +
-                "\n" + MilkEntry.toTotalMilk());
+                "\n" + MilkEntry.toTotalMilk(list.rollups().overall().milkMl()));
     }
 }
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.logging.Logger;
 
 import seedu.mama.model.EntryList;
+import seedu.mama.model.EntryType;
 import seedu.mama.model.WorkoutGoalQueries;
 import seedu.mama.model.WorkoutEntry;
 import seedu.mama.model.WorkoutGoalEntry;
@@ -51,7 +52,7 @@ public final class AddWorkoutCommand implements Command {
         this.workoutType = workoutType;
         this.duration = duration;
         this.feel = feel;
-        logger.fine("AddWorkoutCommand created: type=" + workoutType
+        logger.fine(() -> "AddWorkoutCommand created: type=" + workoutType
                 + ", duration=" + duration + ", feel=" + feel);
     }
 
@@ -65,7 +66,7 @@ public final class AddWorkoutCommand implements Command {
      * @throws CommandException if segments are missing, repeated, or values are invalid
      */
     public static AddWorkoutCommand fromInput(String input) throws CommandException {
-        logger.fine("Parsing AddWorkoutCommand from input: " + input);
+        logger.fine(() -> "Parsing AddWorkoutCommand from input: " + input);
         String after = input.substring("workout".length()).trim();
         if (after.isEmpty()) {
             throw new CommandException("Workout type cannot be empty.\nUsage: workout TYPE /dur DURATION /feel FEEL");
@@ -161,7 +162,7 @@ public final class AddWorkoutCommand implements Command {
             throw new CommandException("Feel rating must be between 1 and 5.");
         }
 
-        logger.info("Parsed AddWorkoutCommand: type=" + type + ", duration=" + duration + ", feel=" + feel);
+        logger.info(() -> "Parsed AddWorkoutCommand: type=" + type + ", duration=" + duration + ", feel=" + feel);
         return new AddWorkoutCommand(type, duration, feel);
     }
 
@@ -176,7 +177,8 @@ public final class AddWorkoutCommand implements Command {
      */
     @Override
     public CommandResult execute(EntryList list, Storage storage) throws CommandException {
-        logger.info("Executing AddWorkoutCommand: type=" + workoutType + ", duration=" + duration + ", feel=" + feel);
+        logger.info(() -> "Executing AddWorkoutCommand: type=" + workoutType + ", duration=" + duration
+                + ", feel=" + feel);
 
         WorkoutEntry entry = new WorkoutEntry(workoutType, duration, feel);
         list.add(entry);
@@ -190,11 +192,11 @@ public final class AddWorkoutCommand implements Command {
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime weekStart = DateTimeUtil.weekStartMonday(now);
-        WorkoutGoalEntry goal = WorkoutGoalQueries.currentWeekGoal(list.asList(), weekStart);
-        int weekSoFar = WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list.asList(), weekStart);
+        WorkoutGoalEntry goal = WorkoutGoalQueries.currentWeekGoal(list, weekStart);
+        int weekSoFar = WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list, weekStart);
         int remaining = (goal == null) ? 0 : Math.max(0, goal.getMinutesPerWeek() - weekSoFar);
 
-        logger.fine("Goal snapshot: goalMinutes=" + (goal == null ? null : goal.getMinutesPerWeek())
+        logger.fine(() -> "Goal snapshot: goalMinutes=" + (goal == null ? null : goal.getMinutesPerWeek())
                 + ", weekSoFar=" + weekSoFar + ", remaining=" + remaining);
 
         StringBuilder sb = new StringBuilder();
@@ -214,10 +216,8 @@ public final class AddWorkoutCommand implements Command {
             }
         }
 
-        long workoutCount = list.asList().stream()
-                .filter(e -> "WORKOUT".equals(e.type()))
-                .count();
-        logger.info("Workout added successfully. New lifetime total: " + workoutCount);
+        long workoutCount = list.countOfType(EntryType.WORKOUT);
+        logger.info(() -> "Workout added successfully. New lifetime total: " + workoutCount);
 
         sb.append("Great job Mama! You now have a lifetime total of ")
                 .append(workoutCount)
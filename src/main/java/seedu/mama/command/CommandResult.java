@@ -22,6 +22,11 @@ public final class CommandResult {
      */
     private final boolean isExit;
 
+    /**
+     * Flag indicating that the command was rejected (unknown keyword or invalid arguments).
+     */
+    private final boolean isError;
+
     /**
      * Constructs a {@code CommandResult} with the specified feedback message
      * and a default {@code isExit = false}.
@@ -41,8 +46,24 @@ public final class CommandResult {
      *                       {@code false} otherwise.
      */
     public CommandResult(String feedbackToUser, boolean isExit) {
+        this(feedbackToUser, isExit, false);
+    }
+
+    private CommandResult(String feedbackToUser, boolean isExit, boolean isError) {
         this.feedbackToUser = Objects.requireNonNull(feedbackToUser, "feedbackToUser");
         this.isExit = isExit;
+        this.isError = isError;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} for a command that was rejected, e.g. an unknown
+     * keyword or invalid arguments, with the message explaining why.
+     *
+     * @param feedbackToUser Error message to show to the user.
+     * @return A result whose {@link #isError()} is {@code true}.
+     */
+    public static CommandResult error(String feedbackToUser) {
+        return new CommandResult(feedbackToUser, false, true);
     }
 
     /**
@@ -63,6 +84,15 @@ public final class CommandResult {
         return isExit;
     }
 
+    /**
+     * Returns whether the command was rejected instead of carried out.
+     *
+     * @return {@code true} if this result reports an error, {@code false} otherwise.
+     */
+    public boolean isError() {
+        return isError;
+    }
+
     /**
      * Returns a string representation of this {@code CommandResult}
      * for debugging purposes.
@@ -71,6 +101,7 @@ public final class CommandResult {
      */
     @Override
     public String toString() {
-        return "CommandResult{feedbackToUser='" + feedbackToUser + "', isExit=" + isExit + "}";
+        return "CommandResult{feedbackToUser='" + feedbackToUser + "', isExit=" + isExit + ", isError=" + isError
+                + "}";
     }
 }
@@ -23,6 +23,7 @@ public enum CommandType {
     WORKOUT_GOAL_VIEW("workout goal"),
     CALORIE_GOAL_SET("calorie goal <calories>"),
     CALORIE_GOAL_VIEW("calorie goal"),
+    STATS("stats"),
     BYE("bye");
 
     private final String usage;
@@ -2,6 +2,7 @@ package seedu.mama.command;
 
 import seedu.mama.model.Entry;
 import seedu.mama.model.EntryList;
+import seedu.mama.parser.CommandInput;
 import seedu.mama.storage.Storage;
 
 import java.util.Objects;
@@ -51,26 +52,34 @@ public class DeleteCommand implements Command {
      * @return a {@code DeleteCommand} if arguments are valid; otherwise a command that prints usage
      */
     public static Command fromInput(String trimmed) {
-        String[] parts = trimmed.split("\\s+", 2);
+        return fromInput(CommandInput.of(trimmed));
+    }
 
-        if (parts.length < 2 || parts[1].isBlank()) {
-            return (l, s) -> new CommandResult(withUsage("Missing index."));
+    /**
+     * Same as {@link #fromInput(String)}, for input the {@link seedu.mama.parser.Parser} has already tokenized.
+     *
+     * @param in tokenized user input, e.g. {@code "delete 3"}
+     * @return a {@code DeleteCommand} if arguments are valid; otherwise a command that prints usage
+     */
+    public static Command fromInput(CommandInput in) {
+        if (in.tokenCount() < 2) {
+            return (l, s) -> CommandResult.error(withUsage("Missing index."));
         }
 
-        String arg = parts[1].trim();
+        String arg = in.restFrom(1);
 
         if (!arg.matches("\\d+")) {
-            return (l, s) -> new CommandResult(withUsage("Index must be a positive whole number."));
+            return (l, s) -> CommandResult.error(withUsage("Index must be a positive whole number."));
         }
 
         try {
             int idx = Integer.parseInt(arg);
             if (idx <= 0) {
-                return (l, s) -> new CommandResult(withUsage("Index must be greater than 0."));
+                return (l, s) -> CommandResult.error(withUsage("Index must be greater than 0."));
             }
             return new DeleteCommand(idx);
         } catch (NumberFormatException e) {
-            return (l, s) -> new CommandResult(withUsage("Index is too large."));
+            return (l, s) -> CommandResult.error(withUsage("Index is too large."));
         }
     }
 
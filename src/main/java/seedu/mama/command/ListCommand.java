@@ -2,6 +2,7 @@ package seedu.mama.command;
 
 import seedu.mama.model.Entry;
 import seedu.mama.model.EntryList;
+import seedu.mama.model.EntryType;
 import seedu.mama.storage.Storage;
 
 import java.util.List;
@@ -16,6 +17,7 @@ public class ListCommand implements Command {
     private static final Logger LOGGER = Logger.getLogger(ListCommand.class.getName());
 
     private final Predicate<Entry> predicate; // null => show all
+    private final EntryType entryType; // non-null => list from the type bucket
     private final String displayType;
 
     /**
@@ -23,6 +25,7 @@ public class ListCommand implements Command {
      */
     public ListCommand() {
         this.predicate = null;   // persist "show all"
+        this.entryType = null;
         this.displayType = "all";
     }
 
@@ -32,6 +35,18 @@ public class ListCommand implements Command {
     public ListCommand(Predicate<Entry> predicate, String displayType) {
         assert displayType != null && !displayType.isEmpty() : "Display type cannot be null or empty";
         this.predicate = predicate; // can be non-null
+        this.entryType = null;
+        this.displayType = displayType;
+    }
+
+    /**
+     * Shows entries of the given type, served from EntryList's per-type index.
+     */
+    public ListCommand(EntryType entryType, String displayType) {
+        assert entryType != null : "Entry type cannot be null";
+        assert displayType != null && !displayType.isEmpty() : "Display type cannot be null or empty";
+        this.predicate = null;
+        this.entryType = entryType;
         this.displayType = displayType;
     }
 
@@ -40,17 +55,21 @@ public class ListCommand implements Command {
         assert entries != null : "The EntryList object passed to ListCommand should not be null.";
         assert storage != null : "The Storage object passed to ListCommand should not be null.";
 
-        LOGGER.log(Level.INFO, "Executing ListCommand with filter for: " + displayType);
+        LOGGER.log(Level.INFO, () -> "Executing ListCommand with filter for: " + displayType);
 
         // Persist the filter as the "last shown" view.
-        entries.setFilter(predicate);
+        if (entryType != null) {
+            entries.setFilter(entryType);
+        } else {
+            entries.setFilter(predicate);
+        }
 
         // Build the message from the persisted shown view to match indices the user sees.
-        List<Entry> shown = entries.getShownSnapshot();
+        List<Entry> shown = entries.shownView();
         String headerType = displayType.equals("all") ? "entries" : displayType + " entries";
 
         if (shown.isEmpty()) {
-            LOGGER.log(Level.INFO, "No entries found for type: " + displayType);
+            LOGGER.log(Level.INFO, () -> "No entries found for type: " + displayType);
             return new CommandResult("No " + headerType + " found.");
         }
 
@@ -62,7 +81,7 @@ public class ListCommand implements Command {
                     .append(shown.get(i).toListLine());
         }
 
-        LOGGER.log(Level.INFO, "Successfully listed " + shown.size() + " entries of type: " + displayType);
+        LOGGER.log(Level.INFO, () -> "Successfully listed " + shown.size() + " entries of type: " + displayType);
         return new CommandResult(sb.toString().trim());
     }
 }
@@ -17,9 +17,9 @@ public class SetCalorieGoalCommand implements Command {
         }
 
         if (calorieGoal < 0) {
-            return new CommandResult("Calorie goal cannot be less than 0!");
+            return CommandResult.error("Calorie goal cannot be less than 0!");
         } else if (calorieGoal > 10000) {
-            return new CommandResult("Calorie goal too high");
+            return CommandResult.error("Calorie goal too high");
         }
 
         storage.saveGoal(calorieGoal);
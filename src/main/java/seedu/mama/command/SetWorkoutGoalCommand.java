@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import seedu.mama.model.EntryList;
 import seedu.mama.model.WorkoutGoalEntry;
+import seedu.mama.parser.CommandInput;
 import seedu.mama.storage.Storage;
 
 /**
@@ -42,23 +43,34 @@ public class SetWorkoutGoalCommand implements Command {
      * @throws CommandException if usage is incorrect, value is non-positive, or not a whole number
      */
     public static SetWorkoutGoalCommand fromInput(String input) throws CommandException {
-        logger.fine("Parsing SetWorkoutGoalCommand from input: " + input);
+        return fromInput(CommandInput.of(input));
+    }
+
+    /**
+     * Same as {@link #fromInput(String)}, for input the {@link seedu.mama.parser.Parser} has already tokenized.
+     *
+     * @param in tokenized user input
+     * @return a SetWorkoutGoalCommand with the parsed minutes
+     * @throws CommandException if usage is incorrect, value is non-positive, or not a whole number
+     */
+    public static SetWorkoutGoalCommand fromInput(CommandInput in) throws CommandException {
+        logger.fine(() -> "Parsing SetWorkoutGoalCommand from input: " + in.text());
         // Expected: workout goal <minutes>
-        String[] parts = input.split("\\s+");
-        if (parts.length != 3) {
-            logger.warning("Parse error: expected 3 tokens, got " + parts.length);
+        if (in.tokenCount() != 3) {
+            logger.warning("Parse error: expected 3 tokens, got " + in.tokenCount());
             throw new CommandException("Usage: workout goal <minutes>");
         }
+        String minutesToken = in.token(2);
         try {
-            int minutes = Integer.parseInt(parts[2]);
+            int minutes = Integer.parseInt(minutesToken);
             if (minutes <= 0) {
                 logger.warning("Parse error: non-positive minutes=" + minutes);
                 throw new CommandException("Workout goal must be a positive number of minutes.");
             }
-            logger.info("Parsed SetWorkoutGoalCommand: minutes=" + minutes);
+            logger.info(() -> "Parsed SetWorkoutGoalCommand: minutes=" + minutes);
             return new SetWorkoutGoalCommand(minutes);
         } catch (NumberFormatException e) {
-            logger.warning("Parse error: non-numeric minutes token: " + parts[2]);
+            logger.warning("Parse error: non-numeric minutes token: " + minutesToken);
             throw new CommandException("Workout goal must be specified as whole number minutes.");
         }
     }
@@ -73,7 +85,7 @@ public class SetWorkoutGoalCommand implements Command {
      */
     @Override
     public CommandResult execute(EntryList list, Storage storage) throws CommandException {
-        logger.info("Executing SetWorkoutGoalCommand: minutes=" + minutesPerWeek);
+        logger.info(() -> "Executing SetWorkoutGoalCommand: minutes=" + minutesPerWeek);
         if (storage == null) {
             logger.severe("Storage is null in SetWorkoutGoalCommand.execute");
             throw new CommandException("Storage not initialized properly.");
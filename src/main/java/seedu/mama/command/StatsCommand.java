@@ -0,0 +1,32 @@
+package seedu.mama.command;
+
+import seedu.mama.metrics.CommandMetrics;
+import seedu.mama.metrics.MetricsReport;
+import seedu.mama.model.EntryList;
+import seedu.mama.storage.Storage;
+
+/**
+ * Shows how long each command type has taken so far (p50/p95/p99 and totals) together with the
+ * storage I/O counters.
+ */
+public class StatsCommand implements Command {
+    public static final String COMMAND_WORD = "stats";
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a command that reports no command timings, for input parsed without the application's metrics.
+     */
+    public StatsCommand() {
+        this(new CommandMetrics());
+    }
+
+    public StatsCommand(CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(EntryList list, Storage storage) {
+        return new CommandResult(MetricsReport.format(metrics, storage == null ? null : storage.metrics()));
+    }
+}
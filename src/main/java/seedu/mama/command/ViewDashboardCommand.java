@@ -5,6 +5,10 @@ import seedu.mama.model.EntryList;
 import seedu.mama.storage.Storage;
 import seedu.mama.ui.DashboardFormatter;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -13,6 +17,23 @@ import java.util.logging.Logger;
  */
 public class ViewDashboardCommand implements Command {
     private static final Logger LOGGER = Logger.getLogger(ViewDashboardCommand.class.getName());
+    private static final String CACHE_KEY = "dashboard";
+
+    private final Clock clock;
+
+    /**
+     * Creates a dashboard command that reads the system clock.
+     */
+    public ViewDashboardCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a dashboard command that reads {@code clock}.
+     */
+    public ViewDashboardCommand(Clock clock) {
+        this.clock = clock;
+    }
 
     @Override
     public CommandResult execute(EntryList list, Storage storage) {
@@ -22,12 +43,18 @@ public class ViewDashboardCommand implements Command {
 
         LOGGER.log(Level.INFO, "Executing ViewDashboardCommand.");
 
-        // 1. Let the model layer gather and calculate data.
-        DashboardSummary summary = new DashboardSummary(list, storage);
+        // Pin one instant so the cache bucket and the summary agree on what "today" is.
+        Clock now = Clock.fixed(clock.instant(), clock.getZone());
+        List<Object> bucket = Arrays.asList(LocalDate.now(now), storage.loadGoal());
+
+        String dashboardText = list.cached(CACHE_KEY, bucket, () -> {
+            // 1. Let the model layer gather and calculate data.
+            DashboardSummary summary = new DashboardSummary(list, storage, now);
 
-        // 2. Let the UI layer format the data for display.
-        DashboardFormatter formatter = new DashboardFormatter();
-        String dashboardText = formatter.format(summary);
+            // 2. Let the UI layer format the data for display.
+            DashboardFormatter formatter = new DashboardFormatter();
+            return formatter.format(summary);
+        });
 
         LOGGER.log(Level.INFO, "ViewDashboardCommand executed successfully.");
         // 3. Return the result to be printed by the main loop.
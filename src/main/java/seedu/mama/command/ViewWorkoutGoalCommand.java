@@ -1,12 +1,12 @@
 package seedu.mama.command;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
-import seedu.mama.model.Entry;
 import seedu.mama.model.EntryList;
 import seedu.mama.model.WorkoutEntry;
 import seedu.mama.model.WorkoutGoalEntry;
@@ -26,6 +26,23 @@ public final class ViewWorkoutGoalCommand implements Command {
     private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
 
     private static final Logger logger = Logger.getLogger(ViewWorkoutGoalCommand.class.getName());
+    private static final String CACHE_KEY = "workout goal";
+
+    private final Clock clock;
+
+    /**
+     * Creates a command that reads the current week off the system clock.
+     */
+    public ViewWorkoutGoalCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a command that reads the current week off {@code clock}.
+     */
+    public ViewWorkoutGoalCommand(Clock clock) {
+        this.clock = clock;
+    }
 
     /**
      * Builds a summary of this week's workout goal and workouts, and returns it as CommandResult.
@@ -43,29 +60,29 @@ public final class ViewWorkoutGoalCommand implements Command {
      */
     @Override
     public CommandResult execute(EntryList list, Storage storage) throws CommandException {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
         LocalDateTime weekStart = DateTimeUtil.weekStartMonday(now);
-        logger.info("ViewWorkoutGoalCommand: executing for week starting " + weekStart.format(FMT));
+        logger.info(() -> "ViewWorkoutGoalCommand: executing for week starting " + weekStart.format(FMT));
+
+        // the summary only depends on this week's entries, so reuse it until the list changes or the week rolls over
+        return list.cached(CACHE_KEY, weekStart, () -> summarize(list, weekStart));
+    }
 
+    private CommandResult summarize(EntryList list, LocalDateTime weekStart) {
         // 1) Find this week's goal (latest goal set within [Mon..Sun))
-        WorkoutGoalEntry goal = WorkoutGoalQueries.currentWeekGoal(list.asList(), weekStart);
-        logger.fine("Weekly goal lookup: " + (goal == null ? "none" : (goal.getMinutesPerWeek() + " mins/week")));
+        WorkoutGoalEntry goal = WorkoutGoalQueries.currentWeekGoal(list, weekStart);
+        logger.fine(() -> "Weekly goal lookup: " + (goal == null ? "none" : (goal.getMinutesPerWeek() + " mins/week")));
 
         // 2) Collect this week's workouts and total minutes
         int minutesThisWeek = 0;
         List<String> thisWeeksWorkouts = new ArrayList<>();
 
-        for (Entry e : list.asList()) {
-            if (e instanceof WorkoutEntry w) {
-                LocalDateTime ts = w.getTimestamp(); // <-- use real timestamp
-                if (DateTimeUtil.inSameWeek(ts, weekStart)) {
-                    minutesThisWeek += w.getDuration();
-                    thisWeeksWorkouts.add(
-                            "[Workout] " + w.description() +
-                                    " (" + w.getDuration() + " mins) (" + w.timestampString() + ")"
-                    );
-                }
-            }
+        for (WorkoutEntry w : list.entriesBetween(weekStart, weekStart.plusDays(7), WorkoutEntry.class)) {
+            minutesThisWeek += w.getDuration();
+            thisWeeksWorkouts.add(
+                    "[Workout] " + w.description() +
+                            " (" + w.getDuration() + " mins) (" + w.timestampString() + ")"
+            );
         }
         logger.fine("Completed " + thisWeeksWorkouts.size() + " workouts this week; total minutes=" + minutesThisWeek);
 
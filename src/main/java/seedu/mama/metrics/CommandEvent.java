@@ -0,0 +1,83 @@
+package seedu.mama.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import seedu.mama.command.CommandType;
+
+/**
+ * JFR event for one user command, from reading the line to showing the result.
+ * <p>
+ * The event's duration covers the whole command; {@link #parsed}, {@link #executed} and
+ * {@link #rendered} mark the end of each phase so a recording shows which one was slow.
+ */
+@Name("seedu.mama.Command")
+@Label("Command")
+@Category({"Mama", "Command"})
+@Description("A command parsed, executed and rendered by Mama")
+@StackTrace(false)
+public final class CommandEvent extends Event {
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseTime;
+
+    @Label("Execute Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeTime;
+
+    @Label("Render Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long renderTime;
+
+    @Label("Succeeded")
+    private boolean success;
+
+    private transient long mark;
+
+    /**
+     * Starts timing; call before parsing the line.
+     */
+    public void start() {
+        begin();
+        mark = System.nanoTime();
+    }
+
+    public void parsed(CommandType type) {
+        commandType = type == null ? "UNKNOWN" : type.name();
+        parseTime = lap();
+    }
+
+    public void executed() {
+        executeTime = lap();
+        success = true;
+    }
+
+    public void rendered() {
+        renderTime = lap();
+    }
+
+    /**
+     * Ends the event and records it if JFR is collecting it.
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - mark;
+        mark = now;
+        return elapsed;
+    }
+}
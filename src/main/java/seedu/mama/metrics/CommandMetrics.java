@@ -0,0 +1,126 @@
+package seedu.mama.metrics;
+
+import seedu.mama.command.Command;
+import seedu.mama.command.CommandException;
+import seedu.mama.command.CommandResult;
+import seedu.mama.command.CommandType;
+import seedu.mama.model.EntryList;
+import seedu.mama.storage.Storage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latency and allocation of {@link Command#execute} per {@link CommandType}.
+ * <p>
+ * The REPL and batch runner execute commands through {@link #execute}, which times the call and,
+ * where the JVM supports it, measures the bytes the calling thread allocated during it. Commands
+ * whose keyword was not recognised are recorded under a null type. {@code Mama} creates one instance
+ * per run and hands it to both and to the {@code stats} command.
+ */
+public final class CommandMetrics {
+    private final Map<CommandType, Stat> byType = new EnumMap<>(CommandType.class);
+    private final Stat unknown = new Stat();
+    private final com.sun.management.ThreadMXBean allocations = allocationBean();
+
+    /**
+     * Executes {@code command} and records its latency, allocation and outcome under {@code type}.
+     */
+    public CommandResult execute(CommandType type, Command command, EntryList list, Storage storage)
+            throws CommandException {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            CommandResult result = command.execute(list, storage);
+            ok = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+            statFor(type).record(elapsed, allocated, ok);
+        }
+    }
+
+    /**
+     * Recorded stats for {@code type} (null for unrecognised commands), or null if none ran.
+     */
+    public synchronized Stat get(CommandType type) {
+        if (type == null) {
+            return unknown.histogram.count() == 0 ? null : unknown;
+        }
+        return byType.get(type);
+    }
+
+    /**
+     * Copy of the stats recorded so far, by command type.
+     */
+    public synchronized Map<CommandType, Stat> snapshot() {
+        return new EnumMap<>(byType);
+    }
+
+    private synchronized Stat statFor(CommandType type) {
+        if (type == null) {
+            return unknown;
+        }
+        return byType.computeIfAbsent(type, t -> new Stat());
+    }
+
+    private long allocatedBytes() {
+        if (allocations == null) {
+            return -1;
+        }
+        return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                    && sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean;
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // not a HotSpot-compatible JVM; allocation stays unmeasured
+        }
+        return null;
+    }
+
+    /**
+     * Stats of one command type.
+     */
+    public static final class Stat {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long failures;
+        private long allocatedBytes;
+        private long allocationSamples;
+
+        private synchronized void record(long nanos, long allocated, boolean ok) {
+            histogram.record(nanos);
+            if (!ok) {
+                failures++;
+            }
+            if (allocated >= 0) {
+                allocatedBytes += allocated;
+                allocationSamples++;
+            }
+        }
+
+        public LatencyHistogram latency() {
+            return histogram;
+        }
+
+        public synchronized long failures() {
+            return failures;
+        }
+
+        /**
+         * Mean bytes allocated per execution, or -1 if allocation could not be measured.
+         */
+        public synchronized long meanAllocatedBytes() {
+            return allocationSamples == 0 ? -1 : allocatedBytes / allocationSamples;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.mama.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for an add to or delete from an {@code EntryList}, including the index upkeep it does.
+ */
+@Name("seedu.mama.EntryListMutation")
+@Label("Entry List Mutation")
+@Category({"Mama", "Model"})
+@Description("An entry added to or deleted from the entry list")
+@StackTrace(false)
+public final class EntryListEvent extends Event {
+    public static final String ADD = "add";
+    public static final String DELETE = "delete";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Entry Type")
+    public String entryType;
+
+    @Label("Index")
+    public int index;
+
+    @Label("Size After")
+    public int size;
+
+    public EntryListEvent(String operation) {
+        this.operation = operation;
+    }
+}
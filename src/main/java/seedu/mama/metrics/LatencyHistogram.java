@@ -0,0 +1,86 @@
+package seedu.mama.metrics;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds.
+ * <p>
+ * Values below 16 ns get a bucket each; above that every power of two is split into 8 linear
+ * sub-buckets, so a percentile is reported within 12.5% of the true value while the whole range
+ * of {@code long} fits in under 500 counters. Safe to record into from several threads.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - (SUB_BITS + 1)) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one duration; negative values are counted as 0.
+     */
+    public synchronized void record(long nanos) {
+        long v = Math.max(0, nanos);
+        counts[bucketOf(v)]++;
+        count++;
+        total += v;
+        max = Math.max(max, v);
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized long totalNanos() {
+        return total;
+    }
+
+    public synchronized long maxNanos() {
+        return max;
+    }
+
+    /**
+     * Upper bound of the bucket holding the {@code percentile}-th value (nearest rank), capped at the
+     * largest value seen; 0 if nothing was recorded.
+     *
+     * @param percentile value in [0, 100]
+     */
+    public synchronized long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in [0, 100]");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketOf(long v) {
+        if (v < LINEAR_LIMIT) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - (SUB_BITS + 1)) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BITS + 1;
+        int sub = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long next = (long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS);
+        return next < 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.mama.metrics;
+
+import seedu.mama.command.CommandType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Formats {@link CommandMetrics} and {@link StorageMetrics} as text, for the {@code stats} command
+ * and the {@code --stats-file} dump on exit.
+ */
+public final class MetricsReport {
+
+    private MetricsReport() {
+    }
+
+    /**
+     * Per-command p50/p95/p99 latency, totals and allocation, followed by the storage counters.
+     *
+     * @param storage storage counters, or null to leave them out
+     */
+    public static String format(CommandMetrics commands, StorageMetrics storage) {
+        StringBuilder sb = new StringBuilder("Command latency (ms):\n");
+        Map<CommandType, CommandMetrics.Stat> stats = commands.snapshot();
+        if (stats.isEmpty() && commands.get(null) == null) {
+            sb.append("  (no commands run yet)\n");
+        }
+        for (Map.Entry<CommandType, CommandMetrics.Stat> e : stats.entrySet()) {
+            appendCommand(sb, e.getKey().name(), e.getValue());
+        }
+        CommandMetrics.Stat unknown = commands.get(null);
+        if (unknown != null) {
+            appendCommand(sb, "UNKNOWN", unknown);
+        }
+
+        if (storage != null) {
+            sb.append("Storage:\n");
+            sb.append(String.format("  bytes read %d, bytes written %d, lines parsed %d%n",
+                    storage.bytesRead(), storage.bytesWritten(), storage.linesParsed()));
+            LatencyHistogram saves = storage.saves();
+            sb.append(String.format("  writes %d, %s%n", saves.count(), percentiles(saves)));
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    /**
+     * Writes {@link #format} to {@code file}, replacing it.
+     */
+    public static void write(Path file, CommandMetrics commands, StorageMetrics storage) throws IOException {
+        Files.writeString(file, format(commands, storage) + System.lineSeparator(), StandardCharsets.UTF_8);
+    }
+
+    private static void appendCommand(StringBuilder sb, String name, CommandMetrics.Stat stat) {
+        LatencyHistogram h = stat.latency();
+        sb.append(String.format("  %-18s n=%d, %s", name, h.count(), percentiles(h)));
+        if (stat.failures() > 0) {
+            sb.append(", failed=").append(stat.failures());
+        }
+        long alloc = stat.meanAllocatedBytes();
+        if (alloc >= 0) {
+            sb.append(String.format(", alloc=%.1f KB/cmd", alloc / 1024.0));
+        }
+        sb.append('\n');
+    }
+
+    private static String percentiles(LatencyHistogram h) {
+        return String.format("p50=%.3f p95=%.3f p99=%.3f total=%.3f",
+                ms(h.percentile(50)), ms(h.percentile(95)), ms(h.percentile(99)), ms(h.totalNanos()));
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.mama.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one {@code Storage} operation that touches the disk: loading the list, writing a
+ * snapshot or journal batch, or updating the calorie goal.
+ */
+@Name("seedu.mama.StorageIO")
+@Label("Storage I/O")
+@Category({"Mama", "Storage"})
+@Description("A load or save of the Mama data file")
+@StackTrace(false)
+public final class StorageEvent extends Event {
+    /**
+     * Operation names used in {@link #operation}.
+     */
+    public static final String LOAD = "load";
+    public static final String SAVE = "save";
+    public static final String SAVE_GOAL = "saveGoal";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+    @Label("Lines")
+    @Description("Lines parsed when loading, lines written when saving")
+    public long lines;
+
+    @Label("Bad Lines Skipped")
+    public long badLines;
+
+    public StorageEvent(String operation) {
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.mama.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * I/O counters of one {@code Storage}: bytes read and written, lines parsed into entries, and how
+ * long each write to disk took. Updated from both the caller's thread and the write-behind thread.
+ */
+public final class StorageMetrics {
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong linesParsed = new AtomicLong();
+    private final LatencyHistogram saves = new LatencyHistogram();
+
+    public void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    public void addBytesWritten(long bytes) {
+        bytesWritten.addAndGet(bytes);
+    }
+
+    public void addLinesParsed(long lines) {
+        linesParsed.addAndGet(lines);
+    }
+
+    public void recordSave(long nanos) {
+        saves.record(nanos);
+    }
+
+    public long bytesRead() {
+        return bytesRead.get();
+    }
+
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public long linesParsed() {
+        return linesParsed.get();
+    }
+
+    /**
+     * Durations of the writes (snapshot, journal append or goal update) that reached the disk.
+     */
+    public LatencyHistogram saves() {
+        return saves;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.mama.model;
 
-import seedu.mama.util.DateTimeUtil;
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -8,6 +10,8 @@ import java.util.List;
 import java.util.logging.Logger;
 
 public class BodyMeasurementEntry extends TimestampedEntry {
+    static final byte BINARY_TAG = 7;
+
     private static final Logger LOG = Logger.getLogger(BodyMeasurementEntry.class.getName());
 
     private final int waistCm;
@@ -87,20 +91,41 @@ public class BodyMeasurementEntry extends TimestampedEntry {
      * STRICT: MEASURE|waist|hips|chestOr-|thighOr-|armOr-|timestamp
      */
     public static BodyMeasurementEntry fromStorage(String line) {
-        String[] p = line.split("\\|", -1);
-        if (p.length != 7 || !"MEASURE".equals(p[0])) {
-            throw new IllegalArgumentException("Bad MEASURE line (expect 7 parts): " + line);
+        return fromStorage(new FieldReader(line));
+    }
+
+    static BodyMeasurementEntry fromStorage(FieldReader r) {
+        if (r.fieldCount() != 7 || !r.peekIs("MEASURE")) {
+            throw new IllegalArgumentException("Bad MEASURE line (expect 7 parts): " + r.line());
         }
-        int waist = Integer.parseInt(p[1]);
-        int hips = Integer.parseInt(p[2]);
-        Integer chest = parseNullable(p[3]);
-        Integer thigh = parseNullable(p[4]);
-        Integer arm = parseNullable(p[5]);
-        LocalDateTime ts = DateTimeUtil.parse(p[6].trim());
+        r.skip();
+        int waist = r.nextInt();
+        int hips = r.nextInt();
+        Integer chest = r.nextNullableInt();
+        Integer thigh = r.nextNullableInt();
+        Integer arm = r.nextNullableInt();
+        LocalDateTime ts = r.nextTimestamp();
         return new BodyMeasurementEntry(waist, hips, chest, thigh, arm, ts);
     }
 
-    private static Integer parseNullable(String s) {
-        return (s == null || s.isEmpty() || "-".equals(s)) ? null : Integer.valueOf(s);
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeInt(waistCm);
+        out.writeInt(hipsCm);
+        out.writeOptionalInt(chestCm);
+        out.writeOptionalInt(thighCm);
+        out.writeOptionalInt(armCm);
+        out.writeTimestamp(timestamp());
+    }
+
+    static BodyMeasurementEntry fromBinary(BinaryReader in) {
+        int waist = in.readInt();
+        int hips = in.readInt();
+        Integer chest = in.readOptionalInt();
+        Integer thigh = in.readOptionalInt();
+        Integer arm = in.readOptionalInt();
+        LocalDateTime ts = in.readTimestamp();
+        return new BodyMeasurementEntry(waist, hips, chest, thigh, arm, ts);
     }
 }
@@ -1,6 +1,12 @@
 package seedu.mama.model;
 
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
+
 public class CalorieGoalEntry extends Entry{
+    static final byte BINARY_TAG = 8;
+
     private final int calorieGoal;
 
     public CalorieGoalEntry(int calorieGoal) {
@@ -8,14 +14,32 @@ public class CalorieGoalEntry extends Entry{
         this.calorieGoal = calorieGoal;
     }
 
+    public int getCalorieGoal() {
+        return calorieGoal;
+    }
+
     @Override
     public String toStorageString() {
         return "CALORIE_GOAL|" + calorieGoal;
     }
 
     public static CalorieGoalEntry fromStorage(String line) {
-        String[] parts = line.split("\\|", 2);
-        int goal = (parts.length > 1) ? Integer.parseInt(parts[1]) : 0;
+        return fromStorage(new FieldReader(line));
+    }
+
+    static CalorieGoalEntry fromStorage(FieldReader r) {
+        r.skip();
+        int goal = r.hasNext() ? Integer.parseInt(r.rest()) : 0;
         return new CalorieGoalEntry(goal);
     }
+
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeInt(calorieGoal);
+    }
+
+    static CalorieGoalEntry fromBinary(BinaryReader in) {
+        return new CalorieGoalEntry(in.readInt());
+    }
 }
@@ -25,14 +25,13 @@ public final class CalorieGoalQueries {
                 return new CommandResult("No calorie goal set yet. Use: calorie goal <calories>");
             }
 
-            int totalCal = list.asList().stream()
-                    .filter(e -> e.type().equals("MEAL"))
-                    .mapToInt(e -> ((seedu.mama.model.MealEntry) e).getCalories())
-                    .sum();
-
-            String progress = "Your current calorie goal is: " + goalValue + " kcal."
-                    + " | Progress: " + totalCal + " kcal logged.";
-            return new CommandResult(progress);
+            return list.cached("calorie goal", goalValue, () -> {
+                int totalCal = list.rollups().overall().calories();
+
+                String progress = "Your current calorie goal is: " + goalValue + " kcal."
+                        + " | Progress: " + totalCal + " kcal logged.";
+                return new CommandResult(progress);
+            });
         };
     }
 
@@ -0,0 +1,245 @@
+package seedu.mama.model;
+
+import java.time.LocalDate;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-day totals (calories, macros, milk, workout minutes) for one {@link EntryList}.
+ * <p>
+ * The owning list updates these on every add and delete, and loading replays every entry
+ * through {@link EntryList#add(Entry)}, so the totals are rebuilt on load for free. Readers
+ * get O(1) totals for a day and O(days) totals for a range instead of scanning entries.
+ */
+public final class DailyRollups {
+
+    private final NavigableMap<LocalDate, Totals> byDay = new TreeMap<>();
+    private final Totals overall = new Totals();
+    /**
+     * Told the earliest day a query covers (null for all of them) before it is answered.
+     */
+    private final Consumer<LocalDate> reach;
+    /**
+     * Totals of the entries the list was loaded without, or null if they are not known.
+     */
+    private final Supplier<Totals> unloaded;
+
+    DailyRollups(Consumer<LocalDate> reach, Supplier<Totals> unloaded) {
+        this.reach = reach;
+        this.unloaded = unloaded;
+    }
+
+    /**
+     * Totals for {@code day}; all zero if nothing was logged that day.
+     */
+    public Totals on(LocalDate day) {
+        reach.accept(day);
+        Totals t = byDay.get(day);
+        return t == null ? Totals.EMPTY : t;
+    }
+
+    /**
+     * Totals summed over the days in {@code [from, to)}.
+     */
+    public Totals between(LocalDate from, LocalDate to) {
+        Totals sum = new Totals();
+        if (from.isBefore(to)) {
+            reach.accept(from);
+            for (Totals t : byDay.subMap(from, true, to, false).values()) {
+                sum.merge(t);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Totals over every entry in the list, including entries without a timestamp. Entries still on
+     * disk are counted from their stored totals, and loaded only if those are not known.
+     */
+    public Totals overall() {
+        Totals rest = unloaded.get();
+        if (rest == null) {
+            reach.accept(null);
+            return overall;
+        }
+        if (rest.entries == 0) {
+            return overall;
+        }
+        Totals sum = new Totals();
+        sum.merge(overall);
+        sum.merge(rest);
+        return sum;
+    }
+
+    void add(Entry e) {
+        apply(e, 1);
+    }
+
+    void remove(Entry e) {
+        apply(e, -1);
+    }
+
+    private void apply(Entry e, int sign) {
+        if (!Totals.counts(e)) {
+            return;
+        }
+        overall.apply(e, sign);
+        if (!(e instanceof TimestampedEntry te)) {
+            return;
+        }
+        LocalDate day = te.timestamp().toLocalDate();
+        Totals t = byDay.computeIfAbsent(day, d -> new Totals());
+        t.apply(e, sign);
+        if (t.entries == 0) {
+            byDay.remove(day);
+        }
+    }
+
+    /**
+     * Running totals for a day, a range of days or the whole list.
+     */
+    public static final class Totals {
+        static final Totals EMPTY = new Totals();
+
+        private int entries;
+        private int calories;
+        private int protein;
+        private int carbs;
+        private int fat;
+        private int milkMl;
+        private int workoutMinutes;
+
+        private Totals() {
+        }
+
+        public int calories() {
+            return calories;
+        }
+
+        public int protein() {
+            return protein;
+        }
+
+        public int carbs() {
+            return carbs;
+        }
+
+        public int fat() {
+            return fat;
+        }
+
+        public int milkMl() {
+            return milkMl;
+        }
+
+        public int workoutMinutes() {
+            return workoutMinutes;
+        }
+
+        /**
+         * Totals over {@code entries}.
+         */
+        public static Totals of(Iterable<Entry> entries) {
+            Totals t = new Totals();
+            for (Entry e : entries) {
+                if (counts(e)) {
+                    t.apply(e, 1);
+                }
+            }
+            return t;
+        }
+
+        /**
+         * Sum of {@code a} and {@code b}, or null if either is null.
+         */
+        public static Totals sum(Totals a, Totals b) {
+            if (a == null || b == null) {
+                return null;
+            }
+            Totals t = new Totals();
+            t.merge(a);
+            t.merge(b);
+            return t;
+        }
+
+        /**
+         * These totals without {@code e}, which they must count.
+         */
+        public Totals without(Entry e) {
+            Totals t = new Totals();
+            t.merge(this);
+            if (counts(e)) {
+                t.apply(e, -1);
+            }
+            return t;
+        }
+
+        /**
+         * Converts these totals to their storage form, e.g. {@code 3,800,15,80,3,120,30}.
+         */
+        public String toStorageString() {
+            return entries + "," + calories + "," + protein + "," + carbs + "," + fat + "," + milkMl + ","
+                    + workoutMinutes;
+        }
+
+        /**
+         * Parses totals written by {@link #toStorageString()}.
+         *
+         * @throws IllegalArgumentException if {@code s} is not in that form
+         */
+        public static Totals fromStorageString(String s) {
+            String[] parts = s.split(",", -1);
+            if (parts.length != 7) {
+                throw new IllegalArgumentException("Bad totals: " + s);
+            }
+            Totals t = new Totals();
+            try {
+                t.entries = Integer.parseInt(parts[0]);
+                t.calories = Integer.parseInt(parts[1]);
+                t.protein = Integer.parseInt(parts[2]);
+                t.carbs = Integer.parseInt(parts[3]);
+                t.fat = Integer.parseInt(parts[4]);
+                t.milkMl = Integer.parseInt(parts[5]);
+                t.workoutMinutes = Integer.parseInt(parts[6]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad totals: " + s, e);
+            }
+            return t;
+        }
+
+        private static boolean counts(Entry e) {
+            return e instanceof MealEntry || e instanceof MilkEntry || e instanceof WorkoutEntry;
+        }
+
+        private void apply(Entry e, int sign) {
+            assert this != EMPTY : "EMPTY totals are shared and must not change";
+            entries += sign;
+            if (e instanceof MealEntry m) {
+                calories += sign * m.getCalories();
+                protein += sign * orZero(m.getProtein());
+                carbs += sign * orZero(m.getCarbs());
+                fat += sign * orZero(m.getFat());
+            } else if (e instanceof MilkEntry milk) {
+                milkMl += sign * milk.getVolumeMl();
+            } else if (e instanceof WorkoutEntry w) {
+                workoutMinutes += sign * w.getDuration();
+            }
+        }
+
+        private void merge(Totals other) {
+            entries += other.entries;
+            calories += other.calories;
+            protein += other.protein;
+            carbs += other.carbs;
+            fat += other.fat;
+            milkMl += other.milkMl;
+            workoutMinutes += other.workoutMinutes;
+        }
+
+        private static int orZero(Integer value) {
+            return value == null ? 0 : value;
+        }
+    }
+}
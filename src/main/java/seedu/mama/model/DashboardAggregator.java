@@ -0,0 +1,127 @@
+package seedu.mama.model;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Computes every dashboard metric from the daily and weekly rollups of an {@link EntryList}.
+ * <p>
+ * The clock is read once, so "today" and "this week" always agree. Each metric is an
+ * {@link Accumulator} registered before {@link #run(EntryList)}; the run looks up today's
+ * {@link DailyRollups.Totals} and this week's {@link WeeklyRollups.Week} once and hands both to every
+ * accumulator, so a new dashboard section adds an accumulator rather than another lookup or a scan.
+ */
+public final class DashboardAggregator {
+
+    /**
+     * One dashboard metric, computed from the totals of today and of the current week.
+     */
+    public interface Accumulator {
+        void accept(DailyRollups.Totals today, WeeklyRollups.Week week);
+    }
+
+    private final LocalDate today;
+    private final LocalDate weekStart;
+    private final List<Accumulator> accumulators = new ArrayList<>();
+
+    /**
+     * Creates an aggregator for the instant {@code clock} reads now.
+     */
+    public DashboardAggregator(Clock clock) {
+        this.today = LocalDate.now(clock);
+        this.weekStart = WeeklyRollups.weekOf(today);
+    }
+
+    public LocalDate today() {
+        return today;
+    }
+
+    public LocalDate weekStart() {
+        return weekStart;
+    }
+
+    /**
+     * Registers {@code accumulator} for the next {@link #run(EntryList)} and returns it.
+     */
+    public <A extends Accumulator> A add(A accumulator) {
+        accumulators.add(accumulator);
+        return accumulator;
+    }
+
+    /**
+     * One of today's totals, such as {@link DailyRollups.Totals#calories()}.
+     */
+    public Sum sumToday(ToIntFunction<DailyRollups.Totals> value) {
+        return add(new Sum(value, null));
+    }
+
+    /**
+     * One of this week's totals, such as {@link WeeklyRollups.Week#workoutMinutes()}.
+     */
+    public Sum sumThisWeek(ToIntFunction<WeeklyRollups.Week> value) {
+        return add(new Sum(null, value));
+    }
+
+    /**
+     * Workout goal set latest this week (the earliest added on ties).
+     */
+    public LatestGoal latestGoalThisWeek() {
+        return add(new LatestGoal());
+    }
+
+    /**
+     * Reads today's and this week's rollups of {@code list} and feeds them to every registered accumulator.
+     */
+    public void run(EntryList list) {
+        DailyRollups.Totals day = list.rollups().on(today);
+        WeeklyRollups.Week week = list.weeklyRollups().week(weekStart);
+        for (int i = 0; i < accumulators.size(); i++) {
+            accumulators.get(i).accept(day, week);
+        }
+    }
+
+    /**
+     * Integer total read from either today's or this week's rollup.
+     */
+    public static final class Sum implements Accumulator {
+        private final ToIntFunction<DailyRollups.Totals> daily;
+        private final ToIntFunction<WeeklyRollups.Week> weekly;
+        private int total;
+
+        private Sum(ToIntFunction<DailyRollups.Totals> daily, ToIntFunction<WeeklyRollups.Week> weekly) {
+            this.daily = daily;
+            this.weekly = weekly;
+        }
+
+        @Override
+        public void accept(DailyRollups.Totals today, WeeklyRollups.Week week) {
+            total = daily != null ? daily.applyAsInt(today) : weekly.applyAsInt(week);
+        }
+
+        public int total() {
+            return total;
+        }
+    }
+
+    /**
+     * Latest workout goal of the current week, or null if none was set.
+     */
+    public static final class LatestGoal implements Accumulator {
+        private WorkoutGoalEntry latest;
+
+        private LatestGoal() {
+        }
+
+        @Override
+        public void accept(DailyRollups.Totals today, WeeklyRollups.Week week) {
+            latest = week.latestGoal();
+        }
+
+        public WorkoutGoalEntry get() {
+            return latest;
+        }
+    }
+}
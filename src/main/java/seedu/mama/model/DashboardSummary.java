@@ -1,10 +1,8 @@
 package seedu.mama.model;
 
 import seedu.mama.storage.Storage;
-import seedu.mama.util.DateTimeUtil;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.Clock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,56 +25,40 @@ public class DashboardSummary {
      * @param storage The storage to load goals from.
      */
     public DashboardSummary(EntryList list, Storage storage) {
+        this(list, storage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a summary as of the instant {@code clock} reads now, from the list's daily and weekly
+     * rollups via a {@link DashboardAggregator}.
+     *
+     * @param list    The list of all entries.
+     * @param storage The storage to load goals from.
+     * @param clock   The clock that decides what "today" and "this week" are.
+     */
+    public DashboardSummary(EntryList list, Storage storage, Clock clock) {
         // Assertions for non-null inputs (programming errors)
         assert list != null : "EntryList cannot be null";
         assert storage != null : "Storage cannot be null";
 
         LOGGER.log(Level.INFO, "Calculating dashboard summary data...");
 
-        LocalDate today = LocalDate.now();
-        LocalDateTime weekStart = DateTimeUtil.weekStartMonday(LocalDateTime.now());
+        DashboardAggregator agg = new DashboardAggregator(clock);
+        DashboardAggregator.Sum calories = agg.sumToday(DailyRollups.Totals::calories);
+        DashboardAggregator.Sum milk = agg.sumToday(DailyRollups.Totals::milkMl);
+        DashboardAggregator.Sum minutes = agg.sumThisWeek(WeeklyRollups.Week::workoutMinutes);
+        DashboardAggregator.LatestGoal goal = agg.latestGoalThisWeek();
+        agg.run(list);
 
-        this.caloriesToday = calculateCaloriesToday(list);
+        this.caloriesToday = calories.total();
         this.calorieGoal = storage.loadGoal(); // Assumes storage handles potential nulls
-        this.milkToday = calculateMilkToday(list, today);
-        this.workoutMinutesThisWeek = WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list.asList(), weekStart);
-        this.workoutGoal = WorkoutGoalQueries.currentWeekGoal(list.asList(), weekStart);
+        this.milkToday = milk.total();
+        this.workoutMinutesThisWeek = minutes.total();
+        this.workoutGoal = goal.get();
 
         LOGGER.log(Level.INFO, "Dashboard summary calculated.");
     }
 
-    private int calculateCaloriesToday(EntryList list) {
-        assert list != null : "EntryList cannot be null for calorie calculation";
-        LocalDate today = LocalDate.now();
-
-        return list.asList().stream()
-                .filter(entry -> entry instanceof MealEntry)
-                .map(entry -> (MealEntry) entry)
-                .filter(meal -> meal.timestamp().toLocalDate().isEqual(today))
-                .mapToInt(MealEntry::getCalories)
-                .sum();
-    }
-
-    private int calculateMilkToday(EntryList list, LocalDate today) {
-        assert list != null : "EntryList cannot be null for milk calculation";
-        assert today != null : "Today's date cannot be null";
-
-        return list.asList().stream()
-                .filter(entry -> entry instanceof MilkEntry)
-                .map(entry -> (MilkEntry) entry)
-                .filter(milk -> milk.timestamp().toLocalDate().isEqual(today))
-                .mapToInt(milk -> {
-                    try {
-                        String volStr = milk.getMilk().replace("ml", "").trim();
-                        return Integer.parseInt(volStr);
-                    } catch (NumberFormatException e) {
-                        return 0; // Ignore entries with bad formatting
-                    }
-                })
-                .sum();
-    }
-
-
     // Getters
     public int getCaloriesToday() {
         return caloriesToday;
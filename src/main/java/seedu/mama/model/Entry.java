@@ -1,5 +1,9 @@
 package seedu.mama.model;
 
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
+
 import java.util.Objects;
 
 
@@ -39,41 +43,61 @@ public abstract class Entry {
      */
     public abstract String toStorageString();
 
+    /**
+     * Compact storage form: the subtype's tag byte followed by its fields, see {@link BinaryWriter}.
+     */
+    public abstract void writeBinary(BinaryWriter out);
+
     /**
      * Factory from storage line; dispatch by type token.
+     * The line is tokenized once and the same {@link FieldReader} is handed to the subtype codec.
      */
     public static Entry fromStorageString(String line) {
-        String[] parts = line.split("\\|", 2); // TYPE|payload
-        if (parts.length == 0) {
-            throw new IllegalArgumentException("Bad line: " + line);
+        FieldReader r = new FieldReader(line); // TYPE|payload
+        if (r.peekIs("CALORIE_GOAL")) {
+            return CalorieGoalEntry.fromStorage(r);
+        } else if (r.peekIs("NOTE")) {
+            return NoteEntry.fromStorage(r);
+        } else if (r.peekIs("MILK")) {
+            return MilkEntry.fromStorage(r);
+        } else if (r.peekIs("WORKOUT")) {
+            return WorkoutEntry.fromStorage(r);
+        } else if (r.peekIs("WORKOUT_GOAL")) {
+            return WorkoutGoalEntry.fromStorage(r);
+        } else if (r.peekIs("MEAL")) {
+            return MealEntry.fromStorage(r);
+        } else if (r.peekIs("WEIGHT")) {
+            return WeightEntry.fromStorage(r);
+        } else if (r.peekIs("MEASURE")) {
+            return BodyMeasurementEntry.fromStorage(r);
         }
-        switch (parts[0]) {
-        case "CALORIE_GOAL":
-            return CalorieGoalEntry.fromStorage(line);
-
-        case "NOTE":
-            return NoteEntry.fromStorage(line);
-
-        case "MILK":
-            return MilkEntry.fromStorage(line);
-
-        case "WORKOUT":
-            return WorkoutEntry.fromStorage(line);
-
-        case "WORKOUT_GOAL":
-            return WorkoutGoalEntry.fromStorage(line);
-
-        case "MEAL":
-            return MealEntry.fromStorage(line);
-
-        case "WEIGHT":
-            return WeightEntry.fromStorage(line);
-
-        case "MEASURE":
-            return BodyMeasurementEntry.fromStorage(line);
+        throw new IllegalArgumentException("Unknown type: " + r.next());
+    }
 
+    /**
+     * Factory from the binary storage form; dispatch by type tag.
+     */
+    public static Entry fromBinaryRecord(BinaryReader in) {
+        byte tag = in.readByte();
+        switch (tag) {
+        case NoteEntry.BINARY_TAG:
+            return NoteEntry.fromBinary(in);
+        case MilkEntry.BINARY_TAG:
+            return MilkEntry.fromBinary(in);
+        case WorkoutEntry.BINARY_TAG:
+            return WorkoutEntry.fromBinary(in);
+        case WorkoutGoalEntry.BINARY_TAG:
+            return WorkoutGoalEntry.fromBinary(in);
+        case MealEntry.BINARY_TAG:
+            return MealEntry.fromBinary(in);
+        case WeightEntry.BINARY_TAG:
+            return WeightEntry.fromBinary(in);
+        case BodyMeasurementEntry.BINARY_TAG:
+            return BodyMeasurementEntry.fromBinary(in);
+        case CalorieGoalEntry.BINARY_TAG:
+            return CalorieGoalEntry.fromBinary(in);
         default:
-            throw new IllegalArgumentException("Unknown type: " + parts[0]);
+            throw new IllegalArgumentException("Unknown type tag: " + tag);
         }
     }
 }
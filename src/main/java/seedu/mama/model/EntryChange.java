@@ -0,0 +1,78 @@
+package seedu.mama.model;
+
+import java.util.Objects;
+
+/**
+ * A single mutation applied to an {@link EntryList}, or a change of the calorie goal that storage
+ * keeps alongside it.
+ * <p>
+ * EntryList records these as they happen so that storage can persist only what changed
+ * (e.g. append a journal record) instead of rewriting the whole history.
+ */
+public final class EntryChange {
+
+    /**
+     * Kind of mutation.
+     */
+    public enum Kind {
+        ADD,
+        DELETE,
+        GOAL
+    }
+
+    private final Kind kind;
+    private final Entry entry;
+    private final int index;
+    private final long id;
+
+    private EntryChange(Kind kind, Entry entry, int index, long id) {
+        this.kind = Objects.requireNonNull(kind);
+        this.entry = Objects.requireNonNull(entry);
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Entry appended at the end of the backing list.
+     */
+    public static EntryChange added(Entry entry, int index, long id) {
+        return new EntryChange(Kind.ADD, entry, index, id);
+    }
+
+    /**
+     * Entry removed from the given position of the backing list.
+     */
+    public static EntryChange deleted(Entry entry, int index, long id) {
+        return new EntryChange(Kind.DELETE, entry, index, id);
+    }
+
+    /**
+     * Calorie goal set to {@code goal}; its entry is the matching {@link CalorieGoalEntry}, and it
+     * has no position or id.
+     */
+    public static EntryChange goalSet(int goal) {
+        return new EntryChange(Kind.GOAL, new CalorieGoalEntry(goal), -1, -1);
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public Entry entry() {
+        return entry;
+    }
+
+    /**
+     * Zero-based position in the backing list at the time of the change.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Internal id the list gave the entry when it was added; unlike {@link #index()} it never shifts.
+     */
+    public long id() {
+        return id;
+    }
+}
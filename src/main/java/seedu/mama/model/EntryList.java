@@ -1,74 +1,590 @@
 package seedu.mama.model;
 
+import seedu.mama.metrics.EntryListEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-
-import static java.lang.Integer.parseInt;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 public class EntryList {
-    private final List<Entry> items = new ArrayList<>();
+    /**
+     * Backing list. Deletes tombstone a slot instead of shifting the tail, so each entry's node
+     * knows where it lives and removal never has to search.
+     */
+    private final TombstoneList<Node> items = new TombstoneList<>((n, slot) -> n.slot = slot);
 
     /**
      * Cached "last shown" view (what the user currently sees).
      */
-    private List<Entry> shown = new ArrayList<>();
+    private TombstoneList<Node> shown = newShownList();
     /**
      * Current filter; null means "show all".
      */
     private Predicate<Entry> currentFilter = null;
+    /**
+     * Current type filter; when set, the shown view is taken from the matching bucket.
+     */
+    private EntryType currentType = null;
+    /**
+     * Mutations since storage last persisted this list.
+     */
+    private final List<EntryChange> changes = new ArrayList<>();
+    /**
+     * Timestamped entries keyed on epoch minute (timestamp read as UTC); same-minute entries keep insertion order.
+     */
+    private final NavigableMap<Long, List<TimestampedEntry>> byTime = new TreeMap<>();
+    /**
+     * Entries grouped by {@link EntryType}, each bucket in backing-list order.
+     */
+    private final EnumMap<EntryType, TombstoneList<Node>> byType = new EnumMap<>(EntryType.class);
+    private final EnumMap<EntryType, List<Entry>> byTypeViews = new EnumMap<>(EntryType.class);
+    /**
+     * Per-day totals, kept in step with every add and delete.
+     */
+    private final DailyRollups rollups = new DailyRollups(this::reachBack, this::unloadedTotals);
+    /**
+     * Workout minutes, counts and goals per week, kept in step with every add and delete.
+     */
+    private final WeeklyRollups weeklyRollups = new WeeklyRollups(this::reachBack);
+    private final List<Entry> allView = new EntryView(() -> items);
+    private long nextId = 1;
+    /**
+     * Bumped on every add and delete; lets readers tell whether anything changed since they last looked.
+     */
+    private long version;
+    private final ResultCache resultCache = new ResultCache();
+    /**
+     * Source of the entries that precede every loaded one and were left on disk; null once they
+     * are all loaded, or if there never were any.
+     */
+    private History history;
+    /**
+     * Oldest timestamp among the loaded entries while {@link #history} is set. Unloaded entries
+     * are no newer than this, so a time query must load more before it can start at or before it.
+     */
+    private LocalDateTime historyBefore;
+
+    /**
+     * An entry plus its stable id and its slot in each structure that holds it.
+     */
+    private static final class Node {
+        final long id;
+        final Entry entry;
+        final EntryType type;
+        int slot;
+        int typeSlot;
+        /**
+         * Shown list this node was put in; only meaningful while it is still the current one.
+         */
+        TombstoneList<Node> shownIn;
+        int shownSlot;
+
+        Node(long id, Entry entry, EntryType type) {
+            this.id = id;
+            this.entry = entry;
+            this.type = type;
+        }
+    }
 
     public EntryList() {
+        for (EntryType t : EntryType.values()) {
+            TombstoneList<Node> bucket = new TombstoneList<>((n, slot) -> n.typeSlot = slot);
+            byType.put(t, bucket);
+            byTypeViews.put(t, new EntryView(() -> bucket));
+        }
         recomputeShown();
     }
 
+    /**
+     * Adds {@code e} at the end. Does not need the older entries of a lazily loaded list, so while
+     * they are still on disk the recorded change's index only counts the loaded ones; it is
+     * corrected when they are loaded.
+     */
     public void add(Entry e) {
-        items.add(e);
-        recomputeShown(); // keep shown view in sync
+        EntryListEvent event = new EntryListEvent(EntryListEvent.ADD);
+        event.begin();
+        Node n = new Node(nextId++, e, EntryType.of(e));
+        version++;
+        index(n);
+        changes.add(EntryChange.added(e, items.size() - 1, n.id));
+        rollups.add(e);
+        weeklyRollups.add(e);
+        if (e instanceof TimestampedEntry te) {
+            byTime.computeIfAbsent(minuteKey(te.timestamp()), k -> new ArrayList<>(1)).add(te);
+        }
+        if (matchesFilter(e, n.type)) {
+            showNode(n); // keep shown view in sync without re-filtering everything
+        }
+        commitEvent(event, e, items.size() - 1);
+    }
+
+    /**
+     * Older entries that a list was loaded without, handed out newest segment first.
+     */
+    public interface History {
+        /**
+         * Returns the newest segment not handed out yet, its entries in backing-list order, or
+         * null when every segment has been handed out.
+         */
+        List<Entry> older();
+
+        /**
+         * Returns the totals of every entry not handed out yet, or null if they cannot be known
+         * without reading them.
+         */
+        default DailyRollups.Totals totals() {
+            return null;
+        }
+    }
+
+    /**
+     * Marks this list as the recent part of a longer history: every entry {@code history} hands
+     * out precedes every entry in this list, and timestamped ones are no newer than the oldest
+     * loaded timestamp. Segments are loaded the first time a time query reaches back to them, and
+     * all of them as soon as anything needs every entry (positions, the full view, per-type
+     * buckets, or overall totals the history does not know).
+     */
+    public void setHistory(History history) {
+        this.history = history;
+        this.historyBefore = LocalDateTime.MAX;
+        for (Node n : items) {
+            if (n.entry instanceof TimestampedEntry te) {
+                historyBefore = te.timestamp(); // list is in time order: the first one is the oldest
+                break;
+            }
+        }
+    }
+
+    /**
+     * True while some older entries set with {@link #setHistory} are still on disk.
+     */
+    public boolean hasUnloadedHistory() {
+        return history != null;
+    }
+
+    /**
+     * Loads every older entry set with {@link #setHistory} that is still on disk.
+     */
+    public void loadHistory() {
+        reachBack((LocalDateTime) null);
+    }
+
+    /**
+     * Loads history segments until the loaded entries cover every time from {@code from} on, or
+     * all of them if {@code from} is null. The segments are put in front of the loaded entries in
+     * one pass, however many it took.
+     */
+    private void reachBack(LocalDateTime from) {
+        if (history == null || (from != null && from.isAfter(historyBefore))) {
+            return;
+        }
+        List<List<Entry>> segments = new ArrayList<>();
+        int count = 0;
+        while (history != null && (from == null || !from.isAfter(historyBefore))) {
+            List<Entry> segment = history.older();
+            if (segment == null) {
+                history = null;
+                historyBefore = null;
+                break;
+            }
+            segments.add(segment);
+            count += segment.size();
+            for (Entry e : segment) {
+                if (e instanceof TimestampedEntry te) {
+                    historyBefore = te.timestamp();
+                    break;
+                }
+            }
+        }
+        List<Entry> older = new ArrayList<>(count);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            older.addAll(segments.get(i));
+        }
+        prepend(older);
+    }
+
+    /**
+     * Totals of the entries still on disk, or null if the history does not know them.
+     */
+    private DailyRollups.Totals unloadedTotals() {
+        return history == null ? DailyRollups.Totals.EMPTY : history.totals();
+    }
+
+    /**
+     * Loads the history if a query covering {@code day} (null for every day) reaches into it.
+     */
+    private void reachBack(LocalDate day) {
+        reachBack(day == null ? null : day.atStartOfDay());
+    }
+
+    /**
+     * Puts {@code older} in front of every entry, re-indexing the loaded ones behind it.
+     */
+    private void prepend(List<Entry> older) {
+        if (older.isEmpty()) {
+            return;
+        }
+        List<Node> loaded = new ArrayList<>(items.size());
+        for (Node n : items) {
+            loaded.add(n);
+        }
+        items.clear();
+        byType.values().forEach(TombstoneList::clear);
+        for (Entry e : older) {
+            index(new Node(nextId++, e, EntryType.of(e)));
+            rollups.add(e);
+        }
+        for (Node n : loaded) {
+            index(n);
+        }
+        weeklyRollups.addOlder(older);
+        for (int i = older.size() - 1; i >= 0; i--) {
+            if (older.get(i) instanceof TimestampedEntry te) {
+                byTime.computeIfAbsent(minuteKey(te.timestamp()), k -> new ArrayList<>(1)).add(0, te);
+            }
+        }
+        for (int i = 0; i < changes.size(); i++) {
+            EntryChange c = changes.get(i);
+            if (c.kind() == EntryChange.Kind.ADD) {
+                changes.set(i, EntryChange.added(c.entry(), c.index() + older.size(), c.id()));
+            }
+        }
+        version++;
+        recomputeShown();
+    }
+
+    private void index(Node n) {
+        n.slot = items.append(n);
+        if (n.type != null) {
+            n.typeSlot = byType.get(n.type).append(n);
+        }
     }
 
     public Entry deleteByIndex(int zeroBased) {
-        Entry removed = items.get(zeroBased);
-        if (removed instanceof MilkEntry) {
-            String volStr = ((MilkEntry) removed).getMilk();
-            String numberVol = volStr.replace("ml", "");
-            int volume = parseInt(numberVol);
-            MilkEntry.minusTotalMilkVol(volume);
-        }
-        Entry out = items.remove(zeroBased);
-        recomputeShown(); // keep shown view in sync
-        return out;
+        loadHistory();
+        return delete(items.get(zeroBased));
     }
 
     /**
      * Delete by index in the current shown view (what the user sees).
+     * Resolves straight to the entry's node, so this costs O(log n) like {@link #deleteByIndex(int)}.
      */
     public Entry deleteByShownIndex(int zeroBasedShown) {
+        loadHistory();
         if (zeroBasedShown < 0 || zeroBasedShown >= shown.size()) {
             throw new IndexOutOfBoundsException("Shown index " +
                     zeroBasedShown +
                     " out of range (size=" + shown.size() + ")");
         }
-        Entry target = shown.get(zeroBasedShown);
-        int realIndex = indexOf(target);
-        if (realIndex < 0) {
-            throw new IndexOutOfBoundsException("Shown entry not found in backing list");
+        return delete(shown.get(zeroBasedShown));
+    }
+
+    private Entry delete(Node n) {
+        EntryListEvent event = new EntryListEvent(EntryListEvent.DELETE);
+        event.begin();
+        Entry removed = n.entry;
+        version++;
+        rollups.remove(removed);
+        weeklyRollups.remove(removed);
+        // journal records stay positional, so capture the backing index before tombstoning
+        int index = items.indexOf(n.slot);
+        items.removeSlot(n.slot);
+        changes.add(EntryChange.deleted(removed, index, n.id));
+        if (removed instanceof TimestampedEntry te) {
+            unindexTime(te);
+        }
+        if (n.type != null) {
+            byType.get(n.type).removeSlot(n.typeSlot);
         }
-        return deleteByIndex(realIndex);
+        if (n.shownIn == shown) {
+            shown.removeSlot(n.shownSlot);
+        }
+        n.shownIn = null;
+        commitEvent(event, removed, index);
+        return removed;
     }
 
+    private void commitEvent(EntryListEvent event, Entry entry, int index) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.entryType = entry.type();
+            event.index = index;
+            event.size = items.size();
+            event.commit();
+        }
+    }
 
     public int size() {
+        loadHistory();
         return items.size();
     }
 
     public Entry get(int i) {
-        return items.get(i);
+        loadHistory();
+        return items.get(i).entry;
     }
 
+    /**
+     * Read-only view of every entry in backing-list order. Nothing is copied; the view follows
+     * later adds and deletes, so use {@link #asList()} when a stable snapshot is needed.
+     */
+    public List<Entry> view() {
+        loadHistory();
+        return allView;
+    }
+
+    /**
+     * Copy of every entry in backing-list order.
+     */
     public List<Entry> asList() {
-        return new ArrayList<>(items);
+        loadHistory();
+        List<Entry> out = new ArrayList<>(items.size());
+        for (Node n : items) {
+            out.add(n.entry);
+        }
+        return out;
+    }
+
+    /**
+     * Per-day totals of calories, macros, milk and workout minutes for this list.
+     */
+    public DailyRollups rollups() {
+        return rollups;
+    }
+
+    /**
+     * Per-week workout minutes, workout counts and goals for this list.
+     */
+    public WeeklyRollups weeklyRollups() {
+        return weeklyRollups;
+    }
+
+    /**
+     * Modification version; strictly increases with every add and delete.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the result of {@code query} for {@code bucket} (e.g. the day or week it is for) cached
+     * at the current version, computing it only if the list changed or the bucket is new.
+     */
+    public <T> T cached(String query, Object bucket, Supplier<T> compute) {
+        return resultCache.get(query, version, bucket, compute);
+    }
+
+    /**
+     * True if the list was mutated, or a goal recorded, since the last {@link #drainChanges()}.
+     */
+    public boolean hasPendingChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Records that the calorie goal, which storage keeps outside the list, was set to {@code goal},
+     * so that it is persisted with the next batch of changes. Only the latest pending goal is kept.
+     */
+    public void recordGoal(int goal) {
+        changes.removeIf(c -> c.kind() == EntryChange.Kind.GOAL);
+        changes.add(EntryChange.goalSet(goal));
+    }
+
+    /**
+     * Returns the mutations recorded since the last call, oldest first, and forgets them.
+     */
+    public List<EntryChange> drainChanges() {
+        List<EntryChange> out = new ArrayList<>(changes);
+        changes.clear();
+        return out;
+    }
+
+    // ====== Per-type API ======
+
+    /**
+     * Read-only view of the entries of {@code type}, in backing-list order.
+     */
+    public List<Entry> entriesOfType(EntryType type) {
+        loadHistory();
+        return byTypeViews.get(type);
+    }
+
+    /**
+     * Entries of {@code type} cast to their concrete class, in backing-list order.
+     */
+    public <T extends Entry> List<T> entriesOfType(EntryType type, Class<T> cls) {
+        assert type.entryClass == cls : "Class " + cls + " does not match type " + type;
+        loadHistory();
+        @SuppressWarnings("unchecked")
+        List<T> bucket = (List<T>) byTypeViews.get(type);
+        return bucket;
+    }
+
+    public int countOfType(EntryType type) {
+        loadHistory();
+        return byType.get(type).size();
+    }
+
+    /**
+     * Runs {@code action} on each entry of {@code type}, in backing-list order, without copying the bucket.
+     */
+    public <T extends Entry> void forEachOfType(EntryType type, Class<T> cls, Consumer<? super T> action) {
+        assert type.entryClass == cls : "Class " + cls + " does not match type " + type;
+        loadHistory();
+        for (Node n : byType.get(type)) {
+            action.accept(cls.cast(n.entry));
+        }
+    }
+
+    /**
+     * Sum of {@code value} over the entries of {@code type}.
+     */
+    public <T extends Entry> int sumOfType(EntryType type, Class<T> cls, ToIntFunction<? super T> value) {
+        assert type.entryClass == cls : "Class " + cls + " does not match type " + type;
+        loadHistory();
+        int sum = 0;
+        for (Node n : byType.get(type)) {
+            sum += value.applyAsInt(cls.cast(n.entry));
+        }
+        return sum;
+    }
+
+    // ====== Time range API ======
+
+    /**
+     * Timestamped entries with {@code from <= timestamp < to}, oldest first.
+     * Runs in O(log n + k) using the time index rather than scanning every entry.
+     */
+    public List<TimestampedEntry> entriesBetween(LocalDateTime from, LocalDateTime to) {
+        return entriesBetween(from, to, TimestampedEntry.class);
+    }
+
+    /**
+     * Entries of {@code type} timestamped within {@code [from, to)}, oldest first.
+     */
+    public <T extends TimestampedEntry> List<T> entriesBetween(LocalDateTime from, LocalDateTime to, Class<T> type) {
+        List<T> out = new ArrayList<>();
+        forEachBetween(from, to, type, out::add);
+        return out;
+    }
+
+    /**
+     * Runs {@code action} on each entry of {@code type} timestamped within {@code [from, to)}, oldest first,
+     * without collecting them into a list.
+     */
+    public <T extends TimestampedEntry> void forEachBetween(LocalDateTime from, LocalDateTime to, Class<T> type,
+                                                            Consumer<? super T> action) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        reachBack(from);
+        for (List<TimestampedEntry> bucket : byTime.subMap(minuteKey(from), true, minuteKey(to), true).values()) {
+            for (int i = 0; i < bucket.size(); i++) {
+                TimestampedEntry te = bucket.get(i);
+                if (type.isInstance(te) && inRange(te, from, to)) {
+                    action.accept(type.cast(te));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sum of {@code value} over the entries of {@code type} timestamped within {@code [from, to)}.
+     */
+    public <T extends TimestampedEntry> int sumBetween(LocalDateTime from, LocalDateTime to, Class<T> type,
+                                                       ToIntFunction<? super T> value) {
+        if (!from.isBefore(to)) {
+            return 0;
+        }
+        reachBack(from);
+        int sum = 0;
+        for (List<TimestampedEntry> bucket : byTime.subMap(minuteKey(from), true, minuteKey(to), true).values()) {
+            for (int i = 0; i < bucket.size(); i++) {
+                TimestampedEntry te = bucket.get(i);
+                if (type.isInstance(te) && inRange(te, from, to)) {
+                    sum += value.applyAsInt(type.cast(te));
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Entry of {@code type} with the latest timestamp within {@code [from, to)}, or null if there is none.
+     * On equal timestamps the one added first wins. Walks the time index backwards and stops at the
+     * first minute that has a match.
+     */
+    public <T extends TimestampedEntry> T latestBetween(LocalDateTime from, LocalDateTime to, Class<T> type) {
+        if (!from.isBefore(to)) {
+            return null;
+        }
+        reachBack(from);
+        NavigableMap<Long, List<TimestampedEntry>> range = byTime.subMap(minuteKey(from), true, minuteKey(to), true);
+        for (List<TimestampedEntry> bucket : range.descendingMap().values()) {
+            T latest = null;
+            for (int i = 0; i < bucket.size(); i++) {
+                TimestampedEntry te = bucket.get(i);
+                if (type.isInstance(te) && inRange(te, from, to)
+                        && (latest == null || te.timestamp().isAfter(latest.timestamp()))) {
+                    latest = type.cast(te);
+                }
+            }
+            if (latest != null) {
+                return latest;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Entries of {@code type} timestamped on {@code day}, oldest first.
+     */
+    public <T extends TimestampedEntry> List<T> entriesOn(LocalDate day, Class<T> type) {
+        return entriesBetween(day.atStartOfDay(), day.plusDays(1).atStartOfDay(), type);
+    }
+
+    private static boolean inRange(TimestampedEntry te, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime ts = te.timestamp();
+        return !ts.isBefore(from) && ts.isBefore(to);
+    }
+
+    private static long minuteKey(LocalDateTime t) {
+        return Math.floorDiv(t.toEpochSecond(ZoneOffset.UTC), 60L);
+    }
+
+    private void unindexTime(TimestampedEntry te) {
+        long key = minuteKey(te.timestamp());
+        List<TimestampedEntry> bucket = byTime.get(key);
+        if (bucket == null) {
+            return;
+        }
+        removeSame(bucket, te);
+        if (bucket.isEmpty()) {
+            byTime.remove(key);
+        }
+    }
+
+    /**
+     * Removes the first element of {@code from} that is the same object as {@code target}.
+     */
+    private static <T> void removeSame(List<T> from, Object target) {
+        for (int i = 0; i < from.size(); i++) {
+            if (from.get(i) == target) {
+                from.remove(i);
+                return;
+            }
+        }
     }
 
     // ====== Shown (filtered) view API ======
@@ -77,6 +593,7 @@ public class EntryList {
      * Number of entries in current shown view.
      */
     public int shownSize() {
+        loadHistory();
         return shown.size();
     }
 
@@ -84,21 +601,36 @@ public class EntryList {
      * Entry at index in current shown view (0-based).
      */
     public Entry getShown(int i) {
-        return shown.get(i);
+        loadHistory();
+        return shown.get(i).entry;
     }
 
     /**
-     * Unmodifiable snapshot of current shown view.
+     * Unmodifiable live view of the shown entries, not a snapshot: it follows later adds, deletes
+     * and filter changes. Copy it to keep what is shown now.
      */
-    public List<Entry> getShownSnapshot() {
-        return Collections.unmodifiableList(shown);
+    public List<Entry> shownView() {
+        loadHistory();
+        return new EntryView(() -> shown);
     }
 
     /**
      * Persist the filter (null => show all) and rebuild shown view.
      */
     public void setFilter(Predicate<Entry> predicate) {
+        loadHistory();
         this.currentFilter = predicate;
+        this.currentType = null;
+        recomputeShown();
+    }
+
+    /**
+     * Persist a filter on entry type (null => show all) and rebuild shown view from its bucket.
+     */
+    public void setFilter(EntryType type) {
+        loadHistory();
+        this.currentFilter = null;
+        this.currentType = type;
         recomputeShown();
     }
 
@@ -106,32 +638,85 @@ public class EntryList {
      * Clear any filter and show all.
      */
     public void clearFilter() {
+        loadHistory();
         this.currentFilter = null;
+        this.currentType = null;
         recomputeShown();
     }
 
+    /**
+     * True if {@code e} (of type {@code t}, possibly null) belongs in the shown view under the current filter.
+     */
+    private boolean matchesFilter(Entry e, EntryType t) {
+        if (currentType != null) {
+            return currentType == t;
+        }
+        return currentFilter == null || currentFilter.test(e);
+    }
+
     /**
      * Rebuild the shown view from the backing list and currentFilter.
+     * Only needed when the filter itself changes; mutations update the view incrementally.
      */
     private void recomputeShown() {
-        List<Entry> next = new ArrayList<>();
-        for (Entry e : items) {
-            if (currentFilter == null || currentFilter.test(e)) {
-                next.add(e);
+        this.shown = newShownList();
+        if (currentType != null) {
+            for (Node n : byType.get(currentType)) {
+                showNode(n);
+            }
+            return;
+        }
+        for (Node n : items) {
+            if (currentFilter == null || currentFilter.test(n.entry)) {
+                showNode(n);
             }
         }
-        this.shown = next;
+    }
+
+    private void showNode(Node n) {
+        n.shownIn = shown;
+        n.shownSlot = shown.append(n);
+    }
+
+    private static TombstoneList<Node> newShownList() {
+        return new TombstoneList<>((n, slot) -> n.shownSlot = slot);
     }
 
     /**
-     * Locate an entry in the backing list by equals().
+     * Read-only {@code List<Entry>} over a tombstone list; the supplier lets the shown view
+     * follow {@link #recomputeShown()} swapping in a new list.
      */
-    private int indexOf(Entry target) {
-        for (int i = 0; i < items.size(); i++) {
-            if (items.get(i).equals(target)) {
-                return i;
-            }
+    private static final class EntryView extends AbstractList<Entry> {
+        private final Supplier<TombstoneList<Node>> source;
+
+        EntryView(Supplier<TombstoneList<Node>> source) {
+            this.source = source;
+        }
+
+        @Override
+        public Entry get(int index) {
+            return source.get().get(index).entry;
+        }
+
+        @Override
+        public int size() {
+            return source.get().size();
+        }
+
+        @Override
+        public Iterator<Entry> iterator() {
+            Iterator<Node> nodes = source.get().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return nodes.hasNext();
+                }
+
+                @Override
+                public Entry next() {
+                    return nodes.next().entry;
+                }
+            };
         }
-        return -1;
     }
 }
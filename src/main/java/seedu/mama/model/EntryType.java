@@ -18,6 +18,19 @@ public enum EntryType {
         this.entryClass = entryClass;
     }
 
+    /**
+     * Returns the type whose {@link #entryClass} matches {@code entry}, or null for entries that are
+     * not listable by type (e.g. notes).
+     */
+    public static EntryType of(Entry entry) {
+        for (EntryType t : values()) {
+            if (t.entryClass.isInstance(entry)) {
+                return t;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns a comma-separated list of all valid type names.
      * e.g., "meal, workout, milk, weight"
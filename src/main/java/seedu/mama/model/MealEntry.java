@@ -1,10 +1,14 @@
 package seedu.mama.model;
 
-import seedu.mama.util.DateTimeUtil;
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
 
 import java.time.LocalDateTime;
 
 public class MealEntry extends TimestampedEntry {
+    static final byte BINARY_TAG = 5;
+
     private int calories; // kcal
     private Integer protein; // grams or null
     private Integer carbs;
@@ -74,26 +78,40 @@ public class MealEntry extends TimestampedEntry {
     }
 
     public static MealEntry fromStorage(String line) {
+        return fromStorage(new FieldReader(line));
+    }
+
+    static MealEntry fromStorage(FieldReader r) {
         // Expected: MEAL|<type>|<calories>|<protein>|<carbs>|<fat>|timestamp
-        String[] parts = line.split("\\|");
-        String type = parts.length > 1 ? parts[1] : "";
-        int cal = parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+        r.expect("MEAL");
+        String type = r.next();
+        int cal = r.nextInt();
+        Integer protein = r.nextNullableInt();
+        Integer carbs = r.nextNullableInt();
+        Integer fat = r.nextNullableInt();
+        LocalDateTime ts = r.nextTimestamp();
 
-        Integer protein = null;
-        Integer carbs = null;
-        Integer fat = null;
+        return new MealEntry(type, cal, protein, carbs, fat, ts);
+    }
 
-        if (parts.length > 3 && !parts[3].equals("-")) {
-            protein = Integer.parseInt(parts[3]);
-        }
-        if (parts.length > 4 && !parts[4].equals("-")) {
-            carbs = Integer.parseInt(parts[4]);
-        }
-        if (parts.length > 5 && !parts[5].equals("-")) {
-            fat = Integer.parseInt(parts[5]);
-        }
-        LocalDateTime ts = DateTimeUtil.parse(parts[6].trim());
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeString(description());
+        out.writeInt(calories);
+        out.writeOptionalInt(protein);
+        out.writeOptionalInt(carbs);
+        out.writeOptionalInt(fat);
+        out.writeTimestamp(timestamp());
+    }
 
+    static MealEntry fromBinary(BinaryReader in) {
+        String type = in.readString();
+        int cal = in.readInt();
+        Integer protein = in.readOptionalInt();
+        Integer carbs = in.readOptionalInt();
+        Integer fat = in.readOptionalInt();
+        LocalDateTime ts = in.readTimestamp();
         return new MealEntry(type, cal, protein, carbs, fat, ts);
     }
 }
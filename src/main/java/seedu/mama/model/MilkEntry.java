@@ -2,7 +2,9 @@ package seedu.mama.model;
 
 import java.time.LocalDateTime;
 
-import seedu.mama.util.DateTimeUtil;
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
 
 /**
  * Represents a breast milk pumping session entry.
@@ -11,15 +13,12 @@ public class MilkEntry extends TimestampedEntry {
 
     // 1) Constants (optional but nice to have)
     public static final String TYPE = "MILK";
+    static final byte BINARY_TAG = 2;
 
-    // 2) Static fields
-    // Back-compat static counters used elsewhere (e.g., AddMilkCommand, EntryList)
-    private static int totalMilkVol = 0;
+    // 2) Instance fields
+    private final int volumeMl;
 
-    // 3) Instance fields
-    private static int volumeMl = 0;
-
-    // 4) Constructors (ALL ctors before any methods)
+    // 3) Constructors (ALL ctors before any methods)
 
     /**
      * Constructs a new MilkEntry from user input.
@@ -39,19 +38,21 @@ public class MilkEntry extends TimestampedEntry {
         volumeMl = parseVolumeMl(userInput);
     }
 
-    // 5) Methods (static or instance)
-
-    // ---- Static counters (back-compat) ----
-    public static void addTotalMilkVol(int milkVol) {
-        totalMilkVol += milkVol;
+    /**
+     * Binary deserialization path: the volume is already a number, so nothing is re-parsed.
+     */
+    private MilkEntry(int volumeMl, LocalDateTime when) {
+        super(TYPE, volumeMl + "ml", when);
+        this.volumeMl = volumeMl;
     }
 
-    public static void minusTotalMilkVol(int milkVol) {
-        totalMilkVol -= milkVol;
-    }
+    // 4) Methods (static or instance)
 
-    public static String toTotalMilk() {
-        return "Total breast milk pumped: " + totalMilkVol + "ml";
+    /**
+     * Formats a running milk total, e.g. from {@link DailyRollups.Totals#milkMl()}.
+     */
+    public static String toTotalMilk(int totalMl) {
+        return "Total breast milk pumped: " + totalMl + "ml";
     }
 
     /**
@@ -61,16 +62,16 @@ public class MilkEntry extends TimestampedEntry {
      * @return MilkEntry object
      */
     public static MilkEntry fromStorage(String line) {
-        String[] parts = line.split("\\|", -1);
-        if (parts.length != 3 || !TYPE.equals(parts[0])) {
-            throw new IllegalArgumentException("Invalid MILK entry line: " + line);
-        }
-        String volume = parts[1];
-        LocalDateTime ts = DateTimeUtil.parse(parts[2].trim());
-
-        // keep your running total behavior during load
-        addTotalMilkVol(parseVolumeMl(volume));
+        return fromStorage(new FieldReader(line));
+    }
 
+    static MilkEntry fromStorage(FieldReader r) {
+        if (r.fieldCount() != 3 || !r.peekIs(TYPE)) {
+            throw new IllegalArgumentException("Invalid MILK entry line: " + r.line());
+        }
+        r.skip();
+        String volume = r.next();
+        LocalDateTime ts = r.nextTimestamp();
         return new MilkEntry(volume, ts);
     }
 
@@ -79,8 +80,8 @@ public class MilkEntry extends TimestampedEntry {
         return this.description();
     }
 
-    // in MilkEntry
-    public static int volumeMl() {
+    /** Returns the milk volume in ml */
+    public int getVolumeMl() {
         return volumeMl;
     }
 
@@ -119,4 +120,17 @@ public class MilkEntry extends TimestampedEntry {
         String s = input.trim().toLowerCase();
         return s.endsWith("ml") ? s : s + "ml";
     }
+
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeInt(volumeMl);
+        out.writeTimestamp(timestamp());
+    }
+
+    static MilkEntry fromBinary(BinaryReader in) {
+        int volume = in.readInt();
+        LocalDateTime ts = in.readTimestamp();
+        return new MilkEntry(volume, ts);
+    }
 }
@@ -1,9 +1,15 @@
 package seedu.mama.model;
 
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
+
 /**
  * Minimal concrete entry so Delete can be demoed end-to-end.
  */
 public class NoteEntry extends Entry {
+    static final byte BINARY_TAG = 1;
+
     public NoteEntry(String text) {
         super("NOTE", text);
     }
@@ -14,7 +20,21 @@ public class NoteEntry extends Entry {
     }
 
     public static NoteEntry fromStorage(String line) {
-        String[] parts = line.split("\\|", 2);
-        return new NoteEntry(parts.length > 1 ? parts[1] : "");
+        return fromStorage(new FieldReader(line));
+    }
+
+    static NoteEntry fromStorage(FieldReader r) {
+        r.skip();
+        return new NoteEntry(r.rest());
+    }
+
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeString(description());
+    }
+
+    static NoteEntry fromBinary(BinaryReader in) {
+        return new NoteEntry(in.readString());
     }
 }
@@ -0,0 +1,71 @@
+package seedu.mama.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Small cache of read-only query results, keyed on (query, list version, bucket).
+ * <p>
+ * The bucket is whatever else the result depends on, typically the day or week it was computed
+ * for, so a cached view rolls over at midnight or on Monday even if the list has not changed.
+ * A new list version makes every older entry unreachable, so the cache is simply cleared then.
+ */
+final class ResultCache {
+    private static final int MAX_ENTRIES = 16;
+
+    private final Map<Key, Object> results = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private long version = -1;
+
+    /**
+     * Returns the cached result for {@code (query, version, bucket)}, computing and storing it on a miss.
+     */
+    <T> T get(String query, long version, Object bucket, Supplier<T> compute) {
+        if (version != this.version) {
+            results.clear();
+            this.version = version;
+        }
+        Key key = new Key(query, version, bucket);
+        @SuppressWarnings("unchecked")
+        T hit = (T) results.get(key);
+        if (hit != null) {
+            return hit;
+        }
+        T value = compute.get();
+        if (value != null) {
+            results.put(key, value);
+        }
+        return value;
+    }
+
+    private static final class Key {
+        private final String query;
+        private final long version;
+        private final Object bucket;
+
+        Key(String query, long version, Object bucket) {
+            this.query = query;
+            this.version = version;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key k)) {
+                return false;
+            }
+            return version == k.version && query.equals(k.query) && Objects.equals(bucket, k.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, version, bucket);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.mama.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Append-only list of slots that supports O(log n) positional access and removal.
+ * <p>
+ * Removing an element leaves a tombstone in its slot instead of shifting the tail; a Fenwick
+ * tree over the live slots maps list positions to slots and back. Once tombstones outnumber
+ * live elements the slots are compacted, and the {@link Relocator} is told where each
+ * surviving element moved so callers holding slot numbers can update them.
+ */
+final class TombstoneList<E> implements Iterable<E> {
+
+    /**
+     * Receives the new slot of an element after compaction.
+     */
+    interface Relocator<E> {
+        void moved(E element, int newSlot);
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * Tombstone count below which compaction is never worth it.
+     */
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    private final Relocator<E> relocator;
+    private Object[] slots = new Object[INITIAL_CAPACITY];
+    /**
+     * Fenwick tree (1-based) counting live slots.
+     */
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    /**
+     * Number of slots used so far, live or tombstoned.
+     */
+    private int end;
+    private int live;
+
+    TombstoneList(Relocator<E> relocator) {
+        this.relocator = relocator;
+    }
+
+    int size() {
+        return live;
+    }
+
+    boolean isEmpty() {
+        return live == 0;
+    }
+
+    /**
+     * Removes every element; slots handed out before are no longer valid.
+     */
+    void clear() {
+        Arrays.fill(slots, 0, end, null);
+        tree = new int[slots.length + 1];
+        end = 0;
+        live = 0;
+    }
+
+    /**
+     * Appends {@code element} and returns its slot.
+     */
+    int append(E element) {
+        assert element != null : "null elements are used as tombstones";
+        if (end == slots.length) {
+            grow();
+        }
+        slots[end] = element;
+        bump(end, 1);
+        live++;
+        return end++;
+    }
+
+    /**
+     * Element at list position {@code index} (0-based, tombstones not counted).
+     */
+    E get(int index) {
+        return elementAt(slotOf(index));
+    }
+
+    /**
+     * Slot holding the element at list position {@code index}.
+     */
+    int slotOf(int index) {
+        if (index < 0 || index >= live) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range (size=" + live + ")");
+        }
+        // descend the Fenwick tree looking for the slot whose prefix count is index + 1
+        int pos = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(slots.length); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= slots.length && tree[next] < remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos; // last 1-based position with a smaller count, i.e. the 0-based slot we want
+    }
+
+    /**
+     * List position of the live element in {@code slot}.
+     */
+    int indexOf(int slot) {
+        assert slots[slot] != null : "slot " + slot + " is a tombstone";
+        int count = 0;
+        for (int i = slot + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    E elementAt(int slot) {
+        return (E) slots[slot];
+    }
+
+    /**
+     * Tombstones {@code slot} and returns what it held. May compact, so slot numbers read
+     * before this call are stale afterwards.
+     */
+    E removeSlot(int slot) {
+        E element = elementAt(slot);
+        if (element == null) {
+            throw new IllegalStateException("Slot " + slot + " already removed");
+        }
+        slots[slot] = null;
+        bump(slot, -1);
+        live--;
+        int tombstones = end - live;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > live) {
+            compact();
+        }
+        return element;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = skipTombstones(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public E next() {
+                if (next >= end) {
+                    throw new NoSuchElementException();
+                }
+                E element = elementAt(next);
+                next = skipTombstones(next + 1);
+                return element;
+            }
+        };
+    }
+
+    private int skipTombstones(int from) {
+        while (from < end && slots[from] == null) {
+            from++;
+        }
+        return from;
+    }
+
+    private void bump(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private void grow() {
+        slots = Arrays.copyOf(slots, slots.length * 2);
+        rebuildTree();
+    }
+
+    /**
+     * Moves live elements to the front, keeping their order.
+     */
+    private void compact() {
+        int to = 0;
+        for (int from = 0; from < end; from++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) slots[from];
+            if (element == null) {
+                continue;
+            }
+            if (to != from) {
+                slots[to] = element;
+                relocator.moved(element, to);
+            }
+            to++;
+        }
+        Arrays.fill(slots, to, end, null);
+        end = to;
+        rebuildTree();
+    }
+
+    /**
+     * Rebuilds the Fenwick tree from the slots in O(capacity).
+     */
+    private void rebuildTree() {
+        tree = new int[slots.length + 1];
+        for (int i = 1; i <= slots.length; i++) {
+            if (slots[i - 1] != null) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= slots.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.mama.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Workout totals and goals of one {@link EntryList}, bucketed by week.
+ * <p>
+ * Weeks are keyed on their Monday, the same boundary as
+ * {@link seedu.mama.util.DateTimeUtil#weekStartMonday(java.time.LocalDateTime)}. The owning list
+ * updates the buckets on every add and delete, so weekly questions cost O(1) per week asked about
+ * rather than a scan over every workout ever logged.
+ */
+public final class WeeklyRollups {
+
+    private final NavigableMap<LocalDate, Week> byWeek = new TreeMap<>();
+    /**
+     * Told the earliest day a query covers before it is answered.
+     */
+    private final Consumer<LocalDate> reach;
+
+    WeeklyRollups(Consumer<LocalDate> reach) {
+        this.reach = reach;
+    }
+
+    /**
+     * Monday of the week containing {@code day}.
+     */
+    public static LocalDate weekOf(LocalDate day) {
+        return day.with(DayOfWeek.MONDAY);
+    }
+
+    /**
+     * Bucket for the week starting on {@code monday}; empty if nothing was logged that week.
+     */
+    public Week week(LocalDate monday) {
+        reach.accept(monday);
+        Week w = byWeek.get(monday);
+        return w == null ? new Week(monday) : w;
+    }
+
+    /**
+     * The {@code count} weeks ending with the one starting on {@code currentMonday}, oldest first.
+     * Weeks with nothing logged are included as empty buckets.
+     */
+    public List<Week> history(LocalDate currentMonday, int count) {
+        List<Week> out = new ArrayList<>(Math.max(count, 0));
+        if (count > 0) {
+            reach.accept(currentMonday.minusWeeks(count - 1));
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            out.add(week(currentMonday.minusWeeks(i)));
+        }
+        return out;
+    }
+
+    void add(Entry e) {
+        if (e instanceof WorkoutEntry w) {
+            bucket(w).addWorkout(w.getDuration(), 1);
+        } else if (e instanceof WorkoutGoalEntry g) {
+            bucket(g).goals.add(g);
+        }
+    }
+
+    /**
+     * Adds entries that come before every entry already counted, e.g. history loaded late.
+     */
+    void addOlder(List<Entry> older) {
+        for (int i = older.size() - 1; i >= 0; i--) {
+            Entry e = older.get(i);
+            if (e instanceof WorkoutEntry w) {
+                bucket(w).addWorkout(w.getDuration(), 1);
+            } else if (e instanceof WorkoutGoalEntry g) {
+                bucket(g).goals.add(0, g); // keep insertion order, which breaks ties in latestGoal
+            }
+        }
+    }
+
+    void remove(Entry e) {
+        if (e instanceof WorkoutEntry w) {
+            bucket(w).addWorkout(-w.getDuration(), -1);
+        } else if (e instanceof WorkoutGoalEntry g) {
+            Week week = bucket(g);
+            for (int i = 0; i < week.goals.size(); i++) {
+                if (week.goals.get(i) == g) {
+                    week.goals.remove(i);
+                    break;
+                }
+            }
+        } else {
+            return;
+        }
+        LocalDate key = weekOf(((TimestampedEntry) e).timestamp().toLocalDate());
+        if (byWeek.get(key).isEmpty()) {
+            byWeek.remove(key);
+        }
+    }
+
+    private Week bucket(TimestampedEntry e) {
+        return byWeek.computeIfAbsent(weekOf(e.timestamp().toLocalDate()), Week::new);
+    }
+
+    /**
+     * Workout minutes, workout count and goals logged in one week.
+     */
+    public static final class Week {
+        private final LocalDate start;
+        private int workoutMinutes;
+        private int workoutCount;
+        /**
+         * Goals set during the week, in insertion order; weeks rarely hold more than a couple.
+         */
+        private final List<WorkoutGoalEntry> goals = new ArrayList<>(1);
+
+        private Week(LocalDate start) {
+            this.start = start;
+        }
+
+        /**
+         * Monday the week starts on.
+         */
+        public LocalDate start() {
+            return start;
+        }
+
+        public int workoutMinutes() {
+            return workoutMinutes;
+        }
+
+        public int workoutCount() {
+            return workoutCount;
+        }
+
+        /**
+         * Goal with the latest timestamp set during the week (the earliest added on ties), or null.
+         */
+        public WorkoutGoalEntry latestGoal() {
+            WorkoutGoalEntry latest = null;
+            for (WorkoutGoalEntry g : goals) {
+                if (latest == null || g.timestamp().isAfter(latest.timestamp())) {
+                    latest = g;
+                }
+            }
+            return latest;
+        }
+
+        /**
+         * True if the week had a goal and its workouts reached it.
+         */
+        public boolean goalMet() {
+            WorkoutGoalEntry goal = latestGoal();
+            return goal != null && workoutMinutes >= goal.getMinutesPerWeek();
+        }
+
+        private void addWorkout(int minutes, int count) {
+            workoutMinutes += minutes;
+            workoutCount += count;
+        }
+
+        private boolean isEmpty() {
+            return workoutCount == 0 && goals.isEmpty();
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package seedu.mama.model;
 
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
+
 import java.text.DecimalFormat;
 /**
  * Represents a user weight entry.
  */
 public class WeightEntry extends Entry {
+    static final byte BINARY_TAG = 6;
+
 
-    private static final DecimalFormat DECIMAL_FORMAT= new DecimalFormat("0.00");
+    /**
+     * DecimalFormat is not thread-safe, and entries are decoded on several threads by the parallel loader.
+     */
+    private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("0.00"));
 
     private final double weightInKG;
 
@@ -26,7 +36,7 @@ public class WeightEntry extends Entry {
      * @return formatted weight string, e.g., "65.50kg"
      */
     private static String formatWeight(double weight) {
-        return DECIMAL_FORMAT.format(weight) + "kg";
+        return DECIMAL_FORMAT.get().format(weight) + "kg";
     }
 
     public double getWeight() {
@@ -50,8 +60,12 @@ public class WeightEntry extends Entry {
      * @return WeightEntry object
      */
     public static WeightEntry fromStorage(String line) {
-        String[] parts = line.split("\\|", 2);
-        String weightString = parts.length > 1 ? parts[1] : "0.0";
+        return fromStorage(new FieldReader(line));
+    }
+
+    static WeightEntry fromStorage(FieldReader r) {
+        r.skip();
+        String weightString = r.hasNext() ? r.rest() : "0.0";
 
         try {
             double storedWeight = Double.parseDouble(weightString);
@@ -61,4 +75,14 @@ public class WeightEntry extends Entry {
             return new  WeightEntry(0.0);
         }
     }
+
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeDouble(weightInKG);
+    }
+
+    static WeightEntry fromBinary(BinaryReader in) {
+        return new WeightEntry(in.readDouble());
+    }
 }
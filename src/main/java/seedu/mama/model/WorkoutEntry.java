@@ -1,6 +1,8 @@
 package seedu.mama.model;
 
-import seedu.mama.util.DateTimeUtil;
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
 
 import java.time.LocalDateTime;
 
@@ -10,6 +12,8 @@ import java.time.LocalDateTime;
  * Storage format: WORKOUT|type|duration|feel|timestamp
  */
 public final class WorkoutEntry extends TimestampedEntry {
+    static final byte BINARY_TAG = 3;
+
 
     private final String workoutType; //e.g .,"running","yoga"
     private final int durationMins; // duration in minutes
@@ -77,15 +81,36 @@ public final class WorkoutEntry extends TimestampedEntry {
      * @throws IllegalArgumentException if the line is malformed
      */
     public static WorkoutEntry fromStorage(String line) {
-        String[] parts = line.split("\\|", -1);
-        if (parts.length != 5 || !"WORKOUT".equals(parts[0])) {
-            throw new IllegalArgumentException("Bad WORKOUT line (expect 5 parts): " + line);
+        return fromStorage(new FieldReader(line));
+    }
+
+    static WorkoutEntry fromStorage(FieldReader r) {
+        if (r.fieldCount() != 5 || !r.peekIs("WORKOUT")) {
+            throw new IllegalArgumentException("Bad WORKOUT line (expect 5 parts): " + r.line());
         }
+        r.skip();
+
+        String type = r.next().trim();
+        int mins = r.nextInt();
+        int feel = r.nextInt();
+        LocalDateTime ts = r.nextTimestamp();
+        return new WorkoutEntry(type, mins, feel, ts);
+    }
+
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeString(workoutType);
+        out.writeInt(durationMins);
+        out.writeInt(feel);
+        out.writeTimestamp(timestamp());
+    }
 
-        String type = parts[1].trim();
-        int mins = Integer.parseInt(parts[2].trim());
-        int feel = Integer.parseInt(parts[3].trim());
-        LocalDateTime ts = DateTimeUtil.parse(parts[4].trim());
+    static WorkoutEntry fromBinary(BinaryReader in) {
+        String type = in.readString();
+        int mins = in.readInt();
+        int feel = in.readInt();
+        LocalDateTime ts = in.readTimestamp();
         return new WorkoutEntry(type, mins, feel, ts);
     }
 }
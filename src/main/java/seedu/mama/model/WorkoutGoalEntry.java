@@ -1,7 +1,9 @@
 // src/main/java/seedu/mama/model/WorkoutGoalEntry.java
 package seedu.mama.model;
 
-import seedu.mama.util.DateTimeUtil;
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+import seedu.mama.util.FieldReader;
 
 import java.time.LocalDateTime;
 
@@ -14,6 +16,8 @@ import java.time.LocalDateTime;
  * - timestamp is the recorded time for when this goal was set
  */
 public final class WorkoutGoalEntry extends TimestampedEntry {
+    static final byte BINARY_TAG = 4;
+
     private final int minutesPerWeek;
 
     /**
@@ -98,12 +102,29 @@ public final class WorkoutGoalEntry extends TimestampedEntry {
      * @throws IllegalArgumentException if the line is malformed or minutes is not an integer
      */
     public static WorkoutGoalEntry fromStorage(String line) {
-        String[] p = line.split("\\|", -1);
-        if (p.length != 3 || !"WORKOUT_GOAL".equals(p[0])) {
-            throw new IllegalArgumentException("Bad WORKOUT_GOAL line (expect 3 parts): " + line);
+        return fromStorage(new FieldReader(line));
+    }
+
+    static WorkoutGoalEntry fromStorage(FieldReader r) {
+        if (r.fieldCount() != 3 || !r.peekIs("WORKOUT_GOAL")) {
+            throw new IllegalArgumentException("Bad WORKOUT_GOAL line (expect 3 parts): " + r.line());
         }
-        int mins = Integer.parseInt(p[1].trim());
-        LocalDateTime ts = DateTimeUtil.parse(p[2].trim());
+        r.skip();
+        int mins = r.nextInt();
+        LocalDateTime ts = r.nextTimestamp();
         return new WorkoutGoalEntry(mins, ts);
     }
+
+    @Override
+    public void writeBinary(BinaryWriter out) {
+        out.writeByte(BINARY_TAG);
+        out.writeInt(minutesPerWeek);
+        out.writeTimestamp(timestamp());
+    }
+
+    static WorkoutGoalEntry fromBinary(BinaryReader in) {
+        int minutes = in.readInt();
+        LocalDateTime ts = in.readTimestamp();
+        return new WorkoutGoalEntry(minutes, ts);
+    }
 }
@@ -3,7 +3,10 @@ package seedu.mama.model;
 
 import seedu.mama.util.DateTimeUtil;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -43,6 +46,21 @@ public final class WorkoutGoalQueries {
         return sum;
     }
 
+    /**
+     * Same as {@link #sumWorkoutMinutesThisWeek(List, LocalDateTime)} but reads the weekly rollups of
+     * {@code list} (or its time index when weekStart is not a Monday midnight) instead of scanning entries.
+     *
+     * @param list       entry list to query
+     * @param weekStart  start of the target week (typically Monday 00:00)
+     * @return non-negative total number of minutes of workouts in the target week
+     */
+    public static int sumWorkoutMinutesThisWeek(EntryList list, LocalDateTime weekStart) {
+        if (isWeekBoundary(weekStart)) {
+            return list.weeklyRollups().week(weekStart.toLocalDate()).workoutMinutes();
+        }
+        return list.sumBetween(weekStart, weekStart.plusDays(7), WorkoutEntry.class, WorkoutEntry::getDuration);
+    }
+
     /**
      * Returns the workout goal that applies to the target week, or null if none exists.
      *
@@ -70,4 +88,37 @@ public final class WorkoutGoalQueries {
         }
         return latestThisWeek;
     }
+
+    /**
+     * Same as {@link #currentWeekGoal(List, LocalDateTime)} but reads the weekly rollups of
+     * {@code list} (or its time index when weekStart is not a Monday midnight) instead of scanning entries.
+     *
+     * @param list       entry list to query
+     * @param weekStart  start of the target week (typically Monday 00:00)
+     * @return the latest WorkoutGoalEntry set in the target week, or null if no goal was set that week
+     */
+    public static WorkoutGoalEntry currentWeekGoal(EntryList list, LocalDateTime weekStart) {
+        if (isWeekBoundary(weekStart)) {
+            return list.weeklyRollups().week(weekStart.toLocalDate()).latestGoal();
+        }
+        return list.latestBetween(weekStart, weekStart.plusDays(7), WorkoutGoalEntry.class);
+    }
+
+    /**
+     * Returns the {@code weeks} weeks ending with the target week, oldest first, each with its
+     * workout minutes, latest goal and whether that goal was met.
+     *
+     * @param list       entry list to query
+     * @param weekStart  start of the target week (typically Monday 00:00)
+     * @param weeks      number of weeks to report, e.g. 52 for the last year
+     * @return one bucket per week, including empty weeks
+     */
+    public static List<WeeklyRollups.Week> goalAttainment(EntryList list, LocalDateTime weekStart, int weeks) {
+        LocalDate monday = WeeklyRollups.weekOf(weekStart.toLocalDate());
+        return list.weeklyRollups().history(monday, weeks);
+    }
+
+    private static boolean isWeekBoundary(LocalDateTime weekStart) {
+        return weekStart.getDayOfWeek() == DayOfWeek.MONDAY && weekStart.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
 }
@@ -0,0 +1,111 @@
+package seedu.mama.parser;
+
+import java.util.Arrays;
+
+/**
+ * One line of user input, trimmed, lower-cased and split into whitespace-separated tokens in a
+ * single pass.
+ * <p>
+ * Tokens are kept as offsets into {@link #text()}, so sub-parsers can look at individual tokens
+ * or at "everything from token i on" without re-splitting the line; a token is the same as an
+ * element of {@code text().split("\\s+")}.
+ */
+public final class CommandInput {
+    private final String text;
+    private final boolean hasPipe;
+    /**
+     * Start and end offsets of each token, interleaved: token i spans {@code [bounds[2i], bounds[2i+1])}.
+     */
+    private final int[] bounds;
+    private final int tokenCount;
+
+    private CommandInput(String text, boolean hasPipe, int[] bounds, int tokenCount) {
+        this.text = text;
+        this.hasPipe = hasPipe;
+        this.bounds = bounds;
+        this.tokenCount = tokenCount;
+    }
+
+    /**
+     * Tokenizes {@code raw}: trims it, lower-cases it and records token boundaries and any {@code |}.
+     */
+    public static CommandInput of(String raw) {
+        String text = raw.trim().toLowerCase();
+        int[] bounds = new int[8];
+        int count = 0;
+        boolean pipe = false;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (c == '|') {
+                pipe = true;
+            }
+            if (isSpace(c)) {
+                if (start >= 0) {
+                    if (2 * count + 2 > bounds.length) {
+                        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                    }
+                    bounds[2 * count] = start;
+                    bounds[2 * count + 1] = i;
+                    count++;
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return new CommandInput(text, pipe, bounds, count);
+    }
+
+    /**
+     * Same characters as the {@code \s} regex class, so tokens match {@code split("\\s+")}.
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * The trimmed, lower-cased input.
+     */
+    public String text() {
+        return text;
+    }
+
+    public boolean hasPipe() {
+        return hasPipe;
+    }
+
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    public String token(int i) {
+        checkToken(i);
+        return text.substring(bounds[2 * i], bounds[2 * i + 1]);
+    }
+
+    /**
+     * True if token {@code i} is exactly {@code expected}.
+     */
+    public boolean tokenIs(int i, String expected) {
+        checkToken(i);
+        int len = bounds[2 * i + 1] - bounds[2 * i];
+        return len == expected.length() && text.startsWith(expected, bounds[2 * i]);
+    }
+
+    /**
+     * Everything from the start of token {@code i} to the end of the input, or {@code ""} if there is no such token.
+     */
+    public String restFrom(int i) {
+        if (i >= tokenCount) {
+            return "";
+        }
+        return text.substring(bounds[2 * i]);
+    }
+
+    private void checkToken(int i) {
+        if (i < 0 || i >= tokenCount) {
+            throw new IndexOutOfBoundsException("Token " + i + " out of range (count=" + tokenCount + ")");
+        }
+    }
+}
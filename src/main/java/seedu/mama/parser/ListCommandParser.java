@@ -4,11 +4,8 @@ import seedu.mama.command.Command;
 import seedu.mama.command.CommandException;
 import seedu.mama.command.CommandType; // Import CommandType
 import seedu.mama.command.ListCommand;
-import seedu.mama.model.Entry;
 import seedu.mama.model.EntryType;
 
-import java.util.function.Predicate;
-
 /**
  * Parses arguments for the ListCommand.
  */
@@ -34,8 +31,7 @@ public class ListCommandParser {
         String typeInput = parts[1].toLowerCase();
         try {
             EntryType entryType = EntryType.valueOf(typeInput.toUpperCase());
-            Predicate<Entry> predicate = entry -> entry.type().equalsIgnoreCase(entryType.name());
-            return new ListCommand(predicate, typeInput);
+            return new ListCommand(entryType, typeInput);
         } catch (IllegalArgumentException e) {
             // Use the consistent error message from the enum
             throw new CommandException(String.format("Unknown type: '%s'. %s",
@@ -1,12 +1,16 @@
 package seedu.mama.parser;
 
+import seedu.mama.command.AddMeasurementCommand;
 import seedu.mama.command.CommandException;
 import seedu.mama.command.CommandResult;
+import seedu.mama.command.CommandType;
 import seedu.mama.command.HelpCommand;
 import seedu.mama.command.ViewDashboardCommand;
 import seedu.mama.command.SetWorkoutGoalCommand;
+import seedu.mama.command.StatsCommand;
 import seedu.mama.command.ViewWorkoutGoalCommand;
 import seedu.mama.command.AddWeightCommand;
+import seedu.mama.metrics.CommandMetrics;
 import seedu.mama.model.CalorieGoalQueries;
 
 
@@ -17,6 +21,9 @@ import seedu.mama.command.DeleteCommand;
 import seedu.mama.command.AddWorkoutCommand;
 import seedu.mama.command.AddMilkCommand;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Parses raw user input strings into the appropriate {@link Command} objects.
  * <p>
@@ -25,6 +32,9 @@ import seedu.mama.command.AddMilkCommand;
  * provides feedback through {@link CommandResult} messages when invalid syntax
  * or arguments are detected.
  * <p>
+ * The input is tokenized once into a {@link CommandInput}; its keyword is then looked up in a
+ * {@link PrefixTrie} of {@link CommandType}s and handed to that type's sub-parser.
+ * <p>
  * Example usages:
  * <ul>
  *     <li>{@code delete 2} → returns a {@link DeleteCommand}</li>
@@ -34,6 +44,62 @@ import seedu.mama.command.AddMilkCommand;
  */
 public class Parser {
 
+    private static final String WEIGHT_ERROR = "Weight must be a number. Try `weight`+ 'value of weight'";
+
+    /**
+     * Parses an already tokenized input of a known {@link CommandType}.
+     */
+    @FunctionalInterface
+    private interface SubParser {
+        Command parse(CommandInput in) throws CommandException;
+    }
+
+    /**
+     * Command keywords. Exact keys must equal the whole input; prefix keys only need to start it, and
+     * the longest one wins (so "workout goal" beats "workout ").
+     */
+    private static final PrefixTrie<CommandType> KEYWORDS = new PrefixTrie<>();
+    private static final Map<CommandType, SubParser> PARSERS = new EnumMap<>(CommandType.class);
+
+    static {
+        KEYWORDS.putExact("bye", CommandType.BYE);
+        KEYWORDS.putExact("help", CommandType.HELP);
+        KEYWORDS.putExact("dashboard", CommandType.DASHBOARD);
+        KEYWORDS.putExact("stats", CommandType.STATS);
+        KEYWORDS.putPrefix("delete", CommandType.DELETE);
+        KEYWORDS.putPrefix("list", CommandType.LIST);
+        KEYWORDS.putPrefix("milk", CommandType.MILK);
+        KEYWORDS.putPrefix("workout goal", CommandType.WORKOUT_GOAL_SET);
+        KEYWORDS.putPrefix("workout ", CommandType.WORKOUT);
+        KEYWORDS.putPrefix("weight", CommandType.WEIGHT);
+        KEYWORDS.putPrefix("meal", CommandType.MEAL);
+        KEYWORDS.putPrefix("measure", CommandType.MEASURE);
+        KEYWORDS.putExact("calorie goal", CommandType.CALORIE_GOAL_VIEW);
+        KEYWORDS.putPrefix("calorie goal ", CommandType.CALORIE_GOAL_SET);
+
+        // Handles the "bye" command (terminates the program)
+        PARSERS.put(CommandType.BYE, in -> (l, s) -> new CommandResult("Bye. Hope to see you again soon!"));
+        PARSERS.put(CommandType.HELP, in -> new HelpCommand());
+        PARSERS.put(CommandType.DASHBOARD, in -> new ViewDashboardCommand());
+        PARSERS.put(CommandType.DELETE, DeleteCommand::fromInput);
+        PARSERS.put(CommandType.LIST, in -> ListCommandParser.parseListCommand(in.text().substring("list".length())));
+        PARSERS.put(CommandType.MILK, in -> AddMilkCommand.fromInput(in.text()));
+        PARSERS.put(CommandType.WORKOUT_GOAL_VIEW, in -> new ViewWorkoutGoalCommand());
+        PARSERS.put(CommandType.WORKOUT_GOAL_SET, in -> {
+            try {
+                return SetWorkoutGoalCommand.fromInput(in);
+            } catch (CommandException e) {
+                return (l, s) -> CommandResult.error(e.getMessage());
+            }
+        });
+        PARSERS.put(CommandType.WORKOUT, in -> AddWorkoutCommand.fromInput(in.text()));
+        PARSERS.put(CommandType.WEIGHT, Parser::parseWeight);
+        PARSERS.put(CommandType.MEAL, in -> AddMealCommand.fromInput(in.text()));
+        PARSERS.put(CommandType.MEASURE, Parser::parseMeasure);
+        PARSERS.put(CommandType.CALORIE_GOAL_VIEW, in -> CalorieGoalQueries.viewCalorieGoal());
+        PARSERS.put(CommandType.CALORIE_GOAL_SET, in -> CalorieGoalQueries.setCalorieGoal(in.text()));
+    }
+
     /**
      * Parses the given raw user input and returns the corresponding {@link Command}.
      * <p>
@@ -47,133 +113,129 @@ public class Parser {
      * @throws CommandException If a parsing error occurs that cannot be handled internally.
      */
     public static Command parse(String input) throws CommandException {
-        String trimmed = input.trim();
-        String lower = trimmed.toLowerCase();
-        if (lower.contains("|")) {
+        return parse(CommandInput.of(input));
+    }
+
+    /**
+     * Same as {@link #parse(String)}, for input that has already been tokenized.
+     */
+    public static Command parse(CommandInput in) throws CommandException {
+        return parseTyped(in).command();
+    }
+
+    /**
+     * Same as {@link #parse(CommandInput)}, also returning the {@link CommandType} the input was
+     * dispatched to, so callers that need both look the keyword up once.
+     */
+    public static Parsed parseTyped(CommandInput in) throws CommandException {
+        return parseTyped(in, null);
+    }
+
+    /**
+     * Same as {@link #parseTyped(CommandInput)}, with a {@code stats} command reporting {@code metrics}.
+     *
+     * @param metrics the caller's command metrics; null for a {@code stats} command that reports none
+     */
+    public static Parsed parseTyped(CommandInput in, CommandMetrics metrics) throws CommandException {
+        if (in.hasPipe()) {
             throw new CommandException("Invalid command arguments! No | allowed!");
         }
 
-        // Handles the "bye" command (terminates the program)
-        if (lower.equals("bye")) {
-            return (l, s) -> new CommandResult("Bye. Hope to see you again soon!");
+        CommandType type = typeOf(in);
+        if (type == null) {
+            return new Parsed(null, (l, s) -> CommandResult.error("Unknown command."));
         }
-
-        if (lower.equals("help")) {
-            return new HelpCommand();
+        if (type == CommandType.STATS) { // reports the caller's metrics, so it has no static sub-parser
+            return new Parsed(type, metrics == null ? new StatsCommand() : new StatsCommand(metrics));
         }
+        return new Parsed(type, PARSERS.get(type).parse(in));
+    }
 
-        if (lower.equals("dashboard")) {
-            return new ViewDashboardCommand();
+    /**
+     * Returns the {@link CommandType} that {@code input} would be dispatched to, or null if the
+     * keyword is not recognised. Arguments are not validated.
+     */
+    public static CommandType typeOf(CommandInput in) {
+        CommandType type = KEYWORDS.match(in.text());
+        // "workout goal" with no minutes input → view current workout goal
+        if (type == CommandType.WORKOUT_GOAL_SET && in.tokenCount() == 2) {
+            return CommandType.WORKOUT_GOAL_VIEW;
         }
+        return type;
+    }
 
-        // Handles "delete" commands
-        if (lower.startsWith("delete")) {
-            return DeleteCommand.fromInput(lower);
-        }
+    /**
+     * A parsed command and the type it was dispatched to.
+     */
+    public static final class Parsed {
+        private final CommandType type;
+        private final Command command;
 
-        // Handles "list" command
-        if (lower.startsWith("list")) {
-            String arguments = lower.substring("list".length());
-            return ListCommandParser.parseListCommand(arguments);
+        private Parsed(CommandType type, Command command) {
+            this.type = type;
+            this.command = command;
         }
 
-        if (lower.startsWith("milk")) {
-            return AddMilkCommand.fromInput(lower);
+        /**
+         * Type the input was dispatched to, or null if the keyword is not recognised.
+         */
+        public CommandType type() {
+            return type;
         }
 
-        // Handles "workout goal" command, needs to be checked before generic "workout " command
-        if (lower.toLowerCase().startsWith("workout goal")) {
-            String[] parts = lower.split("\\s+");
-            if (parts.length == 2) {
-                // "workout goal" with no minutes input → view current workout goal
-                return new ViewWorkoutGoalCommand();
-            }
-            // otherwise, delegate to the setter parser: "workout goal <minutes>"
-            try {
-                return SetWorkoutGoalCommand.fromInput(lower);
-            } catch (CommandException e) {
-                return (l, s) -> new CommandResult(e.getMessage());
-            }
+        public Command command() {
+            return command;
         }
+    }
 
-        // Handles "workout " command
-        if (lower.startsWith("workout ")) {
-            return AddWorkoutCommand.fromInput(lower);
+    private static Command parseWeight(CommandInput in) throws CommandException {
+        if (in.tokenCount() < 2) {
+            return (l, s) -> CommandResult.error(WEIGHT_ERROR);
         }
-
-        // Handles "weight" command
-        if (lower.startsWith("weight")) {
-            String[] parts = lower.split("\\s+");
-
-            if (parts.length < 2) {
-                return (l, s) -> new CommandResult("Weight must be a number. " +
-                        "Try `weight`+ 'value of weight'");
-            }
-            try {
-                return new AddWeightCommand(Double.parseDouble(parts[1]));
-            } catch (NumberFormatException e) {
-                return (l, s) -> new CommandResult("Weight must be a number. " +
-                        "Try `weight`+ 'value of weight'");
-            }
+        try {
+            return new AddWeightCommand(Double.parseDouble(in.token(1)));
+        } catch (NumberFormatException e) {
+            return (l, s) -> CommandResult.error(WEIGHT_ERROR);
         }
+    }
 
-        // Handles "meal" command
-        if (lower.startsWith("meal")) {
-            return AddMealCommand.fromInput(lower);
+    private static Command parseMeasure(CommandInput in) {
+        if (in.tokenCount() == 2 && in.tokenIs(1, "?")) {
+            return (l, s) -> new CommandResult(
+                    "Usage: measure waist/<cm> hips/<cm> [chest/<cm>] [thigh/<cm>] [arm/<cm>]");
         }
 
-        // Handles "measure" command
-        if (lower.startsWith("measure")) {
-            String[] parts = lower.split("\\s+");
-            if (parts.length == 2 && "?".equals(parts[1])) {
-                return (l, s) -> new CommandResult(
-                        "Usage: measure waist/<cm> hips/<cm> [chest/<cm>] [thigh/<cm>] [arm/<cm>]");
-            }
-
-            Integer waist = null;
-            Integer hips = null;
-            Integer chest = null;
-            Integer thigh = null;
-            Integer arm = null;
-
-            for (int i = 1; i < parts.length; i++) {
-                String p = parts[i].trim().toLowerCase();
-                try {
-                    if (p.startsWith("waist/")) {
-                        waist = Integer.parseInt(p.substring(6));
-                    } else if (p.startsWith("hips/")) {
-                        hips = Integer.parseInt(p.substring(5));
-                    } else if (p.startsWith("chest/")) {
-                        chest = Integer.parseInt(p.substring(6));
-                    } else if (p.startsWith("thigh/")) {
-                        thigh = Integer.parseInt(p.substring(6));
-                    } else if (p.startsWith("arm/")) {
-                        arm = Integer.parseInt(p.substring(4));
-                    } else {
-                        return (l, s) -> new CommandResult("Unknown field: " + p);
-                    }
-                } catch (NumberFormatException e) {
-                    return (l, s) -> new CommandResult("Invalid number format for: " + p);
-                }
-            }
+        Integer waist = null;
+        Integer hips = null;
+        Integer chest = null;
+        Integer thigh = null;
+        Integer arm = null;
 
+        for (int i = 1; i < in.tokenCount(); i++) {
+            String p = in.token(i);
             try {
-                return new seedu.mama.command.AddMeasurementCommand(waist, hips, chest, thigh, arm);
-            } catch (seedu.mama.command.CommandException e) {
-                return (l, s) -> new CommandResult(e.getMessage());
+                if (p.startsWith("waist/")) {
+                    waist = Integer.parseInt(p.substring(6));
+                } else if (p.startsWith("hips/")) {
+                    hips = Integer.parseInt(p.substring(5));
+                } else if (p.startsWith("chest/")) {
+                    chest = Integer.parseInt(p.substring(6));
+                } else if (p.startsWith("thigh/")) {
+                    thigh = Integer.parseInt(p.substring(6));
+                } else if (p.startsWith("arm/")) {
+                    arm = Integer.parseInt(p.substring(4));
+                } else {
+                    return (l, s) -> CommandResult.error("Unknown field: " + p);
+                }
+            } catch (NumberFormatException e) {
+                return (l, s) -> CommandResult.error("Invalid number format for: " + p);
             }
         }
 
-        // Handles "calorie goal" command
-        if (lower.equals("calorie goal")) {
-            // Just "calorie goal" -> show current goal
-            return CalorieGoalQueries.viewCalorieGoal();
-        }
-        if (lower.startsWith("calorie goal ")) {
-            // "calorie goal <calorie goal>" -> set new goal
-            return CalorieGoalQueries.setCalorieGoal(lower);
+        try {
+            return new AddMeasurementCommand(waist, hips, chest, thigh, arm);
+        } catch (CommandException e) {
+            return (l, s) -> CommandResult.error(e.getMessage());
         }
-
-        return (l, s) -> new CommandResult("Unknown command.");
     }
 }
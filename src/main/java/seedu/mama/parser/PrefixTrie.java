@@ -0,0 +1,90 @@
+package seedu.mama.parser;
+
+import java.util.Arrays;
+
+/**
+ * Character trie mapping command keywords to values.
+ * <p>
+ * A key is registered either as exact (the whole input must equal it) or as a prefix (the input
+ * must start with it). {@link #match(String)} walks the input once: an exact key equal to the
+ * whole input wins, otherwise the longest matching prefix key does.
+ */
+final class PrefixTrie<V> {
+
+    private static final class Node<V> {
+        private char[] labels = new char[0];
+        private Node<V>[] children = newArray(0);
+        private V exact;
+        private V prefix;
+
+        Node<V> child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node<V> childOrCreate(char c) {
+            Node<V> existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            Node<V> created = new Node<>();
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            labels[labels.length - 1] = c;
+            children[children.length - 1] = created;
+            return created;
+        }
+
+        private static <V> Node<V>[] newArray(int size) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Node<V>[] array = (Node<V>[]) new Node[size];
+            return array;
+        }
+    }
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Maps inputs equal to {@code key} to {@code value}.
+     */
+    void putExact(String key, V value) {
+        node(key).exact = value;
+    }
+
+    /**
+     * Maps inputs starting with {@code key} to {@code value}.
+     */
+    void putPrefix(String key, V value) {
+        node(key).prefix = value;
+    }
+
+    /**
+     * Value for {@code input}, or null if no key matches.
+     */
+    V match(String input) {
+        Node<V> node = root;
+        V best = root.prefix;
+        for (int i = 0; i < input.length(); i++) {
+            node = node.child(input.charAt(i));
+            if (node == null) {
+                return best;
+            }
+            if (node.prefix != null) {
+                best = node.prefix;
+            }
+        }
+        return node.exact != null ? node.exact : best;
+    }
+
+    private Node<V> node(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        return node;
+    }
+}
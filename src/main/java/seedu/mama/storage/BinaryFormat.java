@@ -0,0 +1,164 @@
+package seedu.mama.storage;
+
+import seedu.mama.model.Entry;
+import seedu.mama.util.BinaryReader;
+import seedu.mama.util.BinaryWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Layout of a {@link StorageFormat#BINARY} snapshot file.
+ * <pre>
+ * offset 0   magic    0x89 'M' 'A' 'M' 'A'
+ * offset 5   version  1
+ * offset 6   goal     calorie goal as a 4-byte big-endian int, {@link Integer#MIN_VALUE} for none
+ * offset 10  records  {@link Entry#writeBinary} records until the end of the file
+ * </pre>
+ * The non-ASCII first byte means a text file can never be mistaken for a binary one. The goal has
+ * a fixed width so that {@link #writeGoal(Path, int)} can update it in place.
+ */
+final class BinaryFormat {
+    static final int VERSION = 1;
+    private static final byte[] MAGIC = {(byte) 0x89, 'M', 'A', 'M', 'A'};
+    private static final int GOAL_OFFSET = MAGIC.length + 1;
+    static final int HEADER_SIZE = GOAL_OFFSET + Integer.BYTES;
+    private static final int NO_GOAL = Integer.MIN_VALUE;
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * True if {@code file} exists and starts with the binary magic.
+     */
+    static boolean isBinary(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Writes a complete snapshot to {@code target}, replacing its contents.
+     *
+     * @return number of bytes written
+     */
+    static long write(Path target, Integer goal, List<Entry> entries, boolean durable) throws IOException {
+        try (FileChannel ch = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long written = write(Channels.newOutputStream(ch), goal, entries);
+            if (durable) {
+                ch.force(false);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Writes a complete snapshot to {@code stream} and flushes it, leaving it open.
+     *
+     * @return number of bytes written
+     * @throws IOException if writing to {@code stream} fails
+     */
+    static long write(OutputStream stream, Integer goal, List<Entry> entries) throws IOException {
+        BinaryWriter out = new BinaryWriter(stream);
+        try {
+            out.writeBytes(MAGIC);
+            out.writeByte(VERSION);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(goal == null ? NO_GOAL : goal).array());
+            for (Entry e : entries) {
+                e.writeBinary(out);
+            }
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // BinaryWriter wraps the stream's errors; callers handle IOException
+        }
+        return out.size();
+    }
+
+    /**
+     * Decodes every record after the header into {@code sink}.
+     * <p>
+     * Records carry no length, so decoding stops at the first one that cannot be read and
+     * {@code onBadTail} is told how many bytes were left unread.
+     *
+     * @return number of records decoded
+     * @throws IOException if {@code data} is not a binary snapshot of a supported version
+     */
+    static long read(ByteBuffer data, Consumer<Entry> sink, Consumer<Integer> onBadTail) throws IOException {
+        checkHeader(data);
+        data.position(HEADER_SIZE);
+        BinaryReader in = new BinaryReader(data);
+        long records = 0;
+        while (in.hasRemaining()) {
+            int start = in.position();
+            try {
+                sink.accept(Entry.fromBinaryRecord(in));
+            } catch (IllegalArgumentException e) {
+                onBadTail.accept(data.limit() - start);
+                break;
+            }
+            records++;
+        }
+        return records;
+    }
+
+    /**
+     * Reads the calorie goal from the header of {@code data}, or null if none is set.
+     */
+    static Integer readGoal(ByteBuffer data) throws IOException {
+        checkHeader(data);
+        int goal = data.getInt(GOAL_OFFSET);
+        return goal == NO_GOAL ? null : goal;
+    }
+
+    /**
+     * Reads just the header of {@code file} and returns its calorie goal, or null if none is set.
+     */
+    static Integer readGoal(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return readGoal(ByteBuffer.wrap(in.readNBytes(HEADER_SIZE)));
+        }
+    }
+
+    /**
+     * Overwrites the goal field of an existing binary snapshot in place.
+     */
+    static void writeGoal(Path file, int goal) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocate(Integer.BYTES).putInt(goal);
+            buf.flip();
+            while (buf.hasRemaining()) {
+                ch.write(buf, GOAL_OFFSET + buf.position());
+            }
+        }
+    }
+
+    private static void checkHeader(ByteBuffer data) throws IOException {
+        if (data.limit() < HEADER_SIZE) {
+            throw new IOException("Binary storage header is truncated");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data.get(i) != MAGIC[i]) {
+                throw new IOException("Not a binary storage file");
+            }
+        }
+        int version = data.get(MAGIC.length);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary storage version " + version);
+        }
+    }
+}
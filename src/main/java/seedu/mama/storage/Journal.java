@@ -0,0 +1,220 @@
+package seedu.mama.storage;
+
+import seedu.mama.metrics.StorageEvent;
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
+import seedu.mama.model.EntryList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes appended to {@code <file>.journal} since the {@link SnapshotStore} was last written, one
+ * record per add, delete or goal change:
+ * <pre>
+ * ADD|MEAL|lunch|500|-|-|-|28/10/25 12:30
+ * DEL|3
+ * CALORIE_GOAL|1800
+ * </pre>
+ * A write that folds the journal into the store moves it to {@code <file>.journal.folded} right
+ * before committing ({@link #foldBefore}) and deletes it right after ({@link #settle}), so a crash
+ * in between cannot replay it onto a store that already holds it.
+ */
+final class Journal {
+    private static final String ADD_RECORD = "ADD|";
+    private static final String DELETE_RECORD = "DEL|";
+
+    private final Path file;
+    /**
+     * Temp files the stores commit from; see {@link #settle()}.
+     */
+    private final List<Path> commitTmps;
+    private final StorageMetrics metrics;
+    /**
+     * Records in the journal on disk; only changed once a write has succeeded.
+     */
+    private volatile int records;
+
+    Journal(Path file, List<Path> commitTmps, StorageMetrics metrics) {
+        this.file = file;
+        this.commitTmps = commitTmps;
+        this.metrics = metrics;
+    }
+
+    boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Number of records in the journal on disk.
+     */
+    int size() {
+        return records;
+    }
+
+    private Path foldedFile() {
+        return file.resolveSibling(file.getFileName() + ".folded");
+    }
+
+    /**
+     * Deletes a journal left without a store to apply to.
+     */
+    void deleteStale() throws IOException {
+        Files.deleteIfExists(file);
+        records = 0;
+    }
+
+    /**
+     * Applies the journal on top of the store already read into {@code list}.
+     * <p>
+     * Deletes are positional, so replay stops at the first record that cannot be applied: skipping
+     * it could move every later {@code DEL|n} onto the wrong entry. A bad last record is a torn
+     * append and is just dropped; if records follow it, the journal is first copied to
+     * {@code <file>.journal.bad} for recovery by hand. Either way the caller rewrites the store.
+     *
+     * @return true if every record was applied
+     */
+    boolean replay(EntryList list, StorageEvent event) throws IOException {
+        list.drainChanges(); // what was read from the store is already on disk; only replayed records are not
+        records = 0;
+        if (!Files.exists(file)) {
+            return true;
+        }
+
+        long size = Files.size(file);
+        metrics.addBytesRead(size);
+        event.bytesRead += size;
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            String record;
+            while ((record = br.readLine()) != null) {
+                records++;
+                metrics.addLinesParsed(1);
+                event.lines++;
+                try {
+                    applyRecord(list, record);
+                } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+                    event.badLines++;
+                    if (br.readLine() == null) {
+                        System.err.println("Skipping bad journal record: " + record);
+                    } else {
+                        Path copy = file.resolveSibling(file.getFileName() + ".bad");
+                        Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+                        System.err.println("Stopping journal replay at bad record: " + record
+                                + " (the whole journal was kept in " + copy + ")");
+                    }
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void applyRecord(EntryList list, String record) {
+        if (record.startsWith(ADD_RECORD)) {
+            list.add(Entry.fromStorageString(record.substring(ADD_RECORD.length())));
+        } else if (record.startsWith(DELETE_RECORD)) {
+            list.deleteByIndex(Integer.parseInt(record.substring(DELETE_RECORD.length())));
+        } else if (record.startsWith(Storage.GOAL_PREFIX)) {
+            list.recordGoal(Integer.parseInt(record.substring(Storage.GOAL_PREFIX.length())));
+        } else {
+            throw new IllegalArgumentException("Unknown journal record: " + record);
+        }
+    }
+
+    /**
+     * Returns the goal of the last goal record in the journal, or {@code storeGoal} if it has none.
+     */
+    Integer lastGoal(Integer storeGoal) throws IOException {
+        Integer goal = storeGoal;
+        metrics.addBytesRead(Files.size(file));
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            String record;
+            while ((record = br.readLine()) != null) {
+                if (record.startsWith(Storage.GOAL_PREFIX)) {
+                    Integer parsed = SnapshotFile.parseGoalLine(record);
+                    goal = parsed == null ? goal : parsed;
+                }
+            }
+        }
+        return goal;
+    }
+
+    static List<String> toRecords(List<EntryChange> changes) {
+        List<String> lines = new ArrayList<>(changes.size());
+        for (EntryChange c : changes) {
+            if (c.kind() == EntryChange.Kind.ADD) {
+                lines.add(ADD_RECORD + c.entry().toStorageString());
+            } else if (c.kind() == EntryChange.Kind.DELETE) {
+                lines.add(DELETE_RECORD + c.index());
+            } else {
+                lines.add(c.entry().toStorageString()); // CALORIE_GOAL|<goal>
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Appends {@code lines} to the journal.
+     *
+     * @return number of bytes written
+     */
+    long append(List<String> lines, boolean durable) throws IOException {
+        long written = SnapshotFile.writeLines(file, lines, true, durable);
+        records += lines.size();
+        return written;
+    }
+
+    /**
+     * Moves the journal aside just before a write that folds it replaces the store from
+     * {@code commitTmp}. Until that move, the journal belongs to the old store; after it, to none.
+     * So the aside journal still applies exactly while {@code commitTmp} exists, and
+     * {@link #settle()} can tell the two apart after a crash. The other temp files are deleted first
+     * so that a stale one cannot be mistaken for this write's.
+     */
+    SnapshotStore.BeforeCommit foldBefore(Path commitTmp) {
+        return () -> {
+            for (Path tmp : commitTmps) {
+                if (!tmp.equals(commitTmp)) {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+            if (Files.exists(file)) {
+                Files.move(file, foldedFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        };
+    }
+
+    /**
+     * Resolves a journal moved aside by {@link #foldBefore}: puts it back if the write that folds it
+     * was never committed (its temp file is still there), and deletes it otherwise.
+     */
+    void settle() throws IOException {
+        Path folded = foldedFile();
+        if (!Files.exists(folded)) {
+            return;
+        }
+        boolean uncommitted = false;
+        for (Path tmp : commitTmps) {
+            uncommitted |= Files.exists(tmp);
+        }
+        if (uncommitted) {
+            Files.move(folded, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.delete(folded);
+        }
+    }
+
+    /**
+     * Settles the journal after a fold was committed; it now holds no records.
+     */
+    void committed() throws IOException {
+        settle();
+        records = 0;
+    }
+}
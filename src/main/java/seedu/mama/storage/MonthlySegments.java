@@ -0,0 +1,801 @@
+package seedu.mama.storage;
+
+import seedu.mama.metrics.StorageEvent;
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.DailyRollups;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.TimestampedEntry;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Entries kept as one segment file per month in a directory, listed in order by a manifest.
+ * <pre>
+ * manifest.txt        MANIFEST|2|&lt;next generation&gt;
+ *                     CALORIE_GOAL|1800
+ *                     SEGMENT|2025-09|closed|2025-09.4.txt.gz|312|17,40|150,52000,0,0,0,21000,600
+ *                     SEGMENT|2025-10|open|2025-10.9.txt|85||40,15000,0,0,0,6000,120
+ * 2025-09.4.txt.gz    one record per entry, in the snapshot format, optionally gzipped
+ * 2025-10.9.txt
+ * </pre>
+ * Each segment line names its month, whether it is closed, its file, the number of records in it
+ * the records deleted since it was written (tombstones) and the {@link DailyRollups.Totals} of the
+ * records left, so a list loaded without a segment can still count it. Segments are consecutive runs of the
+ * entry list; a new one starts when an entry is timestamped in a later month than the current
+ * segment, and untimed entries stay in the segment they follow.
+ * <p>
+ * Only the last, open segment is written on every save. The segments before it are closed: their
+ * files are never changed, deleting one of their entries adds a tombstone to the manifest, and
+ * once a quarter of a closed segment's records are tombstones it is compacted into a new file.
+ * Every write goes to a file with a new generation number, and the manifest is replaced last with
+ * an atomic move, so a crash at any point leaves the previous manifest and every file it names
+ * intact. Files the manifest no longer names are deleted after it is replaced.
+ * <p>
+ * The store remembers which entry objects each segment holds, so {@link #write} can tell deletions
+ * from closed segments apart without comparing their contents. If most of the closed entries seem
+ * to be gone (e.g. a list that was not loaded from here is saved), every segment is rewritten.
+ * When the changes since the last load or write are known, {@link #apply} persists just those,
+ * without reading the closed segments at all.
+ */
+final class MonthlySegments implements SnapshotStore {
+    static final String MANIFEST = "manifest.txt";
+
+    private static final String MANIFEST_HEADER = "MANIFEST|";
+    private static final int MANIFEST_VERSION = 2;
+    /**
+     * Manifest version without segment totals, still read.
+     */
+    private static final int MANIFEST_VERSION_NO_TOTALS = 1;
+    private static final String SEGMENT_PREFIX = "SEGMENT|";
+    private static final String CLOSED = "closed";
+    private static final String OPEN = "open";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("\\d{4}-\\d{2}\\.\\d+\\.(txt|bin)(\\.gz)?");
+    private static final int COMPACT_DIVISOR = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path dir;
+    private final StorageMetrics metrics;
+    private final Consumer<String> warnings;
+    private final List<Segment> segments = new ArrayList<>();
+    private Integer goal;
+    private long nextGeneration = 1;
+    /**
+     * Days of segments {@link #readInto} reads; 0 reads them all.
+     */
+    private int lazyWindowDays;
+    private boolean compressClosed;
+    /**
+     * True once {@link #segments} reflects the manifest on disk.
+     */
+    private boolean known;
+
+    /**
+     * @param metrics  counts the bytes read and records decoded by every segment read
+     * @param warnings told a message for every record that cannot be decoded
+     */
+    MonthlySegments(Path dir, StorageMetrics metrics, Consumer<String> warnings) {
+        this.dir = dir;
+        this.metrics = metrics;
+        this.warnings = warnings;
+    }
+
+    /**
+     * One month's run of entries.
+     */
+    private static final class Segment {
+        private final YearMonth month;
+        private boolean closed;
+        private String fileName;
+        private int records;
+        private final TreeSet<Integer> tombstones = new TreeSet<>();
+        /**
+         * Totals of the records not deleted; null if the manifest did not say and the file is unread.
+         */
+        private DailyRollups.Totals totals;
+        /**
+         * Entries not deleted, as loaded or written by this store; null until the file is read.
+         */
+        private List<Entry> live;
+        /**
+         * Record number in the file of each entry in {@link #live}.
+         */
+        private List<Integer> liveRecords;
+
+        private Segment(YearMonth month) {
+            this.month = month;
+        }
+
+        private StorageFormat format() {
+            return fileName.contains(".bin") ? StorageFormat.BINARY : StorageFormat.TEXT;
+        }
+    }
+
+    /**
+     * Reads only the segments covering the last {@code windowDays} days in {@link #readInto}, leaving
+     * older ones to the list's history; 0 reads them all.
+     */
+    void setLazyWindow(int windowDays) {
+        this.lazyWindowDays = windowDays;
+    }
+
+    /**
+     * True to gzip segments as they are closed or compacted.
+     */
+    void setCompressClosed(boolean compressClosed) {
+        this.compressClosed = compressClosed;
+    }
+
+    Path manifest() {
+        return dir.resolve(MANIFEST);
+    }
+
+    /**
+     * Temp file the next manifest is written to; it exists from then until the manifest is replaced.
+     */
+    @Override
+    public Path commitTmp() {
+        return dir.resolve(MANIFEST + ".tmp");
+    }
+
+    @Override
+    public Path goalFile() {
+        return manifest();
+    }
+
+    @Override
+    public boolean exists() {
+        return dir != null && Files.exists(manifest());
+    }
+
+    /**
+     * Reads the segments into {@code list}, newest last. With a lazy window, segments are read from
+     * the newest back until one reaches past the window, and the older ones are left to
+     * {@code list}'s history.
+     */
+    @Override
+    public Integer readInto(EntryList list, StorageEvent event) throws IOException {
+        long bytesBefore = metrics.bytesRead();
+        long linesBefore = metrics.linesParsed();
+        Integer manifestGoal = readManifest();
+
+        LocalDateTime windowStart = lazyWindowDays > 0
+                ? LocalDate.now().minusDays(lazyWindowDays).atStartOfDay()
+                : null;
+        List<List<Entry>> recent = new ArrayList<>();
+        int first = size();
+        while (first > 0) {
+            List<Entry> segment = read(--first);
+            recent.add(segment);
+            if (windowStart != null && SnapshotStore.startsBefore(segment, windowStart)) {
+                break;
+            }
+        }
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            recent.get(i).forEach(list::add);
+        }
+        if (first > 0) {
+            list.setHistory(historyBefore(first));
+        }
+        event.bytesRead += metrics.bytesRead() - bytesBefore;
+        event.lines += metrics.linesParsed() - linesBefore;
+        return manifestGoal;
+    }
+
+    /**
+     * Reads the manifest, forgetting which entries the segments were known to hold.
+     *
+     * @return the calorie goal, or null if none is set
+     * @throws IOException if the manifest cannot be read or is malformed
+     */
+    synchronized Integer readManifest() throws IOException {
+        known = false;
+        segments.clear();
+        List<String> lines = Files.readAllLines(manifest());
+        metrics.addBytesRead(Files.size(manifest()));
+        goal = null;
+        nextGeneration = 1;
+        for (String line : lines) {
+            if (line.startsWith(MANIFEST_HEADER)) {
+                String[] parts = line.split("\\|");
+                if (parts.length != 3 || !(parts[1].equals(String.valueOf(MANIFEST_VERSION))
+                        || parts[1].equals(String.valueOf(MANIFEST_VERSION_NO_TOTALS)))) {
+                    throw new IOException("Unsupported segment manifest: " + line);
+                }
+                nextGeneration = parseNumber(parts[2], line);
+            } else if (line.startsWith(Storage.GOAL_PREFIX)) {
+                goal = (int) parseNumber(line.substring(Storage.GOAL_PREFIX.length()), line);
+            } else if (line.startsWith(SEGMENT_PREFIX)) {
+                segments.add(parseSegment(line));
+            } else if (!line.isBlank()) {
+                throw new IOException("Bad segment manifest line: " + line);
+            }
+        }
+        known = true;
+        return goal;
+    }
+
+    /**
+     * Reads just the calorie goal from the manifest, leaving what is known about segments alone.
+     */
+    @Override
+    public Integer readGoal() throws IOException {
+        metrics.addBytesRead(Files.size(manifest()));
+        for (String line : Files.readAllLines(manifest())) {
+            if (line.startsWith(Storage.GOAL_PREFIX)) {
+                return (int) parseNumber(line.substring(Storage.GOAL_PREFIX.length()), line);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Format of the newest segment, or null if there are none.
+     */
+    @Override
+    public synchronized StorageFormat format() {
+        return segments.isEmpty() ? null : segments.get(segments.size() - 1).format();
+    }
+
+    synchronized int size() {
+        return segments.size();
+    }
+
+    /**
+     * Entries of segment {@code index} that are not tombstoned, in order, reading its file if
+     * this store has not read or written it yet.
+     *
+     * @throws IOException if the file is missing or cannot be decoded
+     */
+    synchronized List<Entry> read(int index) throws IOException {
+        Segment s = segments.get(index);
+        if (s.live == null) {
+            load(s);
+        }
+        return new ArrayList<>(s.live);
+    }
+
+    /**
+     * Hands out the segments before {@code index}, newest first, as {@link EntryList} history.
+     */
+    EntryList.History historyBefore(int index) {
+        return new EntryList.History() {
+            private int next = index - 1;
+
+            @Override
+            public List<Entry> older() {
+                if (next < 0) {
+                    return null;
+                }
+                try {
+                    return read(next--);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read older entries from " + dir, e);
+                }
+            }
+
+            @Override
+            public DailyRollups.Totals totals() {
+                synchronized (MonthlySegments.this) {
+                    DailyRollups.Totals sum = DailyRollups.Totals.of(List.of());
+                    for (int k = 0; k <= next; k++) {
+                        sum = DailyRollups.Totals.sum(sum, segments.get(k).totals);
+                    }
+                    return sum;
+                }
+            }
+        };
+    }
+
+    /**
+     * Replaces the goal in the manifest, creating an empty store if there is none yet.
+     */
+    @Override
+    public synchronized void writeGoal(int newGoal, StorageFormat format, StorageEvent event) throws IOException {
+        ensureKnown();
+        goal = newGoal;
+        event.bytesWritten = writeManifest(false, BeforeCommit.NONE);
+        deleteUnlisted();
+    }
+
+    /**
+     * Persists {@code entries}, the whole list in order, with {@code newGoal}. Rewrites the open
+     * segment, adds tombstones for closed entries that are no longer in the list, closes the open
+     * segment if the list has moved on to a later month, and compacts closed segments with many
+     * tombstones. Everything is rewritten, in {@code format}, if the closed segments are in another
+     * format or most of their entries are missing from {@code entries}.
+     *
+     * @param beforeCommit run just before the manifest is replaced
+     * @return number of bytes written
+     */
+    @Override
+    public synchronized long write(List<Entry> entries, Integer newGoal, StorageFormat format, boolean durable,
+            BeforeCommit beforeCommit) throws IOException {
+        boolean compress = compressClosed;
+        ensureKnown();
+        Files.createDirectories(dir);
+        goal = newGoal;
+
+        int tailStart = matchClosed(entries, format);
+        if (tailStart < 0) {
+            segments.clear();
+            tailStart = 0;
+        }
+        long written = 0;
+        for (Segment s : segments) {
+            if (s.closed && s.tombstones.size() * COMPACT_DIVISOR >= s.records && !s.tombstones.isEmpty()) {
+                written += writeSegment(s, s.live, format, compress, durable);
+            }
+        }
+        written += writeTail(entries.subList(tailStart, entries.size()), format, compress, durable);
+        written += writeManifest(durable, beforeCommit);
+        deleteUnlisted();
+        return written;
+    }
+
+    /**
+     * Persists {@code changes}, made since the last load or write to the list this store holds,
+     * with {@code newGoal}. Deletions from closed segments become tombstones, which may compact
+     * those segments; if anything after them was added or removed, the open segment is rewritten
+     * and later months split off as {@link #write} would. Closed segments are read only to be
+     * compacted.
+     *
+     * @param beforeCommit run just before the manifest is replaced
+     * @return number of bytes written
+     * @throws IOException if the changes do not fit the segments (e.g. they were never loaded, or
+     *                     are in another format), in which case nothing is changed, or if a write fails
+     */
+    @Override
+    public synchronized long apply(List<EntryChange> changes, Integer newGoal, StorageFormat format, boolean durable,
+            BeforeCommit beforeCommit) throws IOException {
+        boolean compress = compressClosed;
+        if (!known) {
+            throw new IOException("Segments have not been loaded");
+        }
+        for (Segment s : segments) {
+            if (s.format() != format) {
+                throw new IOException("Segments are not in " + format + " format");
+            }
+        }
+        Segment open = segments.isEmpty() || segments.get(segments.size() - 1).closed
+                ? null : segments.get(segments.size() - 1);
+        if (open != null && open.live == null) {
+            throw new IOException("Open segment has not been loaded");
+        }
+
+        int closedCount = segments.size() - (open == null ? 0 : 1);
+        int[] closedLive = new int[closedCount];
+        int closedTotal = 0;
+        List<List<Integer>> deleted = new ArrayList<>(closedCount);
+        List<List<Entry>> deletedEntries = new ArrayList<>(closedCount);
+        for (int k = 0; k < closedCount; k++) {
+            Segment s = segments.get(k);
+            closedLive[k] = s.records - s.tombstones.size();
+            closedTotal += closedLive[k];
+            deleted.add(new ArrayList<>());
+            deletedEntries.add(new ArrayList<>());
+        }
+        List<Entry> tail = open == null ? new ArrayList<>() : new ArrayList<>(open.live);
+        boolean tailChanged = false;
+        for (EntryChange c : changes) {
+            if (c.kind() == EntryChange.Kind.ADD) {
+                tail.add(c.entry()); // its index only counts the loaded entries while history is on disk
+                tailChanged = true;
+            } else if (c.kind() == EntryChange.Kind.DELETE) {
+                int i = c.index();
+                if (i < 0 || i >= closedTotal + tail.size()) {
+                    throw new IOException("Deleted entry is not in the segments: " + i);
+                }
+                if (i < closedTotal) {
+                    int k = 0;
+                    while (i >= closedLive[k]) {
+                        i -= closedLive[k++];
+                    }
+                    deleted.get(k).add(i); // position among the live records left at this point
+                    deletedEntries.get(k).add(c.entry());
+                    closedLive[k]--;
+                    closedTotal--;
+                } else {
+                    if (tail.get(i - closedTotal) != c.entry()) {
+                        throw new IOException("Deleted entry is not in the segments: " + c.index());
+                    }
+                    tail.remove(i - closedTotal);
+                    tailChanged = true;
+                }
+            }
+        }
+
+        goal = newGoal;
+        long written = 0;
+        for (int k = 0; k < closedCount; k++) {
+            Segment s = segments.get(k);
+            for (int j = 0; j < deleted.get(k).size(); j++) {
+                tombstone(s, deleted.get(k).get(j), deletedEntries.get(k).get(j));
+            }
+            if (s.tombstones.size() * COMPACT_DIVISOR >= s.records && !s.tombstones.isEmpty()) {
+                if (s.live == null) {
+                    load(s);
+                }
+                written += writeSegment(s, s.live, format, compress, durable);
+            }
+        }
+        if (tailChanged) {
+            written += writeTail(tail, format, compress, durable);
+        }
+        written += writeManifest(durable, beforeCommit);
+        deleteUnlisted();
+        return written;
+    }
+
+    /**
+     * Tombstones the record holding the {@code position}-th live entry of {@code s}, {@code entry},
+     * working it out from the tombstones if the file has not been read.
+     */
+    private static void tombstone(Segment s, int position, Entry entry) {
+        if (s.totals != null) {
+            s.totals = s.totals.without(entry);
+        }
+        if (s.live != null) {
+            s.live.remove(position);
+            s.tombstones.add(s.liveRecords.remove(position));
+            return;
+        }
+        int record = -1;
+        int left = position;
+        while (left >= 0) {
+            record++;
+            if (!s.tombstones.contains(record)) {
+                left--;
+            }
+        }
+        s.tombstones.add(record);
+    }
+
+    private void ensureKnown() throws IOException {
+        if (!known) {
+            if (exists()) {
+                readManifest();
+            } else {
+                segments.clear();
+                goal = null;
+                known = true;
+            }
+        }
+    }
+
+    /**
+     * Walks the closed segments alongside {@code entries}, tombstoning closed entries that are
+     * missing from it.
+     *
+     * @return index in {@code entries} of the first entry after the closed segments, or -1 if
+     *         every segment should be rewritten instead
+     */
+    private int matchClosed(List<Entry> entries, StorageFormat format) throws IOException {
+        int closedLive = 0;
+        for (Segment s : segments) {
+            if (s.format() != format) {
+                return -1;
+            }
+            if (s.closed && s.live == null) {
+                load(s);
+            }
+            if (s.closed) {
+                closedLive += s.live.size();
+            }
+        }
+
+        List<List<Integer>> deleted = new ArrayList<>();
+        int missing = 0;
+        int i = 0;
+        for (Segment s : segments) {
+            List<Integer> gone = new ArrayList<>();
+            deleted.add(gone);
+            if (!s.closed) {
+                continue;
+            }
+            for (int j = 0; j < s.live.size(); j++) {
+                if (i < entries.size() && entries.get(i) == s.live.get(j)) {
+                    i++;
+                } else {
+                    gone.add(j);
+                    missing++;
+                }
+            }
+        }
+        if (missing * 2 > closedLive) {
+            return -1;
+        }
+
+        for (int k = 0; k < segments.size(); k++) {
+            List<Integer> gone = deleted.get(k);
+            if (gone.isEmpty()) {
+                continue;
+            }
+            Segment s = segments.get(k);
+            List<Entry> live = new ArrayList<>(s.live.size() - gone.size());
+            List<Integer> liveRecords = new ArrayList<>(live.size());
+            Set<Integer> goneSet = new HashSet<>(gone);
+            for (int j = 0; j < s.live.size(); j++) {
+                if (goneSet.contains(j)) {
+                    s.tombstones.add(s.liveRecords.get(j));
+                    s.totals = s.totals.without(s.live.get(j));
+                } else {
+                    live.add(s.live.get(j));
+                    liveRecords.add(s.liveRecords.get(j));
+                }
+            }
+            s.live = live;
+            s.liveRecords = liveRecords;
+        }
+        return i;
+    }
+
+    /**
+     * Writes the entries after the closed segments: the rest of the open segment's month goes into
+     * a new open segment file, and each later month starts a new segment, closing the one before.
+     */
+    private long writeTail(List<Entry> tail, StorageFormat format, boolean compress, boolean durable)
+            throws IOException {
+        Segment open = segments.isEmpty() || segments.get(segments.size() - 1).closed
+                ? null : segments.remove(segments.size() - 1);
+        if (tail.isEmpty() && open == null) {
+            return 0;
+        }
+
+        List<Segment> months = new ArrayList<>();
+        List<List<Entry>> runs = new ArrayList<>();
+        YearMonth month = open == null ? null : open.month;
+        List<Entry> run = new ArrayList<>();
+        for (Entry e : tail) {
+            if (e instanceof TimestampedEntry te) {
+                YearMonth m = YearMonth.from(te.timestamp());
+                if (month == null) {
+                    month = m;
+                } else if (m.isAfter(month)) {
+                    months.add(new Segment(month));
+                    runs.add(run);
+                    run = new ArrayList<>();
+                    month = m;
+                }
+            }
+            run.add(e);
+        }
+        months.add(new Segment(month == null ? YearMonth.now() : month));
+        runs.add(run);
+
+        long written = 0;
+        for (int k = 0; k < months.size(); k++) {
+            Segment s = months.get(k);
+            s.closed = k < months.size() - 1;
+            written += writeSegment(s, runs.get(k), format, compress && s.closed, durable);
+            segments.add(s);
+        }
+        return written;
+    }
+
+    /**
+     * Writes {@code entries} to a new file for {@code s} and makes them its only records.
+     *
+     * @return number of bytes written
+     */
+    private long writeSegment(Segment s, List<Entry> entries, StorageFormat format, boolean compress,
+            boolean durable) throws IOException {
+        String name = s.month + "." + nextGeneration++ + (format == StorageFormat.BINARY ? ".bin" : ".txt")
+                + (compress ? GZIP_SUFFIX : "");
+        long written;
+        try (FileChannel ch = FileChannel.open(dir.resolve(name), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream raw = Channels.newOutputStream(ch);
+            OutputStream out = compress ? new GZIPOutputStream(raw, BUFFER_SIZE)
+                    : new BufferedOutputStream(raw, BUFFER_SIZE);
+            if (format == StorageFormat.BINARY) {
+                BinaryFormat.write(out, null, entries);
+            } else {
+                BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                for (Entry e : entries) {
+                    bw.write(e.toStorageString());
+                    bw.newLine();
+                }
+                bw.flush();
+            }
+            if (out instanceof GZIPOutputStream gz) {
+                gz.finish();
+            }
+            out.flush();
+            if (durable) {
+                ch.force(false);
+            }
+            written = ch.size();
+        }
+        s.fileName = name;
+        s.records = entries.size();
+        s.tombstones.clear();
+        s.totals = DailyRollups.Totals.of(entries);
+        s.live = new ArrayList<>(entries);
+        s.liveRecords = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            s.liveRecords.add(i);
+        }
+        return written;
+    }
+
+    /**
+     * Replaces the manifest with one listing the current segments, through a temp file.
+     *
+     * @return number of bytes written
+     */
+    private long writeManifest(boolean durable, BeforeCommit beforeCommit) throws IOException {
+        Files.createDirectories(dir);
+        List<String> lines = new ArrayList<>(segments.size() + 2);
+        lines.add(MANIFEST_HEADER + MANIFEST_VERSION + "|" + nextGeneration);
+        if (goal != null) {
+            lines.add(Storage.GOAL_PREFIX + goal);
+        }
+        for (Segment s : segments) {
+            StringBuilder tombstones = new StringBuilder();
+            for (int t : s.tombstones) {
+                if (tombstones.length() > 0) {
+                    tombstones.append(',');
+                }
+                tombstones.append(t);
+            }
+            lines.add(SEGMENT_PREFIX + s.month + "|" + (s.closed ? CLOSED : OPEN) + "|" + s.fileName
+                    + "|" + s.records + "|" + tombstones + "|"
+                    + (s.totals == null ? "" : s.totals.toStorageString()));
+        }
+
+        Path tmp = commitTmp();
+        long written;
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            BufferedWriter bw = new BufferedWriter(Channels.newWriter(ch, StandardCharsets.UTF_8));
+            for (String line : lines) {
+                bw.write(line);
+                bw.newLine();
+            }
+            bw.flush();
+            if (durable) {
+                ch.force(false);
+            }
+            written = ch.size();
+        }
+        beforeCommit.run();
+        Files.move(tmp, manifest(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    /**
+     * Deletes segment files that the manifest no longer names.
+     */
+    private void deleteUnlisted() throws IOException {
+        Set<String> listed = new HashSet<>();
+        for (Segment s : segments) {
+            listed.add(s.fileName);
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path f : files) {
+                String name = f.getFileName().toString();
+                if (SEGMENT_FILE.matcher(name).matches() && !listed.contains(name)) {
+                    Files.deleteIfExists(f);
+                }
+            }
+        }
+    }
+
+    private void load(Segment s) throws IOException {
+        Path path = dir.resolve(s.fileName);
+        byte[] bytes = Files.readAllBytes(path);
+        metrics.addBytesRead(bytes.length);
+        if (s.fileName.endsWith(GZIP_SUFFIX)) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes), BUFFER_SIZE)) {
+                bytes = in.readAllBytes();
+            }
+        }
+
+        List<Entry> records = new ArrayList<>();
+        // Record number of each decoded entry: bad lines are skipped but still count, so that
+        // tombstones keep pointing at the records they were written for
+        List<Integer> numbers = new ArrayList<>();
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        if (s.format() == StorageFormat.BINARY) {
+            BinaryFormat.read(data, records::add, unread -> warnings.accept(
+                    "Skipping " + unread + " unreadable bytes at the end of " + s.fileName));
+            for (int i = 0; i < records.size(); i++) {
+                numbers.add(i); // decoding stops at the first bad record, so nothing before it moves
+            }
+        } else {
+            ParallelTextLoader.Chunk chunk = ParallelTextLoader.decode(data, 0, data.limit());
+            records.addAll(chunk.entries);
+            int bad = 0;
+            for (int i = 0; i < records.size(); i++) {
+                while (bad < chunk.badLineNumbers.size() && chunk.badLineNumbers.get(bad) <= i + bad) {
+                    bad++;
+                }
+                numbers.add(i + bad);
+            }
+            for (String line : chunk.badLines) {
+                warnings.accept("Skipping bad line in " + s.fileName + ": " + line);
+            }
+        }
+        metrics.addLinesParsed(records.size());
+
+        s.live = new ArrayList<>(records.size());
+        s.liveRecords = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (!s.tombstones.contains(numbers.get(i))) {
+                s.live.add(records.get(i));
+                s.liveRecords.add(numbers.get(i));
+            }
+        }
+        s.totals = DailyRollups.Totals.of(s.live);
+    }
+
+    private static Segment parseSegment(String line) throws IOException {
+        String[] parts = line.split("\\|", -1);
+        if ((parts.length != 6 && parts.length != 7) || !(parts[2].equals(CLOSED) || parts[2].equals(OPEN))
+                || !SEGMENT_FILE.matcher(parts[3]).matches()) {
+            throw new IOException("Bad segment manifest line: " + line);
+        }
+        Segment s;
+        try {
+            s = new Segment(YearMonth.parse(parts[1]));
+        } catch (DateTimeParseException e) {
+            throw new IOException("Bad segment manifest line: " + line, e);
+        }
+        s.closed = parts[2].equals(CLOSED);
+        s.fileName = parts[3];
+        s.records = (int) parseNumber(parts[4], line);
+        if (!parts[5].isEmpty()) {
+            for (String t : parts[5].split(",")) {
+                s.tombstones.add((int) parseNumber(t, line));
+            }
+        }
+        if (parts.length == 7 && !parts[6].isEmpty()) {
+            try {
+                s.totals = DailyRollups.Totals.fromStorageString(parts[6]);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Bad segment manifest line: " + line, e);
+            }
+        }
+        return s;
+    }
+
+    private static long parseNumber(String value, String line) throws IOException {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Bad segment manifest line: " + line, e);
+        }
+    }
+}
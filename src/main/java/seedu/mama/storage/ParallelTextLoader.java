@@ -0,0 +1,183 @@
+package seedu.mama.storage;
+
+import seedu.mama.model.Entry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Decodes a text snapshot on several threads.
+ * <p>
+ * The file is memory-mapped and cut into chunks that end just after a newline, and each chunk is
+ * parsed with {@link Entry#fromStorageString} as a task on a {@link ForkJoinPool}. Results are
+ * handed back chunk by chunk in file order while later chunks are still being decoded, so the
+ * caller sees the same entries, bad lines and goal line, in the same order, as a sequential read.
+ * <p>
+ * On Windows a mapped file cannot be replaced until the mapping is garbage collected, which would
+ * break the rename that every snapshot rewrite ends with, so there the file is read into memory
+ * with one bulk read instead.
+ */
+final class ParallelTextLoader {
+    static final int DEFAULT_CHUNK_BYTES = 256 * 1024;
+
+    private static final boolean MAP_FILES =
+            !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    private final ForkJoinPool pool;
+    private final int chunkBytes;
+
+    ParallelTextLoader(ForkJoinPool pool, int chunkBytes) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("chunkBytes must be positive");
+        }
+        this.pool = pool;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * What the loader found besides the entries themselves.
+     */
+    static final class Result {
+        /**
+         * First calorie goal line in the file, or null if there was none.
+         */
+        final String goalLine;
+        /**
+         * Number of non-goal lines, good or bad.
+         */
+        final long lines;
+
+        private Result(String goalLine, long lines) {
+            this.goalLine = goalLine;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * Decodes {@code file}, passing every entry to {@code entries} and every line that fails to
+     * parse to {@code badLines}, both in file order and on the calling thread.
+     *
+     * @throws IOException if the file cannot be mapped, e.g. because it is larger than 2 GB
+     */
+    Result load(Path file, Consumer<Entry> entries, Consumer<String> badLines) throws IOException {
+        List<ForkJoinTask<Chunk>> tasks = new ArrayList<>();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + size + " bytes");
+            }
+            ByteBuffer data = MAP_FILES
+                    ? ch.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : readFully(ch, (int) size);
+            int start = 0;
+            while (start < size) {
+                int end = chunkEnd(data, start);
+                int from = start;
+                tasks.add(pool.submit(() -> decode(data, from, end)));
+                start = end;
+            }
+        }
+
+        String goalLine = null;
+        long lines = 0;
+        for (ForkJoinTask<Chunk> task : tasks) {
+            Chunk chunk = task.join();
+            if (goalLine == null) {
+                goalLine = chunk.goalLine;
+            }
+            chunk.entries.forEach(entries);
+            chunk.badLines.forEach(badLines);
+            lines += chunk.lines;
+        }
+        return new Result(goalLine, lines);
+    }
+
+    /**
+     * End of the chunk starting at {@code start}: just past the first newline at or after
+     * {@code start + chunkBytes - 1}, or the end of the file.
+     */
+    private int chunkEnd(ByteBuffer data, int start) {
+        int limit = data.limit();
+        int end = (int) Math.min(limit, (long) start + chunkBytes);
+        while (end < limit && data.get(end - 1) != '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    private static ByteBuffer readFully(FileChannel ch, int size) throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(size);
+        while (data.hasRemaining()) {
+            if (ch.read(data) < 0) {
+                break; // file shrank since its size was taken
+            }
+        }
+        data.flip();
+        return data;
+    }
+
+    /**
+     * Parses the lines in {@code data[start, end)}. Absolute reads only, so chunks can share {@code data}.
+     */
+    static Chunk decode(ByteBuffer data, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        data.get(start, bytes);
+
+        Chunk chunk = new Chunk();
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b == '\n' || b == '\r') {
+                chunk.accept(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                if (b == '\r' && i + 1 < bytes.length && bytes[i + 1] == '\n') {
+                    i++;
+                }
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < bytes.length) {
+            chunk.accept(new String(bytes, lineStart, bytes.length - lineStart, StandardCharsets.UTF_8));
+        }
+        return chunk;
+    }
+
+    /**
+     * Decoded contents of one chunk, in the order the lines appear.
+     */
+    static final class Chunk {
+        final List<Entry> entries = new ArrayList<>();
+        final List<String> badLines = new ArrayList<>();
+        /**
+         * Zero-based number of each bad line among the non-goal lines of the chunk, ascending.
+         */
+        final List<Integer> badLineNumbers = new ArrayList<>();
+        String goalLine;
+        long lines;
+
+        private void accept(String line) {
+            if (line.startsWith(Storage.GOAL_PREFIX)) {
+                if (goalLine == null) {
+                    goalLine = line;
+                }
+                return; // goal is not an entry
+            }
+            lines++;
+            try {
+                entries.add(Entry.fromStorageString(line));
+            } catch (IllegalArgumentException ex) {
+                badLines.add(line);
+                badLineNumbers.add((int) (lines - 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.mama.storage;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
+
+import java.util.List;
+
+/**
+ * One unit of disk work planned by {@link Storage#save} on the caller's thread.
+ * <p>
+ * Everything needed is captured up front, so whoever performs the write never has to read
+ * the (non thread-safe) {@link seedu.mama.model.EntryList}. A snapshot holds its own copy of
+ * the entry list, and a delta its own copy of the changes; entries are immutable, so they can be
+ * encoded in either storage format on the writer's thread.
+ */
+final class PendingWrite {
+    private final List<Entry> entries;
+    private final List<EntryChange> changes;
+    private final List<String> records;
+
+    private PendingWrite(List<Entry> entries, List<EntryChange> changes, List<String> records) {
+        this.entries = entries;
+        this.changes = changes;
+        this.records = records;
+    }
+
+    /**
+     * Journal records to append.
+     */
+    static PendingWrite append(List<String> records) {
+        return new PendingWrite(null, null, records);
+    }
+
+    /**
+     * Full snapshot of every entry; the goal is added when it is written. Supersedes every
+     * write planned before it.
+     */
+    static PendingWrite snapshot(List<Entry> entries) {
+        return new PendingWrite(entries, null, List.of());
+    }
+
+    /**
+     * Changes to apply to the monthly segments, including every one journalled since they were last
+     * written, so it also supersedes the journal appends planned before it.
+     */
+    static PendingWrite delta(List<EntryChange> changes) {
+        return new PendingWrite(null, changes, List.of());
+    }
+
+    boolean isSnapshot() {
+        return entries != null;
+    }
+
+    boolean isDelta() {
+        return changes != null;
+    }
+
+    /**
+     * Entries of a snapshot, or null for an append.
+     */
+    List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * Changes of a delta, or null otherwise.
+     */
+    List<EntryChange> changes() {
+        return changes;
+    }
+
+    /**
+     * Journal records of an append; empty otherwise.
+     */
+    List<String> records() {
+        return records;
+    }
+}
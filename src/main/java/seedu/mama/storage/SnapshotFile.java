@@ -0,0 +1,328 @@
+package seedu.mama.storage;
+
+import seedu.mama.metrics.StorageEvent;
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
+import seedu.mama.model.EntryList;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The whole entry list and the calorie goal in one file, as pipe-delimited text or in the
+ * {@link BinaryFormat}. The format of an existing file is detected when it is read.
+ * <p>
+ * Large text files are decoded on several threads by {@link ParallelTextLoader}, or, with a lazy
+ * window, read backwards by {@link TextSegments} until the window is covered. The file is only
+ * ever rewritten whole, so {@link #apply} always fails.
+ */
+final class SnapshotFile implements SnapshotStore {
+    private final Path file;
+    private final StorageMetrics metrics;
+    private ForkJoinPool loadPool = ForkJoinPool.commonPool();
+    private long parallelLoadThreshold = Storage.DEFAULT_PARALLEL_LOAD_THRESHOLD;
+    /**
+     * Days decoded at startup when loading lazily; 0 loads everything.
+     */
+    private int lazyWindowDays;
+    private long lazyLoadThreshold = Storage.DEFAULT_LAZY_LOAD_THRESHOLD;
+    private StorageFormat format;
+
+    SnapshotFile(Path file, StorageMetrics metrics) {
+        this.file = file;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Decodes text files of at least {@code thresholdBytes} on {@code pool}.
+     */
+    void setParallelLoad(ForkJoinPool pool, long thresholdBytes) {
+        this.loadPool = Objects.requireNonNull(pool);
+        this.parallelLoadThreshold = thresholdBytes;
+    }
+
+    /**
+     * Decodes only the last {@code windowDays} days of text files of at least {@code thresholdBytes}.
+     */
+    void setLazyLoad(int windowDays, long thresholdBytes) {
+        this.lazyWindowDays = windowDays;
+        this.lazyLoadThreshold = thresholdBytes;
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    @Override
+    public Path commitTmp() {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    @Override
+    public Path goalFile() {
+        return file;
+    }
+
+    @Override
+    public StorageFormat format() {
+        return format;
+    }
+
+    @Override
+    public Integer readInto(EntryList list, StorageEvent event) throws IOException {
+        if (BinaryFormat.isBinary(file)) {
+            format = StorageFormat.BINARY;
+            return readBinary(list, event);
+        }
+        format = StorageFormat.TEXT;
+        return readText(list, event);
+    }
+
+    /**
+     * Reads the text file into {@code list}.
+     *
+     * @return the calorie goal from the first goal line, or null if there is none
+     */
+    private Integer readText(EntryList list, StorageEvent event) throws IOException {
+        long size = Files.size(file);
+        if (lazyWindowDays > 0 && size >= lazyLoadThreshold) {
+            return readTextLazily(list, event);
+        }
+        metrics.addBytesRead(size);
+        event.bytesRead += size;
+        if (size >= parallelLoadThreshold && size <= Integer.MAX_VALUE && loadPool.getParallelism() > 1) {
+            return readTextParallel(list, event);
+        }
+        Integer goal = null;
+        boolean goalSeen = false;
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            String line;
+            long parsed = 0;
+
+            while ((line = br.readLine()) != null) {
+
+                if (line.startsWith(Storage.GOAL_PREFIX)) {
+                    if (!goalSeen) {
+                        goal = parseGoalLine(line);
+                        goalSeen = true;
+                    }
+                    continue; // goal is not an entry
+                }
+
+                parsed++;
+                try {
+                    list.add(Entry.fromStorageString(line));
+                } catch (IllegalArgumentException ex) {
+                    event.badLines++;
+                    System.err.println("Skipping bad line in storage: " + line);
+                }
+            }
+            metrics.addLinesParsed(parsed);
+            event.lines += parsed;
+        }
+        return goal;
+    }
+
+    /**
+     * Reads the text file into {@code list} with a {@link ParallelTextLoader}; same result as
+     * {@link #readText}, including the order of bad-line reports.
+     */
+    private Integer readTextParallel(EntryList list, StorageEvent event) throws IOException {
+        ParallelTextLoader loader = new ParallelTextLoader(loadPool, ParallelTextLoader.DEFAULT_CHUNK_BYTES);
+        ParallelTextLoader.Result result = loader.load(file, list::add, line -> {
+            event.badLines++;
+            System.err.println("Skipping bad line in storage: " + line);
+        });
+        metrics.addLinesParsed(result.lines);
+        event.lines += result.lines;
+        return result.goalLine == null ? null : parseGoalLine(result.goalLine);
+    }
+
+    /**
+     * Reads the recent segments of the text file into {@code list}, newest last, until one
+     * reaches back before the lazy window, and leaves the rest to {@code list}'s history. Bad lines
+     * are reported a segment at a time, newest segment first.
+     *
+     * @return the calorie goal from the first line, or null if it is not a goal line
+     */
+    private Integer readTextLazily(EntryList list, StorageEvent event) throws IOException {
+        long bytesBefore = metrics.bytesRead();
+        long linesBefore = metrics.linesParsed();
+        TextSegments segments = new TextSegments(file, TextSegments.DEFAULT_SEGMENT_BYTES, metrics, line -> {
+            event.badLines++;
+            System.err.println("Skipping bad line in storage: " + line);
+        });
+        LocalDateTime windowStart = LocalDate.now().minusDays(lazyWindowDays).atStartOfDay();
+        List<List<Entry>> recent = new ArrayList<>();
+        boolean covered = false;
+        while (!covered && segments.hasOlder()) {
+            List<Entry> segment = segments.older();
+            recent.add(segment);
+            covered = SnapshotStore.startsBefore(segment, windowStart);
+        }
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            recent.get(i).forEach(list::add);
+        }
+        if (segments.hasOlder()) {
+            list.setHistory(segments);
+        }
+        event.bytesRead += metrics.bytesRead() - bytesBefore;
+        event.lines += metrics.linesParsed() - linesBefore;
+
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            String first = br.readLine();
+            return first != null && first.startsWith(Storage.GOAL_PREFIX) ? parseGoalLine(first) : null;
+        }
+    }
+
+    /**
+     * Reads the binary file into {@code list}.
+     *
+     * @return the calorie goal from the header, or null if there is none
+     */
+    private Integer readBinary(EntryList list, StorageEvent event) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        metrics.addBytesRead(data.limit());
+        event.bytesRead += data.limit();
+        long records = BinaryFormat.read(data, list::add, unread -> {
+            event.badLines++;
+            System.err.println("Skipping " + unread + " unreadable bytes at the end of storage");
+        });
+        metrics.addLinesParsed(records);
+        event.lines += records;
+        return BinaryFormat.readGoal(data);
+    }
+
+    @Override
+    public Integer readGoal() throws IOException {
+        if (BinaryFormat.isBinary(file)) {
+            metrics.addBytesRead(BinaryFormat.HEADER_SIZE);
+            return BinaryFormat.readGoal(file);
+        }
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                metrics.addBytesRead(line.length() + 1);
+                if (line.startsWith(Storage.GOAL_PREFIX)) {
+                    return parseGoalLine(line);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long write(List<Entry> entries, Integer goal, StorageFormat format, boolean durable,
+            BeforeCommit beforeCommit) throws IOException {
+        Path tmp = commitTmp();
+        long written;
+        if (format == StorageFormat.BINARY) {
+            written = BinaryFormat.write(tmp, goal, entries, durable);
+        } else {
+            List<String> lines = new ArrayList<>(entries.size() + 1);
+            if (goal != null) {
+                lines.add(Storage.GOAL_PREFIX + goal);
+            }
+            for (Entry e : entries) {
+                lines.add(e.toStorageString());
+            }
+            written = writeLines(tmp, lines, false, durable);
+        }
+        beforeCommit.run();
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    @Override
+    public long apply(List<EntryChange> changes, Integer goal, StorageFormat format, boolean durable,
+            BeforeCommit beforeCommit) throws IOException {
+        throw new IOException("A snapshot file can only be rewritten whole");
+    }
+
+    /**
+     * Writes the goal in place in a binary file, or rewrites the text file with the goal line at the top.
+     */
+    @Override
+    public void writeGoal(int goal, StorageFormat format, StorageEvent event) throws IOException {
+        if (BinaryFormat.isBinary(file)) {
+            BinaryFormat.writeGoal(file, goal);
+            event.bytesWritten = Integer.BYTES;
+        } else if (!Files.exists(file) && format == StorageFormat.BINARY) {
+            event.bytesWritten = BinaryFormat.write(file, goal, List.of(), false);
+        } else {
+            writeTextGoal(goal, event);
+        }
+    }
+
+    private void writeTextGoal(int goal, StorageEvent event) throws IOException {
+        List<String> lines = new ArrayList<>();
+
+        if (Files.exists(file)) {
+            event.bytesRead = Files.size(file);
+            lines = Files.readAllLines(file);
+            lines.removeIf(line -> line.startsWith(Storage.GOAL_PREFIX));
+        }
+
+        lines.add(0, Storage.GOAL_PREFIX + goal);
+        Path tmp = commitTmp();
+        event.bytesWritten = writeLines(tmp, lines, false, false);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        event.lines = lines.size();
+    }
+
+    static Integer parseGoalLine(String line) {
+        String[] parts = line.split("\\|");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            System.err.println("Failed to load calorie goal: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes {@code lines} to {@code target}.
+     *
+     * @return number of bytes written
+     */
+    static long writeLines(Path target, List<String> lines, boolean append, boolean durable) throws IOException {
+        StandardOpenOption mode = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        try (FileChannel ch = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            long before = ch.size();
+            BufferedWriter bw = new BufferedWriter(Channels.newWriter(ch, StandardCharsets.UTF_8));
+            for (String line : lines) {
+                bw.write(line);
+                bw.newLine();
+            }
+            bw.flush();
+            if (durable) {
+                ch.force(false);
+            }
+            return ch.size() - before;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.mama.storage;
+
+import seedu.mama.metrics.StorageEvent;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.TimestampedEntry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Where a {@link Storage} keeps its entries and calorie goal between journal folds: one
+ * {@link SnapshotFile} or {@link MonthlySegments}.
+ * <p>
+ * Either store replaces what it holds by writing a temp file ({@link #commitTmp()}) and moving it
+ * into place atomically, and runs a {@link BeforeCommit} just before that move, which is when the
+ * {@link Journal} it folds is moved aside.
+ */
+interface SnapshotStore {
+
+    /**
+     * Work done once the new data is in its temp file, just before it replaces the old one.
+     */
+    @FunctionalInterface
+    interface BeforeCommit {
+        BeforeCommit NONE = () -> { };
+
+        void run() throws IOException;
+    }
+
+    boolean exists();
+
+    /**
+     * Temp file a write is committed from; it exists from then until the move that commits it.
+     */
+    Path commitTmp();
+
+    /**
+     * File the calorie goal is kept in, whose size and modification time tell if a cached goal is current.
+     */
+    Path goalFile();
+
+    /**
+     * Reads the stored entries into {@code list}, oldest first. Entries left on disk by a lazy load
+     * become {@code list}'s history.
+     *
+     * @return the calorie goal, or null if none is set
+     */
+    Integer readInto(EntryList list, StorageEvent event) throws IOException;
+
+    /**
+     * Format found by the last {@link #readInto}, or null if it could not tell.
+     */
+    StorageFormat format();
+
+    /**
+     * Reads just the calorie goal, or null if none is set.
+     */
+    Integer readGoal() throws IOException;
+
+    /**
+     * Replaces what is stored with {@code entries}, the whole list in order, and {@code goal}.
+     *
+     * @return number of bytes written
+     */
+    long write(List<Entry> entries, Integer goal, StorageFormat format, boolean durable, BeforeCommit beforeCommit)
+            throws IOException;
+
+    /**
+     * Persists just {@code changes}, made since the last read or write to the list this store holds,
+     * with {@code goal}.
+     *
+     * @return number of bytes written
+     * @throws IOException if the changes cannot be applied here, in which case nothing is changed, or if
+     *                     a write fails
+     */
+    long apply(List<EntryChange> changes, Integer goal, StorageFormat format, boolean durable,
+            BeforeCommit beforeCommit) throws IOException;
+
+    /**
+     * Replaces just the calorie goal, creating an empty store in {@code format} if there is none yet.
+     * Bytes read and written are added to {@code event}.
+     */
+    void writeGoal(int goal, StorageFormat format, StorageEvent event) throws IOException;
+
+    /**
+     * True if the first timestamped entry of {@code segment} is before {@code time}.
+     */
+    static boolean startsBefore(List<Entry> segment, LocalDateTime time) {
+        for (Entry e : segment) {
+            if (e instanceof TimestampedEntry te) {
+                return te.timestamp().isBefore(time);
+            }
+        }
+        return false;
+    }
+}
@@ -1,23 +1,172 @@
 package seedu.mama.storage;
 
+import seedu.mama.metrics.StorageEvent;
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.CalorieGoalEntry;
 import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
 import seedu.mama.model.EntryList;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Loads and saves the {@link EntryList} to a pipe-delimited text file or, optionally, a compact
+ * binary file (see {@link StorageFormat}).
+ * <p>
+ * The format of an existing file is detected when it is read and kept on every rewrite;
+ * {@link #migrate(StorageFormat)} converts it in one go. Large text snapshots are decoded on
+ * several threads by {@link ParallelTextLoader}.
+ * <p>
+ * The list this storage loaded or last wrote records what changed since it was persisted (see
+ * {@link EntryChange}), and saving it writes only that change set where it can. In journal mode,
+ * {@link #save(EntryList)} appends one record per add, delete or goal change to the {@link Journal}
+ * instead of rewriting the whole file. Once the journal holds {@code compactThreshold} records it is
+ * folded back into the {@link SnapshotStore}: the {@link SnapshotFile} or, with monthly segments,
+ * the {@link MonthlySegments}. Segments take the change set (without a journal) or the journal (when
+ * folded) as a delta, so the whole snapshot is only rewritten for a list that was not loaded from
+ * here, a format migration, or after a delta failed.
+ * <p>
+ * In write-behind mode ({@link #startWriteBehind()}), saves are planned on the caller's thread
+ * and handed to a background writer that coalesces bursts into one write and one fsync;
+ * {@link #flush()} and {@link #close()} wait for everything queued to reach the disk.
+ * <p>
+ * Bytes read and written, lines parsed and write durations are counted in {@link #metrics()}; loads
+ * and disk writes are also emitted as JFR {@link StorageEvent}s.
+ */
 public class Storage {
+    public static final int DEFAULT_COMPACT_THRESHOLD = 500;
+    /**
+     * Text snapshots at least this large are decoded by {@link ParallelTextLoader}.
+     */
+    public static final long DEFAULT_PARALLEL_LOAD_THRESHOLD = 1L << 20;
+    /**
+     * Days of entries decoded at startup when a lazy window is opted into; older ones stay on disk until needed.
+     */
+    public static final int DEFAULT_LAZY_WINDOW_DAYS = 30;
+    /**
+     * Text snapshots smaller than this are always loaded in full.
+     */
+    public static final long DEFAULT_LAZY_LOAD_THRESHOLD = 1L << 20;
+
+    static final String GOAL_PREFIX = "CALORIE_GOAL|";
+
     private final Path file;
+    private final boolean journalled;
+    private final int compactThreshold;
+    /**
+     * Format of the snapshot file; read by the writer thread when it rewrites the snapshot.
+     */
+    private volatile StorageFormat format;
+    private final SnapshotFile snapshotFile;
+    /**
+     * Monthly segment files next to {@link #file}; used once their manifest exists or {@link #monthly} is set.
+     */
+    private final MonthlySegments segments;
+    /**
+     * True to write snapshots as monthly segments, converting a single-file snapshot on its next rewrite.
+     */
+    private volatile boolean monthly;
+    private final Journal journal;
+
+    /**
+     * List whose state matches snapshot + journal on disk; other lists are saved by full rewrite.
+     */
+    private EntryList attached;
+    /**
+     * Journal records planned since the last planned rewrite or fold; decides when to compact.
+     */
+    private int plannedRecords;
+    /**
+     * Changes journalled since the monthly segments were last written; folded into them on compaction.
+     */
+    private final List<EntryChange> unfolded = new ArrayList<>();
+    /**
+     * Number of writes that failed; each one leaves changes of {@link #attached} off the disk.
+     */
+    private volatile long failedWrites;
+    /**
+     * {@link #failedWrites} when the last full rewrite was planned; while they differ, every save
+     * rewrites the whole snapshot instead of writing a delta.
+     */
+    private long failedWritesSeen;
+    /**
+     * True from a failed write until a full rewrite succeeds; journal appends and deltas are
+     * skipped meanwhile, since they would apply to a disk state that is missing changes.
+     */
+    private boolean diskStale;
+    /**
+     * True once the snapshot file exists or a write that creates it has been planned.
+     */
+    private boolean snapshotExists;
+    /**
+     * When true, {@link #save(EntryList)} leaves changes pending for the next {@link #checkpoint(EntryList)}.
+     */
+    private boolean deferred;
+
+    /**
+     * Background writer in write-behind mode; null while saves write synchronously.
+     */
+    private WriteBehindWriter writer;
+    /**
+     * Closes the storage when the JVM exits (Ctrl-C, SIGTERM) while in write-behind mode, so the daemon
+     * writer's queue is not lost; null otherwise.
+     */
+    private Thread shutdownHook;
+    /**
+     * Guards the files and the goal cache, which the writer thread also touches.
+     */
+    private final Object diskLock = new Object();
+    private final StorageMetrics metrics = new StorageMetrics();
+
+    /**
+     * Calorie goal as last read or written by this process; valid while the file stamp is unchanged.
+     */
+    private Integer cachedGoal;
+    private boolean goalCached;
+    private FileTime goalStampTime;
+    private long goalStampSize;
 
     public Storage(Path file) {
+        this(file, false, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that optionally journals mutations.
+     *
+     * @param file             snapshot file
+     * @param journalled       true to append add/delete records instead of rewriting on every save
+     * @param compactThreshold number of journal records after which the journal is folded into the snapshot
+     */
+    public Storage(Path file, boolean journalled, int compactThreshold) {
+        this(file, journalled, compactThreshold, StorageFormat.TEXT);
+    }
+
+    /**
+     * Creates a storage that optionally journals mutations and creates new files in {@code format}.
+     * An existing file keeps its own format until {@link #migrate(StorageFormat)} is called.
+     */
+    public Storage(Path file, boolean journalled, int compactThreshold, StorageFormat format) {
+        if (compactThreshold <= 0) {
+            throw new IllegalArgumentException("compactThreshold must be positive");
+        }
         this.file = file;
+        this.journalled = journalled;
+        this.compactThreshold = compactThreshold;
+        this.format = Objects.requireNonNull(format);
+        this.snapshotFile = new SnapshotFile(file, metrics);
+        this.segments = new MonthlySegments(file == null ? null : file.resolveSibling(file.getFileName() + ".segments"),
+                metrics, System.err::println);
+        this.journal = file == null ? null : new Journal(file.resolveSibling(file.getFileName() + ".journal"),
+                List.of(snapshotFile.commitTmp(), segments.commitTmp()), metrics);
     }
 
     public static Storage defaultStorage() {
@@ -27,107 +176,587 @@ public class Storage {
         } catch (IOException e) {
             System.err.println("Failed to create data directory: " + e.getMessage());
         }
-        return new Storage(dir.resolve("mama.txt"));
+        return new Storage(dir.resolve("mama.txt"), true, DEFAULT_COMPACT_THRESHOLD);
     }
 
-    public EntryList loadOrEmpty() {
-        EntryList list = new EntryList();
-        try {
-            if (!Files.exists(file)) {
-                // No data file yet → start with an empty list
-                return list;
+    public boolean isJournalled() {
+        return journalled;
+    }
+
+    /**
+     * Decodes text snapshots of at least {@code thresholdBytes} on {@code pool}; smaller files, and
+     * any file when the pool has a single thread, are read sequentially.
+     */
+    public void setParallelLoad(ForkJoinPool pool, long thresholdBytes) {
+        snapshotFile.setParallelLoad(pool, thresholdBytes);
+    }
+
+    /**
+     * Decodes only the entries of the last {@code windowDays} days, plus the rest of the segment the
+     * oldest of them is in, when loading a text snapshot of at least {@code thresholdBytes}. The
+     * older entries are decoded when the loaded list first needs them; see
+     * {@link EntryList#setHistory}. A {@code windowDays} of 0 always loads everything.
+     * <p>
+     * This relies on entries being stored in time order, which is how they are added, and on the
+     * goal line, if any, being the first line, which is where it is written. Off by default.
+     */
+    public void setLazyLoad(int windowDays, long thresholdBytes) {
+        if (windowDays < 0) {
+            throw new IllegalArgumentException("windowDays must not be negative");
+        }
+        snapshotFile.setLazyLoad(windowDays, thresholdBytes);
+        segments.setLazyWindow(windowDays);
+    }
+
+    /**
+     * Keeps entries in monthly segment files under {@code <file>.segments} instead of one snapshot
+     * file, so that a rewrite only touches the current month; see {@link MonthlySegments}. An
+     * existing single-file snapshot is converted when it is loaded. Segments are loaded lazily
+     * whenever a lazy window is set, whatever their size. Off by default; a store that already has
+     * segments is loaded from them either way.
+     *
+     * @param compressClosed true to gzip the segments of past months as they are closed or compacted
+     */
+    public void setMonthlySegments(boolean compressClosed) {
+        this.monthly = true;
+        segments.setCompressClosed(compressClosed);
+    }
+
+    /**
+     * True if entries are kept in monthly segment files: configured so, or found so by the last load.
+     */
+    public boolean isMonthly() {
+        return monthly;
+    }
+
+    /**
+     * Format of the snapshot file: as detected by the last load, or the one new files are created in.
+     */
+    public StorageFormat format() {
+        return format;
+    }
+
+    /**
+     * Switches to write-behind mode: later saves return once queued, and a background thread
+     * writes them. Call {@link #close()} before exiting; a shutdown hook also closes the storage if
+     * the JVM is stopped first, for example by Ctrl-C.
+     */
+    public synchronized void startWriteBehind() {
+        if (writer == null) {
+            writer = new WriteBehindWriter("mama-storage-writer", (snapshot, delta, records) -> {
+                synchronized (diskLock) {
+                    writeBatch(snapshot, delta, records, true);
+                }
+            });
+            shutdownHook = new Thread(this::close, "mama-storage-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    /**
+     * The hook registered by {@link #startWriteBehind()}, or null when there is none.
+     */
+    Thread shutdownHook() {
+        return shutdownHook;
+    }
+
+    public boolean isWriteBehind() {
+        return writer != null;
+    }
+
+    /**
+     * Blocks until every save made so far is on disk; a no-op unless in write-behind mode.
+     */
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Flushes pending saves and stops the background writer, returning to synchronous saves. If a
+     * queued write failed, the attached list is rewritten in full before returning.
+     */
+    public synchronized void close() {
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // the JVM is already shutting down, possibly in this very hook
             }
+            shutdownHook = null;
+        }
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+        if (attached != null && failedWrites != failedWritesSeen) {
+            writeSnapshot(attached);
+        }
+    }
 
-            try (BufferedReader br = Files.newBufferedReader(file)) {
-                String line;
+    /**
+     * Number of records currently in the journal (always 0 when not journalled).
+     */
+    public int journalSize() {
+        return journalled ? journal.size() : 0;
+    }
 
-                while ((line = br.readLine()) != null) {
+    /**
+     * I/O counters of this storage.
+     */
+    public StorageMetrics metrics() {
+        return metrics;
+    }
 
-                    if (line.startsWith("CALORIE_GOAL|")) {
-                        continue; // skip calorie goal line
-                    }
+    public EntryList loadOrEmpty() {
+        StorageEvent event = new StorageEvent(StorageEvent.LOAD);
+        event.begin();
+        try {
+            return load(event);
+        } finally {
+            event.file = file.toString();
+            event.commit();
+        }
+    }
 
-                    try {
-                        list.add(Entry.fromStorageString(line));
-                    } catch (IllegalArgumentException ex) {
-                        System.err.println("Skipping bad line in storage: " + line);
-                    }
+    private EntryList load(StorageEvent event) {
+        flush();
+        EntryList list = new EntryList();
+        plannedRecords = 0;
+        unfolded.clear();
+        failedWritesSeen = failedWrites;
+        diskStale = false;
+        snapshotExists = segments.exists() || snapshotFile.exists();
+        boolean convert = false;
+        boolean journalBroken = false;
+        try {
+            journal.settle(); // a crash may have left it aside between committing a rewrite and dropping it
+            SnapshotStore store;
+            if (segments.exists()) {
+                monthly = true;
+                store = segments;
+            } else if (snapshotFile.exists()) {
+                store = snapshotFile;
+                convert = monthly;
+            } else {
+                cacheGoal(null);
+                // No data file yet → start with an empty list; a journal without its snapshot is stale
+                if (journalled) {
+                    journal.deleteStale();
                 }
+                attached = list;
+                return list;
+            }
+            Integer goal = store.readInto(list, event);
+            if (store.format() != null) {
+                format = store.format();
+            }
+            cacheGoal(goal);
+            if (journalled) {
+                journalBroken = !journal.replay(list, event);
             }
         } catch (IOException e) {
             System.err.println("Failed to read storage: " + e.getMessage());
         }
+        List<EntryChange> replayed = list.drainChanges();
+        for (EntryChange c : replayed) {
+            if (c.kind() == EntryChange.Kind.GOAL) {
+                cacheGoal(((CalorieGoalEntry) c.entry()).getCalorieGoal());
+            }
+        }
+        if (journalled && monthly && !convert) {
+            unfolded.addAll(replayed);
+        }
+        attached = list;
+        plannedRecords = journalSize();
+
+        if (convert || journalBroken) {
+            writeSnapshot(list); // split the single file into monthly segments, or drop a journal that stopped replay
+        } else if (journalSize() >= compactThreshold) {
+            save(list);
+        }
         return list;
     }
 
     /**
-     * Loads calorie goal if present, otherwise returns null.
+     * Returns the calorie goal if present, otherwise null.
+     * The goal is read from disk only when the file was changed by something other than this storage.
      */
     public Integer loadGoal() {
+        synchronized (diskLock) {
+            return loadGoalLocked();
+        }
+    }
+
+    private Integer loadGoalLocked() {
+        if (goalCached && isGoalStampCurrent()) {
+            return cachedGoal;
+        }
+
+        Integer goal;
+        try {
+            goal = goalStore().readGoal();
+            if (journalled && journal.exists()) {
+                goal = journal.lastGoal(goal);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load calorie goal: " + e.getMessage());
+            return null;
+        }
+        cacheGoal(goal);
+        return goal;
+    }
+
+    /**
+     * Remembers {@code goal} together with the current size/mtime of the file.
+     */
+    private void cacheGoal(Integer goal) {
+        cachedGoal = goal;
+        goalCached = true;
         try {
-            if (!Files.exists(file)) {
-                return null;
+            Path goalFile = goalFile();
+            if (Files.exists(goalFile)) {
+                BasicFileAttributes attrs = Files.readAttributes(goalFile, BasicFileAttributes.class);
+                goalStampTime = attrs.lastModifiedTime();
+                goalStampSize = attrs.size();
+            } else {
+                goalStampTime = null;
+                goalStampSize = -1;
             }
+        } catch (IOException e) {
+            goalCached = false;
+        }
+    }
 
-            try (BufferedReader br = Files.newBufferedReader(file)) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    if (line.startsWith("CALORIE_GOAL|")) {
-                        String[] parts = line.split("\\|");
-                        if (parts.length == 2) {
-                            return Integer.parseInt(parts[1]);
-                        }
+    private boolean isGoalStampCurrent() {
+        try {
+            Path goalFile = goalFile();
+            if (!Files.exists(goalFile)) {
+                return goalStampTime == null;
+            }
+            BasicFileAttributes attrs = Files.readAttributes(goalFile, BasicFileAttributes.class);
+            return attrs.lastModifiedTime().equals(goalStampTime) && attrs.size() == goalStampSize;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Store the calorie goal is read from: the segments once their manifest exists, else the snapshot file.
+     */
+    private SnapshotStore goalStore() {
+        return segments.exists() ? segments : snapshotFile;
+    }
+
+    private Path goalFile() {
+        return goalStore().goalFile();
+    }
+
+    /**
+     * Defers saves (e.g. during a batch import): while deferred, {@link #save(EntryList)} does nothing and
+     * the list keeps recording its changes until {@link #checkpoint(EntryList)} persists them in one go.
+     */
+    public void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    public boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Persists {@code list}. In journal mode only the changes since the last save are appended, and
+     * with monthly segments only they are written, unless the list is not the one this storage loaded
+     * or last wrote. The whole snapshot is rewritten only for such a list, when a single-file journal
+     * is due for compaction, or after a delta failed. In write-behind mode this only queues the write;
+     * while deferred it does nothing.
+     */
+    public void save(EntryList list) {
+        if (!deferred) {
+            checkpoint(list);
+        }
+    }
+
+    /**
+     * Persists {@code list} as {@link #save(EntryList)} would, even while saves are deferred.
+     */
+    public void checkpoint(EntryList list) {
+        if (canSaveDelta(list)) {
+            List<EntryChange> changes = list.drainChanges();
+            if (journalled && plannedRecords + changes.size() < compactThreshold) {
+                if (!changes.isEmpty()) {
+                    plannedRecords += changes.size();
+                    if (monthly) {
+                        unfolded.addAll(changes);
                     }
+                    submit(PendingWrite.append(Journal.toRecords(changes)));
+                }
+            } else if (monthly) {
+                List<EntryChange> delta = new ArrayList<>(unfolded);
+                delta.addAll(changes);
+                unfolded.clear();
+                plannedRecords = 0;
+                if (!delta.isEmpty() || journalled) {
+                    submit(PendingWrite.delta(delta));
                 }
+            } else {
+                writeSnapshot(list);
+                return;
             }
-        } catch (IOException | NumberFormatException e) {
-            System.err.println("Failed to load calorie goal: " + e.getMessage());
+            if (failedWrites == failedWritesSeen) {
+                return;
+            }
+            // Only seen at once when writing synchronously; a queued write falls back on the next save
         }
-        return null;
+
+        writeSnapshot(list);
     }
 
+    /**
+     * True if saving {@code list} can write just its changes: it is the list on disk, there is a
+     * journal or there are segments to put them in, and no write failed since the last full rewrite
+     * was planned.
+     */
+    private boolean canSaveDelta(EntryList list) {
+        return list == attached && snapshotExists && (journalled || monthly) && failedWrites == failedWritesSeen;
+    }
 
-    public void save(EntryList list) {
+    /**
+     * Plans a full rewrite of the snapshot from {@code list}.
+     */
+    private void writeSnapshot(EntryList list) {
+        loadAttachedHistory();
+        List<Entry> entries = new ArrayList<>(list.view());
+        list.drainChanges();
+        snapshotExists = true;
+        plannedRecords = 0;
+        unfolded.clear();
+        attached = list;
+        failedWritesSeen = failedWrites; // if this rewrite fails too, the count moves on and the next save retries
+        submit(PendingWrite.snapshot(entries));
+    }
+
+    /**
+     * Rewrites the snapshot file in {@code target} format, folding in the journal, unless it is
+     * already in that format. When a file is converted, the list on disk becomes the attached one,
+     * so the caller should use the returned list from then on.
+     *
+     * @return the list as loaded from disk
+     */
+    public EntryList migrate(StorageFormat target) {
+        EntryList list = loadOrEmpty();
+        if (format != target) {
+            format = target;
+            writeSnapshot(list);
+            flush();
+        }
+        return list;
+    }
+
+    private void submit(PendingWrite write) {
+        if (writer != null) {
+            writer.submit(write);
+            return;
+        }
+        synchronized (diskLock) {
+            writeBatch(write.entries(), write.changes(), write.records(), false);
+        }
+    }
+
+    /**
+     * Writes an optional snapshot, then an optional segment delta, then journal records. The delta
+     * and the records are dropped while the disk is stale; the rewrite that the failure makes the
+     * next save plan contains them. Caller holds {@link #diskLock}.
+     *
+     * @param durable true to fsync before returning (write-behind mode)
+     */
+    private void writeBatch(List<Entry> snapshot, List<EntryChange> delta, List<String> records,
+            boolean durable) {
+        StorageEvent event = new StorageEvent(StorageEvent.SAVE);
+        event.begin();
+        long start = System.nanoTime();
+        long written = 0;
+        if (snapshot != null) {
+            written += rewrite(snapshot, durable);
+            event.lines += snapshot.size();
+        }
+        if (delta != null && !diskStale) {
+            written += applyDelta(delta, durable);
+            event.lines += delta.size();
+        }
+        if (!records.isEmpty() && !diskStale) {
+            written += appendJournal(records, durable);
+            event.lines += records.size();
+        }
+        metrics.addBytesWritten(written);
+        metrics.recordSave(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = file.toString();
+            event.bytesWritten = written;
+            event.commit();
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal.
+     *
+     * @return number of bytes written
+     */
+    private long appendJournal(List<String> records, boolean durable) {
         try {
-            Integer existingGoal = loadGoal();
-            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            return journal.append(records, durable);
+        } catch (IOException e) {
+            markFailed();
+            System.err.println("Failed to append to journal, rewriting storage on the next save: " + e.getMessage());
+            return 0;
+        }
+    }
 
-            try (BufferedWriter bw = Files.newBufferedWriter(tmp)) {
-                if (existingGoal != null) {
-                    bw.write("CALORIE_GOAL|" + existingGoal);
-                    bw.newLine();
-                }
+    /**
+     * Applies {@code changes} to the monthly segments and, in journal mode, discards the folded
+     * journal. If they cannot be applied, the journal is kept and the next save rewrites everything.
+     *
+     * @return number of bytes written
+     */
+    private long applyDelta(List<EntryChange> changes, boolean durable) {
+        try {
+            Integer existingGoal = loadGoalLocked();
+            long written = segments.apply(changes, existingGoal, format, durable, foldJournal(segments));
+            cacheGoal(existingGoal);
+            if (journalled) {
+                journal.committed();
+            }
+            return written;
+        } catch (IOException e) {
+            markFailed();
+            settleAfterFailure();
+            System.err.println("Failed to save changes, rewriting storage on the next save: " + e.getMessage());
+            return 0;
+        }
+    }
 
-                for (Entry e : list.asList()) {
-                    bw.write(e.toStorageString());
-                    bw.newLine();
-                }
+    /**
+     * Writes a full snapshot made of the goal and {@code entries} in the current format and, in
+     * journal mode, discards the folded journal.
+     *
+     * @return number of bytes written
+     */
+    private long rewrite(List<Entry> entries, boolean durable) {
+        try {
+            Integer existingGoal = loadGoalLocked();
+
+            SnapshotStore store = monthly || segments.exists() ? segments : snapshotFile;
+            long written = store.write(entries, existingGoal, format, durable, foldJournal(store));
+            if (store == segments) {
+                Files.deleteIfExists(file); // a single-file snapshot has just been split into segments
+            }
+            cacheGoal(existingGoal);
+
+            if (journalled) {
+                journal.committed();
             }
-            Files.move(tmp, file,
-                    StandardCopyOption.REPLACE_EXISTING,
-                    StandardCopyOption.ATOMIC_MOVE);
+            diskStale = false;
+            return written;
         } catch (IOException e) {
-            System.err.println("Failed to save storage: " + e.getMessage());
+            markFailed();
+            settleAfterFailure();
+            System.err.println("Failed to save storage, retrying on the next save: " + e.getMessage());
+            return 0;
         }
     }
 
     /**
-     * Writes or updates the goal line at the top of the file.
+     * Moves the journal aside just before {@code store} commits a write that folds it; see
+     * {@link Journal#foldBefore}.
      */
-    public void saveGoal(int goal) {
+    private SnapshotStore.BeforeCommit foldJournal(SnapshotStore store) {
+        return journalled ? journal.foldBefore(store.commitTmp()) : SnapshotStore.BeforeCommit.NONE;
+    }
+
+    private void settleAfterFailure() {
         try {
-            List<String> lines = new ArrayList<>();
+            journal.settle();
+        } catch (IOException e) {
+            System.err.println("Failed to restore the journal: " + e.getMessage());
+        }
+    }
 
-            if (Files.exists(file)) {
-                lines = Files.readAllLines(file);
-                lines.removeIf(line -> line.startsWith("CALORIE_GOAL|"));
+    /**
+     * Records that a write left changes off the disk. Caller holds {@link #diskLock}.
+     */
+    private void markFailed() {
+        diskStale = true;
+        failedWrites++;
+    }
+
+    /**
+     * Persists the calorie goal. If the list this storage loaded can be saved as a delta, the goal is
+     * recorded in its change set and saved with its pending changes (as a journal record, or in the
+     * segment manifest). Otherwise the goal is written in place in a binary file or the manifest, or
+     * the text file is rewritten with the goal line at the top. While saves are deferred, the goal is
+     * only recorded, and the next {@link #checkpoint(EntryList)} of the loaded list writes it.
+     */
+    public void saveGoal(int goal) {
+        flush();
+        if (deferred && attached != null) {
+            synchronized (diskLock) {
+                cacheGoal(goal); // what the checkpoint writes, whether it saves a delta or rewrites
+            }
+            attached.recordGoal(goal);
+            return;
+        }
+        if (canSaveDelta(attached)) {
+            synchronized (diskLock) {
+                cacheGoal(goal); // what a rewrite before the journal is folded will write
             }
+            attached.recordGoal(goal);
+            checkpoint(attached);
+            return;
+        }
+        if (!usesSegmentsForGoal()) {
+            loadAttachedHistory();
+        }
+        synchronized (diskLock) {
+            saveGoalLocked(goal);
+        }
+        snapshotExists = true;
+    }
 
-            lines.add(0, "CALORIE_GOAL|" + goal);
-            Files.write(file, lines);
+    /**
+     * Decodes whatever the attached list left on disk, before the file is replaced and its offsets
+     * stop meaning anything.
+     */
+    private void loadAttachedHistory() {
+        if (attached != null) {
+            attached.loadHistory();
+        }
+    }
+
+    /**
+     * True if the goal goes into the segment manifest: it exists, or segments are wanted and
+     * there is no single-file snapshot waiting to be converted.
+     */
+    private boolean usesSegmentsForGoal() {
+        return segments.exists() || (monthly && !snapshotFile.exists());
+    }
+
+    private void saveGoalLocked(int goal) {
+        StorageEvent event = new StorageEvent(StorageEvent.SAVE_GOAL);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            SnapshotStore store = usesSegmentsForGoal() ? segments : snapshotFile;
+            store.writeGoal(goal, format, event);
+            cacheGoal(goal);
         } catch (IOException e) {
             System.err.println("Failed to save calorie goal: " + e.getMessage());
         }
+        metrics.addBytesRead(event.bytesRead);
+        metrics.addBytesWritten(event.bytesWritten);
+        metrics.recordSave(System.nanoTime() - start);
+        event.file = file.toString();
+        event.commit();
     }
-
 }
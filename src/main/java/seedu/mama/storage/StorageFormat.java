@@ -0,0 +1,16 @@
+package seedu.mama.storage;
+
+/**
+ * On-disk encoding of the snapshot file. {@link Storage} detects the format of an existing file
+ * from its first bytes; the journal is pipe-delimited text in both formats.
+ */
+public enum StorageFormat {
+    /**
+     * One pipe-delimited line per entry, e.g. {@code MILK|150ml|28/10/25 01:14}.
+     */
+    TEXT,
+    /**
+     * Versioned header followed by tagged records with varint fields and epoch-minute timestamps.
+     */
+    BINARY
+}
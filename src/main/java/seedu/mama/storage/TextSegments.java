@@ -0,0 +1,133 @@
+package seedu.mama.storage;
+
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a text snapshot backwards, one segment of whole lines at a time.
+ * <p>
+ * The unread part of the file is always {@code [0, end)}; each call to {@link #older()} decodes
+ * the last segment of it (about {@code segmentBytes}, cut just after a newline) and moves
+ * {@code end} back to where that segment starts, so the file offset is all the index that segments
+ * still on disk need. Goal lines are skipped, as in a full load.
+ * <p>
+ * Offsets are only valid for the file as it was when this was created, so every read first checks
+ * that its size and modification time are unchanged.
+ */
+final class TextSegments implements EntryList.History {
+    static final int DEFAULT_SEGMENT_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final int segmentBytes;
+    private final StorageMetrics metrics;
+    private final Consumer<String> badLines;
+    private final long stampSize;
+    private final FileTime stampTime;
+    private long end;
+
+    /**
+     * @param metrics  counts the bytes read and lines parsed by every segment
+     * @param badLines told about every line that fails to parse, in file order within a segment
+     */
+    TextSegments(Path file, int segmentBytes, StorageMetrics metrics, Consumer<String> badLines)
+            throws IOException {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("segmentBytes must be positive");
+        }
+        this.file = file;
+        this.segmentBytes = segmentBytes;
+        this.metrics = metrics;
+        this.badLines = badLines;
+        this.stampSize = Files.size(file);
+        this.stampTime = Files.getLastModifiedTime(file);
+        this.end = stampSize;
+    }
+
+    /**
+     * True while part of the file has not been handed out yet.
+     */
+    boolean hasOlder() {
+        return end > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the file changed since this was created
+     * @throws UncheckedIOException  if the file cannot be read
+     */
+    @Override
+    public List<Entry> older() {
+        if (end == 0) {
+            return null;
+        }
+        try {
+            return readSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read older entries from " + file, e);
+        }
+    }
+
+    private List<Entry> readSegment() throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() != stampSize || !Files.getLastModifiedTime(file).equals(stampTime)) {
+                throw new IllegalStateException("Storage file changed since it was loaded: " + file);
+            }
+            long want = segmentBytes;
+            while (true) {
+                long start = Math.max(0, end - want);
+                ByteBuffer data = read(ch, start, (int) (end - start));
+                int from = 0;
+                if (start > 0) {
+                    from = afterFirstNewline(data);
+                    if (from < 0) {
+                        want *= 2; // a line longer than the segment: look further back for its start
+                        continue;
+                    }
+                }
+                metrics.addBytesRead(data.limit() - from);
+                ParallelTextLoader.Chunk chunk = ParallelTextLoader.decode(data, from, data.limit());
+                metrics.addLinesParsed(chunk.lines);
+                chunk.badLines.forEach(badLines);
+                end = start + from;
+                return chunk.entries;
+            }
+        }
+    }
+
+    private static ByteBuffer read(FileChannel ch, long position, int length) throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(length);
+        while (data.hasRemaining()) {
+            if (ch.read(data, position + data.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        data.flip();
+        return data;
+    }
+
+    /**
+     * Index just past the first newline in {@code data} that is not its last byte, or -1 if there
+     * is none, i.e. the start of the first line that begins inside {@code data}.
+     */
+    private static int afterFirstNewline(ByteBuffer data) {
+        for (int i = 0; i < data.limit() - 1; i++) {
+            if (data.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+}
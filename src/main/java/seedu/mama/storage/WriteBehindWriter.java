@@ -0,0 +1,145 @@
+package seedu.mama.storage;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryChange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background thread that performs {@link PendingWrite}s for a write-behind {@link Storage}.
+ * <p>
+ * Writes are taken off the queue in batches: whatever piled up while the previous batch was on
+ * disk is coalesced into at most one snapshot rewrite, one segment delta and one journal append,
+ * so a burst of commands costs one write and one fsync instead of one per command.
+ */
+final class WriteBehindWriter {
+    private static final Logger LOG = Logger.getLogger(WriteBehindWriter.class.getName());
+    private static final PendingWrite STOP = PendingWrite.append(List.of());
+
+    /**
+     * Performs a coalesced batch on the writer thread.
+     */
+    interface Sink {
+        /**
+         * @param snapshot entries of the latest snapshot in the batch, or null if there was none
+         * @param delta    changes planned after that snapshot, oldest first, or null if there were none
+         * @param records  journal records planned after those, oldest first
+         */
+        void write(List<Entry> snapshot, List<EntryChange> delta, List<String> records);
+    }
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Sink sink;
+    private final Thread thread;
+    private long submitted;
+    private long completed;
+    private boolean closed;
+
+    WriteBehindWriter(String name, Sink sink) {
+        this.sink = sink;
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    synchronized void submit(PendingWrite write) {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        submitted++;
+        queue.add(write);
+    }
+
+    /**
+     * Blocks until every write submitted so far is on disk.
+     */
+    synchronized void flush() {
+        boolean interrupted = false;
+        while (completed < submitted) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true; // finish flushing anyway; losing writes is worse than a late interrupt
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Flushes and stops the thread. Later submits fail.
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(STOP);
+        }
+        flush();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue; // only close() stops the writer, via STOP
+            }
+            queue.drainTo(batch);
+
+            boolean stop = batch.remove(STOP);
+            try {
+                if (!batch.isEmpty()) {
+                    writeCoalesced(batch);
+                }
+            } catch (RuntimeException e) {
+                LOG.log(Level.SEVERE, "Write-behind batch failed", e);
+            } finally {
+                synchronized (this) {
+                    completed += batch.size();
+                    notifyAll();
+                }
+                batch.clear();
+            }
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    private void writeCoalesced(List<PendingWrite> batch) {
+        List<Entry> snapshot = null;
+        List<EntryChange> delta = null;
+        List<String> records = new ArrayList<>();
+        for (PendingWrite w : batch) {
+            if (w.isSnapshot()) {
+                snapshot = w.entries(); // a snapshot already contains every earlier change
+                delta = null;
+                records.clear();
+            } else if (w.isDelta()) {
+                if (delta == null) {
+                    delta = new ArrayList<>();
+                }
+                delta.addAll(w.changes()); // including the changes of the records before it
+                records.clear();
+            } else {
+                records.addAll(w.records());
+            }
+        }
+        sink.write(snapshot, delta, records);
+    }
+}
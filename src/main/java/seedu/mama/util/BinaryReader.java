@@ -0,0 +1,120 @@
+package seedu.mama.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Cursor over a buffer written by {@link BinaryWriter}.
+ * <p>
+ * Truncated or malformed input is reported as {@link IllegalArgumentException}, as with
+ * {@link FieldReader}, so storage handles a bad binary record the same way as a bad line.
+ */
+public final class BinaryReader {
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final ByteBuffer buf;
+
+    public BinaryReader(ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    public boolean hasRemaining() {
+        return buf.hasRemaining();
+    }
+
+    public int remaining() {
+        return buf.remaining();
+    }
+
+    public int position() {
+        return buf.position();
+    }
+
+    public byte readByte() {
+        try {
+            return buf.get();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Unexpected end of data at byte " + buf.position());
+        }
+    }
+
+    public long readUnsigned() {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long at byte " + buf.position());
+    }
+
+    public long readLong() {
+        long raw = readUnsigned();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readInt() {
+        long value = readLong();
+        if (value != (int) value) {
+            throw new IllegalArgumentException("Integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a value written by {@link BinaryWriter#writeOptionalInt(Integer)}.
+     */
+    public Integer readOptionalInt() {
+        long raw = readUnsigned();
+        if (raw == 0) {
+            return null;
+        }
+        long value = ((raw - 1) >>> 1) ^ -((raw - 1) & 1);
+        if (value != (int) value) {
+            throw new IllegalArgumentException("Integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    public double readDouble() {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (readByte() & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public LocalDateTime readTimestamp() {
+        long minutes = readLong();
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(minutes, 60L), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalArgumentException("Timestamp out of range: " + minutes + " minutes");
+        }
+    }
+
+    public String readString() {
+        long length = readUnsigned();
+        if (length > buf.remaining()) {
+            throw new IllegalArgumentException("String of " + length + " bytes overruns the data at byte "
+                    + buf.position());
+        }
+        int n = (int) length;
+        String value;
+        if (buf.hasArray()) {
+            value = new String(buf.array(), buf.arrayOffset() + buf.position(), n, StandardCharsets.UTF_8);
+            buf.position(buf.position() + n);
+        } else {
+            byte[] bytes = new byte[n];
+            buf.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
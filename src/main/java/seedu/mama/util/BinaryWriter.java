@@ -0,0 +1,150 @@
+package seedu.mama.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Buffered encoder for the binary storage format, the counterpart of {@link BinaryReader}.
+ * <p>
+ * Integers are written as LEB128 varints (signed values zigzag-encoded first), so the small
+ * numbers that make up most entries take one or two bytes. Timestamps are minutes since the
+ * epoch, which is exactly the precision of the text format, and strings are a varint byte
+ * length followed by UTF-8.
+ * <p>
+ * Write errors of the underlying stream surface as {@link UncheckedIOException} so that the
+ * entry codecs need not declare them.
+ */
+public final class BinaryWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private long written;
+
+    public BinaryWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    public void writeByte(int b) {
+        if (pos == buf.length) {
+            drain();
+        }
+        buf[pos++] = (byte) b;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        if (bytes.length > buf.length - pos) {
+            drain();
+            if (bytes.length > buf.length) {
+                writeThrough(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    /**
+     * Writes {@code value} as an unsigned varint; negative values take ten bytes.
+     */
+    public void writeUnsigned(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Writes a signed value as a zigzag varint.
+     */
+    public void writeLong(long value) {
+        writeUnsigned((value << 1) ^ (value >> 63));
+    }
+
+    public void writeInt(int value) {
+        writeLong(value);
+    }
+
+    /**
+     * Writes an optional integer: 0 for null, otherwise the zigzag value plus one.
+     */
+    public void writeOptionalInt(Integer value) {
+        if (value == null) {
+            writeUnsigned(0);
+        } else {
+            long v = value;
+            writeUnsigned(((v << 1) ^ (v >> 63)) + 1);
+        }
+    }
+
+    /**
+     * Writes the raw IEEE 754 bits, so the value reads back exactly.
+     */
+    public void writeDouble(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (bits >>> shift));
+        }
+    }
+
+    /**
+     * Writes {@code when} as minutes since the epoch; seconds are dropped, as in the text format.
+     */
+    public void writeTimestamp(LocalDateTime when) {
+        writeLong(Math.floorDiv(when.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsigned(bytes.length);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Number of bytes handed to this writer so far, buffered or not.
+     */
+    public long size() {
+        return written + pos;
+    }
+
+    /**
+     * Pushes buffered bytes to the underlying stream and flushes it.
+     */
+    public void flush() {
+        drain();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void drain() {
+        writeThrough(null);
+    }
+
+    /**
+     * Writes the buffer and then {@code extra} (if any) straight to the stream.
+     */
+    private void writeThrough(byte[] extra) {
+        try {
+            if (pos > 0) {
+                out.write(buf, 0, pos);
+                written += pos;
+                pos = 0;
+            }
+            if (extra != null) {
+                out.write(extra);
+                written += extra.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
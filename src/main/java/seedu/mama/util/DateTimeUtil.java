@@ -4,6 +4,8 @@ import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
@@ -16,18 +18,92 @@ public final class DateTimeUtil {
     public static final DateTimeFormatter FMT =
             DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
 
+    private static final int FORMATTED_LENGTH = 14;
+
     // ✅ 2. Private constructor NEXT
     private DateTimeUtil() {
         // prevent instantiation
     }
 
     // ✅ 3. Static methods AFTER
+
+    /**
+     * Formats {@code dt} as {@code dd/MM/yy HH:mm}.
+     * Years 2000-2099 are written digit by digit; anything else goes through {@link #FMT}.
+     */
     public static String format(LocalDateTime dt) {
-        return dt.format(FMT);
+        int year = dt.getYear();
+        if (year < 2000 || year > 2099) {
+            return dt.format(FMT);
+        }
+        char[] out = new char[FORMATTED_LENGTH];
+        putTwoDigits(out, 0, dt.getDayOfMonth());
+        out[2] = '/';
+        putTwoDigits(out, 3, dt.getMonthValue());
+        out[5] = '/';
+        putTwoDigits(out, 6, year - 2000);
+        out[8] = ' ';
+        putTwoDigits(out, 9, dt.getHour());
+        out[11] = ':';
+        putTwoDigits(out, 12, dt.getMinute());
+        return new String(out);
     }
 
     public static LocalDateTime parse(String s) {
-        return LocalDateTime.parse(s, FMT);
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Parses {@code s[start, end)} (surrounding spaces ignored) as {@code dd/MM/yy HH:mm}.
+     * <p>
+     * Well-formed 14-character values are decoded directly from their digits; anything the fast
+     * path rejects (odd widths, out-of-range fields) is handed to {@link #FMT}, so results and
+     * errors match {@code LocalDateTime.parse(s, FMT)}.
+     *
+     * @throws java.time.format.DateTimeParseException if the text is not a valid timestamp
+     */
+    public static LocalDateTime parse(CharSequence s, int start, int end) {
+        while (start < end && s.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end - start == FORMATTED_LENGTH
+                && s.charAt(start + 2) == '/' && s.charAt(start + 5) == '/'
+                && s.charAt(start + 8) == ' ' && s.charAt(start + 11) == ':') {
+            int day = twoDigits(s, start);
+            int month = twoDigits(s, start + 3);
+            int year = twoDigits(s, start + 6);
+            int hour = twoDigits(s, start + 9);
+            int minute = twoDigits(s, start + 12);
+            if (day >= 1 && month >= 1 && month <= 12 && year >= 0 && hour >= 0 && hour <= 23
+                    && minute >= 0 && minute <= 59 && day <= maxDayOfMonth(month, 2000 + year)) {
+                return LocalDateTime.of(2000 + year, month, day, hour, minute);
+            }
+        }
+        return LocalDateTime.parse(s.subSequence(start, end), FMT);
+    }
+
+    /**
+     * Value of two ASCII digits at {@code s[i]} and {@code s[i + 1]}, or -1 if either is not a digit.
+     */
+    private static int twoDigits(CharSequence s, int i) {
+        int hi = s.charAt(i) - '0';
+        int lo = s.charAt(i + 1) - '0';
+        if (hi < 0 || hi > 9 || lo < 0 || lo > 9) {
+            return -1;
+        }
+        return hi * 10 + lo;
+    }
+
+    private static void putTwoDigits(char[] out, int at, int value) {
+        out[at] = (char) ('0' + value / 10);
+        out[at + 1] = (char) ('0' + value % 10);
+    }
+
+    private static int maxDayOfMonth(int month, int year) {
+        return Month.of(month).length(Year.isLeap(year));
     }
 
     /**
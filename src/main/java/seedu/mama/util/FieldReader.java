@@ -0,0 +1,215 @@
+package seedu.mama.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * Cursor over the {@code |}-separated fields of one storage line.
+ * <p>
+ * Replaces {@code line.split("\\|")} in the entry codecs: fields are read in order without
+ * building an array, and integer fields are parsed straight from the underlying characters,
+ * so only fields that end up as Strings in the entry are allocated.
+ * <p>
+ * Malformed input is reported as {@link IllegalArgumentException} (or its subclass
+ * {@link NumberFormatException}), which storage treats as a bad line to skip.
+ */
+public final class FieldReader {
+    private static final char SEP = '|';
+
+    private final String line;
+    /**
+     * Start of the next unread field; {@code line.length() + 1} once every field was read.
+     */
+    private int pos;
+
+    public FieldReader(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Bad line: null");
+        }
+        this.line = line;
+        this.pos = 0;
+    }
+
+    public String line() {
+        return line;
+    }
+
+    /**
+     * Total number of fields on the line, i.e. what {@code split("\\|", -1).length} would return.
+     */
+    public int fieldCount() {
+        int count = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == SEP) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean hasNext() {
+        return pos <= line.length();
+    }
+
+    /**
+     * True if the next field is exactly {@code expected}; does not advance.
+     */
+    public boolean peekIs(String expected) {
+        return hasNext() && fieldEnd() - pos == expected.length()
+                && line.regionMatches(pos, expected, 0, expected.length());
+    }
+
+    /**
+     * Advances past the next field, which must be exactly {@code expected}.
+     */
+    public void expect(String expected) {
+        if (!peekIs(expected)) {
+            throw new IllegalArgumentException("Expected " + expected + " in line: " + line);
+        }
+        skip();
+    }
+
+    /**
+     * Advances past the next field without reading it.
+     */
+    public void skip() {
+        requireNext();
+        pos = fieldEnd() + 1;
+    }
+
+    /**
+     * Returns the next field as-is.
+     */
+    public String next() {
+        requireNext();
+        int end = fieldEnd();
+        String field = line.substring(pos, end);
+        pos = end + 1;
+        return field;
+    }
+
+    /**
+     * Returns everything after the cursor, separators included, or {@code ""} if nothing is left.
+     */
+    public String rest() {
+        if (!hasNext()) {
+            return "";
+        }
+        String rest = line.substring(pos);
+        pos = line.length() + 1;
+        return rest;
+    }
+
+    /**
+     * Parses the next field as an int, ignoring surrounding spaces.
+     */
+    public int nextInt() {
+        requireNext();
+        int end = fieldEnd();
+        int value = parseInt(line, pos, end);
+        pos = end + 1;
+        return value;
+    }
+
+    /**
+     * Parses the next field as an int, or returns null for an empty or {@code -} placeholder field.
+     */
+    public Integer nextNullableInt() {
+        requireNext();
+        int end = fieldEnd();
+        int start = skipSpaces(pos, end);
+        int stop = trimSpaces(start, end);
+        Integer value;
+        if (start == stop || (stop - start == 1 && line.charAt(start) == '-')) {
+            value = null;
+        } else {
+            value = parseInt(line, start, stop);
+        }
+        pos = end + 1;
+        return value;
+    }
+
+    /**
+     * Parses the next field as a {@code dd/MM/yy HH:mm} timestamp.
+     */
+    public LocalDateTime nextTimestamp() {
+        requireNext();
+        int start = pos;
+        int end = fieldEnd();
+        pos = end + 1;
+        try {
+            return DateTimeUtil.parse(line, start, end);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Bad timestamp '" + line.substring(start, end)
+                    + "' in line: " + line, e);
+        }
+    }
+
+    private void requireNext() {
+        if (!hasNext()) {
+            throw new IllegalArgumentException("Missing field in line: " + line);
+        }
+    }
+
+    private int fieldEnd() {
+        int end = line.indexOf(SEP, pos);
+        return end < 0 ? line.length() : end;
+    }
+
+    private int skipSpaces(int from, int to) {
+        while (from < to && line.charAt(from) == ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private int trimSpaces(int from, int to) {
+        while (to > from && line.charAt(to - 1) == ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    /**
+     * Parses {@code s[start, end)} as a base-10 int, ignoring surrounding spaces.
+     *
+     * @throws NumberFormatException if the range is empty, not numeric or overflows
+     */
+    public static int parseInt(CharSequence s, int start, int end) {
+        while (start < end && s.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new NumberFormatException("Empty number");
+        }
+
+        boolean negative = false;
+        int i = start;
+        char first = s.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (i == end) {
+                throw new NumberFormatException("Bad number: " + s.subSequence(start, end));
+            }
+        }
+
+        // accumulate negatively so Integer.MIN_VALUE is representable
+        long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Bad number: " + s.subSequence(start, end));
+            }
+            result = result * 10 - digit;
+            if (result < limit) {
+                throw new NumberFormatException("Number out of range: " + s.subSequence(start, end));
+            }
+        }
+        return (int) (negative ? result : -result);
+    }
+}
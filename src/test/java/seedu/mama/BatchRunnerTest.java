@@ -0,0 +1,97 @@
+package seedu.mama;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.command.CommandType;
+import seedu.mama.metrics.CommandMetrics;
+import seedu.mama.model.EntryList;
+import seedu.mama.storage.Storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchRunnerTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-batch").resolve("mama.txt");
+    }
+
+    @Test
+    void run_executesAllAndSavesAtCheckpoints() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        EntryList list = storage.loadOrEmpty();
+        String script = "milk 100\n\nmilk 120\nmilk abc\nmeal lunch /cal 500\nmilk 90\nmilk 80\n";
+
+        BatchRunner.Summary summary = new BatchRunner(list, storage, new CommandMetrics(), 2).run(reader(script));
+
+        assertEquals(7, summary.getLines());
+        assertEquals(5, summary.getExecuted());
+        assertEquals(1, summary.getFailed());
+        assertEquals(3, summary.getCheckpoints()); // after 2 and 4 commands, then the leftover one
+        assertFalse(storage.isDeferred());
+        assertTrue(summary.format().contains("line 4: milk abc"));
+        assertEquals(5, new Storage(file, true, 100).loadOrEmpty().size());
+    }
+
+    @Test
+    void run_stopsAtBye_andSavesOnce() throws IOException {
+        Storage storage = new Storage(file);
+        EntryList list = storage.loadOrEmpty();
+
+        BatchRunner.Summary summary = new BatchRunner(list, storage, new CommandMetrics(), 0)
+                .run(reader("milk 100\nbye\nmilk 120\n"));
+
+        assertEquals(2, summary.getExecuted());
+        assertEquals(1, summary.getCheckpoints());
+        assertEquals(1, new Storage(file).loadOrEmpty().size());
+    }
+
+    @Test
+    void run_unknownAndInvalidCommands_countAsFailed() throws IOException {
+        Storage storage = new Storage(file);
+        EntryList list = storage.loadOrEmpty();
+        String script = "milk 100\ndance 120\ndelete abc\nweight heavy\nmilk 90\n";
+
+        CommandMetrics metrics = new CommandMetrics();
+        BatchRunner.Summary summary = new BatchRunner(list, storage, metrics, 2).run(reader(script));
+
+        assertEquals(2, summary.getExecuted());
+        assertEquals(3, summary.getFailed());
+        assertEquals(2, metrics.get(CommandType.MILK).latency().count());
+        assertEquals(1, metrics.get(null).latency().count());
+        assertEquals(1, summary.getCheckpoints(), "Failed lines should not move the checkpoint counter");
+        assertTrue(summary.format().contains("line 2: dance 120 -> Unknown command."));
+        assertTrue(summary.format().contains("line 3: delete abc"));
+        assertEquals(2, new Storage(file).loadOrEmpty().size());
+    }
+
+    @Test
+    void run_goalCommand_savedWithTheDeferredCheckpoint() throws IOException {
+        Storage storage = new Storage(file);
+        EntryList list = storage.loadOrEmpty();
+
+        BatchRunner.Summary summary = new BatchRunner(list, storage, new CommandMetrics(), 0)
+                .run(reader("milk 100\ncalorie goal 1800\nmilk 120\n"));
+
+        assertEquals(3, summary.getExecuted());
+        assertEquals(1, storage.metrics().saves().count(), "The goal should not be written on its own");
+        Storage reader = new Storage(file);
+        assertEquals(2, reader.loadOrEmpty().size());
+        assertEquals(1800, reader.loadGoal());
+    }
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.mama.model.Entry;
 import seedu.mama.model.EntryList;
+import seedu.mama.model.EntryType;
 import seedu.mama.model.MealEntry;
 import seedu.mama.model.WorkoutEntry;
 import seedu.mama.storage.Storage;
@@ -86,4 +87,25 @@ public class ListCommandTest {
         assertTrue(lines[1].startsWith("1. "));
         assertTrue(lines[2].startsWith("2. "));
     }
+
+    @Test
+    public void execute_filterByEntryType_usesTypeBucketAndKeepsIndices() throws CommandException {
+        entries.add(new MealEntry("Salad", 350));
+        entries.add(new WorkoutEntry("Morning Yoga", 150, 5));
+        entries.add(new MealEntry("Noodles", 600));
+
+        ListCommand command = new ListCommand(EntryType.MEAL, "meal");
+        CommandResult result = command.execute(entries, storageStub);
+
+        String[] lines = result.getFeedbackToUser().split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains("Salad"));
+        assertTrue(lines[2].contains("Noodles"));
+
+        // shown index 2 is the second meal, not the workout
+        entries.deleteByShownIndex(1);
+        assertEquals(1, entries.countOfType(EntryType.MEAL));
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(1).toListLine().contains("Morning Yoga"));
+    }
 }
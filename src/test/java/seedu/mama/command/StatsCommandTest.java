@@ -0,0 +1,84 @@
+package seedu.mama.command;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.metrics.CommandMetrics;
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.parser.CommandInput;
+import seedu.mama.parser.Parser;
+import seedu.mama.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatsCommandTest {
+
+    @Test
+    void execute_reportsPerCommandTypeAndStorage() throws Exception {
+        Path file = Files.createTempDirectory("mama-stats").resolve("mama.txt");
+        Storage storage = new Storage(file);
+        EntryList list = storage.loadOrEmpty();
+        CommandMetrics metrics = new CommandMetrics();
+
+        metrics.execute(CommandType.MILK, Parser.parse("milk 100"), list, storage);
+        metrics.execute(CommandType.MILK, Parser.parse("milk 120"), list, storage);
+        assertThrows(CommandException.class, () -> metrics.execute(CommandType.DELETE, (l, s) -> {
+            throw new CommandException("boom");
+        }, list, storage));
+
+        assertEquals(2, metrics.get(CommandType.MILK).latency().count());
+        assertEquals(1, metrics.get(CommandType.DELETE).failures());
+        assertNull(metrics.get(CommandType.MEAL));
+
+        String text = new StatsCommand(metrics).execute(list, storage).getFeedbackToUser();
+        assertTrue(text.contains("MILK"));
+        assertTrue(text.contains("n=2, p50="));
+        assertTrue(text.contains("failed=1"));
+        assertTrue(text.contains("bytes written"));
+    }
+
+    @Test
+    void storage_countsBytesLinesAndWrites() throws IOException {
+        Path file = Files.createTempDirectory("mama-stats").resolve("mama.txt");
+        Storage writer = new Storage(file);
+        EntryList list = writer.loadOrEmpty();
+        list.add(new MilkEntry("100ml"));
+        list.add(new MilkEntry("120ml"));
+        writer.save(list);
+
+        StorageMetrics written = writer.metrics();
+        assertEquals(Files.size(file), written.bytesWritten());
+        assertEquals(1, written.saves().count());
+
+        Storage reader = new Storage(file);
+        reader.loadOrEmpty();
+        assertEquals(2, reader.metrics().linesParsed());
+        assertEquals(Files.size(file), reader.metrics().bytesRead());
+    }
+
+    @Test
+    void parse_statsKeyword() throws CommandException {
+        assertTrue(Parser.parse("STATS") instanceof StatsCommand);
+    }
+
+    @Test
+    void parseTyped_statsReportsTheCallersMetricsOnly() throws CommandException {
+        EntryList list = new EntryList();
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.execute(CommandType.MILK, (l, s) -> new CommandResult("ok"), list, null);
+
+        Command bound = Parser.parseTyped(CommandInput.of("stats"), metrics).command();
+        assertTrue(bound.execute(list, null).getFeedbackToUser().contains("MILK"));
+        Command unbound = Parser.parse("stats");
+        assertFalse(unbound.execute(list, null).getFeedbackToUser().contains("MILK"));
+    }
+}
@@ -10,8 +10,12 @@ import seedu.mama.storage.Storage;
 import seedu.mama.util.DateTimeUtil;
 
 import java.nio.file.Path;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ViewWorkoutGoalCommandTest {
@@ -86,4 +90,26 @@ public class ViewWorkoutGoalCommandTest {
                 "Last week's goal should not be considered current.");
         assertTrue(out.contains("[Workout] cycle (30 mins)"), "Should still list this week's workout.");
     }
+
+    @Test
+    public void execute_repeatedView_cachedUntilMutationOrNewWeek() throws CommandException {
+        LocalDateTime sunday = LocalDateTime.of(2025, 11, 2, 23, 59);
+        list.add(new WorkoutGoalEntry(100, sunday.minusDays(1)));
+        ViewWorkoutGoalCommand lateSunday = new ViewWorkoutGoalCommand(fixedAt(sunday));
+        ViewWorkoutGoalCommand earlyMonday = new ViewWorkoutGoalCommand(fixedAt(sunday.plusMinutes(1)));
+
+        CommandResult first = lateSunday.execute(list, storage);
+        assertSame(first, lateSunday.execute(list, storage));
+        assertTrue(earlyMonday.execute(list, storage).getFeedbackToUser().toLowerCase()
+                .contains("no workout goal set for this week"), "Monday starts a new week.");
+
+        list.add(new WorkoutEntry("walk", 20, 3, sunday.minusHours(1)));
+        CommandResult afterAdd = lateSunday.execute(list, storage);
+        assertNotSame(first, afterAdd);
+        assertTrue(afterAdd.getFeedbackToUser().contains("[Workout] walk (20 mins)"));
+    }
+
+    private static Clock fixedAt(LocalDateTime t) {
+        return Clock.fixed(t.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
 }
@@ -0,0 +1,67 @@
+package seedu.mama.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JfrEventsTest {
+
+    @Test
+    void storageAndListEvents_areRecorded() throws IOException {
+        Path dir = Files.createTempDirectory("mama-jfr");
+        Path file = dir.resolve("mama.txt");
+        Files.write(file, List.of("MILK|100ml|28/10/25 01:14", "BOGUS|line"));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.mama.StorageIO");
+            recording.enable("seedu.mama.EntryListMutation");
+            recording.start();
+
+            Storage storage = new Storage(file);
+            EntryList list = storage.loadOrEmpty();
+            list.add(new MilkEntry("120ml"));
+            storage.save(list);
+            list.deleteByIndex(0);
+
+            recording.stop();
+            Path out = dir.resolve("rec.jfr");
+            recording.dump(out);
+            events = RecordingFile.readAllEvents(out);
+        }
+
+        List<RecordedEvent> storageEvents = events.stream()
+                .filter(e -> e.getEventType().getName().equals("seedu.mama.StorageIO"))
+                .collect(Collectors.toList());
+        RecordedEvent load = storageEvents.stream()
+                .filter(e -> e.getString("operation").equals(StorageEvent.LOAD)).findFirst().orElseThrow();
+        assertEquals(2, load.getLong("lines"));
+        assertEquals(1, load.getLong("badLines"));
+        assertTrue(load.getLong("bytesRead") > 0);
+
+        RecordedEvent save = storageEvents.stream()
+                .filter(e -> e.getString("operation").equals(StorageEvent.SAVE)).findFirst().orElseThrow();
+        assertEquals(2, save.getLong("lines"));
+        assertEquals(Files.size(file), save.getLong("bytesWritten"));
+
+        List<String> mutations = events.stream()
+                .filter(e -> e.getEventType().getName().equals("seedu.mama.EntryListMutation"))
+                .map(e -> e.getString("operation") + ":" + e.getString("entryType") + "@" + e.getInt("index"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("add:MILK@0", "add:MILK@1", "delete:MILK@0"), mutations);
+    }
+}
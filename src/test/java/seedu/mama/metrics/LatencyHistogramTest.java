@@ -0,0 +1,51 @@
+package seedu.mama.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void buckets_coverValueRangeContiguously() {
+        long previousUpper = -1;
+        for (int b = 0; LatencyHistogram.upperBound(b) != Long.MAX_VALUE; b++) {
+            long upper = LatencyHistogram.upperBound(b);
+            assertEquals(b, LatencyHistogram.bucketOf(previousUpper + 1));
+            assertEquals(b, LatencyHistogram.bucketOf(upper));
+            previousUpper = upper;
+        }
+        assertEquals(LatencyHistogram.bucketOf(Long.MAX_VALUE), LatencyHistogram.bucketOf(previousUpper + 1));
+    }
+
+    @Test
+    void percentile_withinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            h.record(v * 1000);
+        }
+
+        assertEquals(1000, h.count());
+        assertEquals(1_000_000, h.maxNanos());
+        assertEquals(500_500_000L, h.totalNanos());
+        assertWithin(500_000, h.percentile(50));
+        assertWithin(950_000, h.percentile(95));
+        assertWithin(990_000, h.percentile(99));
+        assertEquals(1_000_000, h.percentile(100));
+    }
+
+    @Test
+    void percentile_emptyAndInvalid() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentile(99));
+        h.record(-5);
+        assertEquals(0, h.percentile(50));
+        assertThrows(IllegalArgumentException.class, () -> h.percentile(101));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DailyRollupsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 10, 28);
+
+    @Test
+    void addAndDelete_keepDailyTotalsInStep() {
+        EntryList list = new EntryList();
+        list.add(new MealEntry("toast", 200, 5, null, 3, DAY.atTime(8, 0)));
+        list.add(new MealEntry("rice", 600, 10, 80, null, DAY.atTime(12, 0)));
+        list.add(new MilkEntry("120ml", DAY.atTime(23, 59)));
+        list.add(new MilkEntry("80", DAY.plusDays(1).atStartOfDay()));
+        list.add(new WorkoutEntry("walk", 30, 3, DAY.atTime(18, 0)));
+        list.add(new NoteEntry("untimed"));
+
+        DailyRollups.Totals day = list.rollups().on(DAY);
+        assertEquals(800, day.calories());
+        assertEquals(15, day.protein());
+        assertEquals(80, day.carbs());
+        assertEquals(3, day.fat());
+        assertEquals(120, day.milkMl());
+        assertEquals(30, day.workoutMinutes());
+        assertEquals(200, list.rollups().overall().milkMl());
+
+        list.deleteByIndex(0);
+        list.deleteByIndex(1); // 120ml
+
+        assertEquals(600, list.rollups().on(DAY).calories());
+        assertEquals(0, list.rollups().on(DAY).milkMl());
+        assertEquals(80, list.rollups().between(DAY, DAY.plusDays(7)).milkMl());
+        assertEquals(80, list.rollups().overall().milkMl());
+    }
+
+    @Test
+    void separateLists_doNotShareTotals() {
+        EntryList first = new EntryList();
+        EntryList second = new EntryList();
+        first.add(new MilkEntry("150ml", LocalDateTime.of(2025, 10, 28, 9, 0)));
+
+        assertEquals(150, first.rollups().overall().milkMl());
+        assertEquals(0, second.rollups().overall().milkMl());
+        assertEquals(0, second.rollups().on(DAY).milkMl());
+    }
+}
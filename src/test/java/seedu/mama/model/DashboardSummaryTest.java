@@ -0,0 +1,68 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.storage.Storage;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the dashboard reads today's and this week's rollups against one captured instant.
+ */
+public class DashboardSummaryTest {
+
+    // Wednesday 29/10/25 10:00 UTC
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 29, 10, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    void summary_usesOneCapturedInstant() {
+        EntryList list = new EntryList();
+        list.add(new MealEntry("yesterday", 900, null, null, null, NOW.minusDays(1)));
+        list.add(new MealEntry("breakfast", 350, null, null, null, NOW.withHour(8)));
+        list.add(new MealEntry("later today", 150, null, null, null, NOW.withHour(23)));
+        list.add(new MilkEntry("120ml", NOW.withHour(1)));
+        list.add(new WorkoutEntry("last sunday", 60, 3, NOW.minusDays(3).minusMinutes(1)));
+        list.add(new WorkoutEntry("monday", 30, 4, NOW.minusDays(2)));
+        list.add(new WorkoutGoalEntry(90, NOW.minusDays(2)));
+        list.add(new WorkoutGoalEntry(120, NOW.minusDays(1)));
+
+        DashboardSummary summary = new DashboardSummary(list, new Storage(null) {
+            @Override
+            public Integer loadGoal() {
+                return 2000;
+            }
+        }, CLOCK);
+
+        assertEquals(500, summary.getCaloriesToday());
+        assertEquals(2000, summary.getCalorieGoal());
+        assertEquals(120, summary.getMilkToday());
+        assertEquals(30, summary.getWorkoutMinutesThisWeek());
+        assertEquals(120, summary.getWorkoutGoal().getMinutesPerWeek());
+    }
+
+    @Test
+    void extraAccumulator_seesTheSameRollups() {
+        EntryList list = new EntryList();
+        list.add(new MealEntry("lunch", 400, 30, null, null, NOW));
+        list.add(new MealEntry("dinner", 500, 20, null, null, NOW.minusDays(1)));
+        list.add(new WorkoutEntry("run", 40, 3, NOW.minusDays(2)));
+        list.add(new WorkoutEntry("swim", 25, 3, NOW.minusWeeks(1)));
+
+        DashboardAggregator agg = new DashboardAggregator(CLOCK);
+        DashboardAggregator.Sum protein = agg.sumToday(DailyRollups.Totals::protein);
+        DashboardAggregator.Sum workouts = agg.sumThisWeek(WeeklyRollups.Week::workoutCount);
+        int[] seen = new int[1];
+        agg.add((today, week) -> seen[0]++);
+        agg.run(list);
+
+        assertEquals(30, protein.total());
+        assertEquals(1, workouts.total());
+        assertEquals(1, seen[0]);
+        assertEquals(NOW.toLocalDate().minusDays(2), agg.weekStart());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests loading older entries on demand through {@link EntryList#setHistory}.
+ */
+public class EntryListHistoryTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 27, 9, 0);
+
+    private EntryList list;
+    private List<List<Entry>> segments;
+
+    @BeforeEach
+    void setUp() {
+        segments = new ArrayList<>();
+        segments.add(List.of(new WorkoutEntry("old", 20, 3, MONDAY.minusWeeks(2)),
+                new NoteEntry("untimed")));
+        segments.add(List.of(new MilkEntry("90ml", MONDAY.minusWeeks(1).minusDays(1)),
+                new MilkEntry("100ml", MONDAY.minusWeeks(1)),
+                new WorkoutEntry("last week", 30, 4, MONDAY.minusWeeks(1).plusHours(1))));
+
+        list = new EntryList();
+        list.add(new MilkEntry("150ml", MONDAY));
+        list.add(new WorkoutEntry("today", 40, 5, MONDAY.plusHours(1)));
+        list.setHistory(() -> segments.isEmpty() ? null : segments.remove(segments.size() - 1));
+    }
+
+    @Test
+    void timeQuery_insideLoadedWindow_leavesHistoryOnDisk() {
+        assertEquals(1, list.entriesBetween(MONDAY.plusMinutes(1), MONDAY.plusDays(1)).size());
+        assertEquals(0, list.rollups().on(MONDAY.toLocalDate().plusDays(1)).milkMl());
+
+        assertTrue(list.hasUnloadedHistory());
+        assertEquals(2, segments.size());
+    }
+
+    @Test
+    void timeQuery_reachingBack_loadsOnlyTheSegmentsItNeeds() {
+        LocalDate lastWeek = MONDAY.minusWeeks(1).toLocalDate();
+
+        assertEquals(100, list.rollups().on(lastWeek).milkMl());
+        assertEquals(30, list.weeklyRollups().week(WeeklyRollups.weekOf(lastWeek)).workoutMinutes());
+        assertEquals(1, segments.size(), "Oldest segment should still be on disk");
+        assertTrue(list.hasUnloadedHistory());
+    }
+
+    @Test
+    void size_loadsEverythingInOrder() {
+        list.add(new NoteEntry("added before load"));
+
+        assertEquals(8, list.size());
+        assertFalse(list.hasUnloadedHistory());
+        List<String> descriptions = new ArrayList<>();
+        for (Entry e : list.view()) {
+            descriptions.add(e.description());
+        }
+        assertEquals("added before load", descriptions.get(7));
+        assertEquals("untimed", descriptions.get(1));
+        assertEquals("100ml", ((MilkEntry) list.get(3)).getMilk());
+        assertEquals(3, list.countOfType(EntryType.MILK));
+    }
+
+    @Test
+    void overallTotals_knownToHistory_leaveItOnDisk() {
+        List<Entry> older = List.of(new MilkEntry("90ml", MONDAY.minusWeeks(1)), new NoteEntry("untimed"));
+        EntryList lazy = new EntryList();
+        lazy.add(new MilkEntry("150ml", MONDAY));
+        lazy.setHistory(new EntryList.History() {
+            @Override
+            public List<Entry> older() {
+                throw new AssertionError("History should not be read");
+            }
+
+            @Override
+            public DailyRollups.Totals totals() {
+                return DailyRollups.Totals.of(older);
+            }
+        });
+
+        assertEquals(240, lazy.rollups().overall().milkMl());
+        assertTrue(lazy.hasUnloadedHistory());
+    }
+
+    @Test
+    void overallTotals_unknownToHistory_loadEverything() {
+        assertEquals(340, list.rollups().overall().milkMl());
+        assertFalse(list.hasUnloadedHistory());
+    }
+
+    @Test
+    void loadHistory_shiftsPendingAddIndexes() {
+        list.drainChanges();
+        list.add(new NoteEntry("new"));
+        list.loadHistory();
+
+        List<EntryChange> changes = list.drainChanges();
+        assertEquals(1, changes.size());
+        assertEquals(7, changes.get(0).index());
+        assertEquals("new", list.get(7).description());
+    }
+
+    @Test
+    void deleteByIndex_countsOlderEntries() {
+        Entry removed = list.deleteByIndex(0);
+
+        assertEquals("old", ((WorkoutEntry) removed).getWorkoutType());
+        assertEquals(70, list.weeklyRollups().history(WeeklyRollups.weekOf(MONDAY.toLocalDate()), 3)
+                .stream().mapToInt(WeeklyRollups.Week::workoutMinutes).sum());
+    }
+}
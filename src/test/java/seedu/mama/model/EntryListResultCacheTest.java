@@ -0,0 +1,42 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntryListResultCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 10, 28);
+
+    @Test
+    void version_increasesOnEveryMutation() {
+        EntryList list = new EntryList();
+        long v0 = list.version();
+        list.add(new NoteEntry("a"));
+        long v1 = list.version();
+        list.deleteByIndex(0);
+
+        assertTrue(v0 < v1 && v1 < list.version());
+    }
+
+    @Test
+    void cached_recomputesOnlyForNewVersionOrBucket() {
+        EntryList list = new EntryList();
+        int[] computed = new int[1];
+
+        for (int i = 0; i < 3; i++) {
+            list.cached("q", DAY, () -> ++computed[0]);
+        }
+        assertEquals(1, computed[0]);
+
+        list.cached("q", DAY.plusDays(1), () -> ++computed[0]);
+        list.cached("other", DAY, () -> ++computed[0]);
+        assertEquals(3, computed[0]);
+
+        list.add(new NoteEntry("a"));
+        assertEquals(4, (int) list.cached("q", DAY, () -> ++computed[0]));
+    }
+}
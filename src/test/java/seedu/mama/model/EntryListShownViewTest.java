@@ -0,0 +1,70 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that {@link EntryList} keeps the shown view in sync incrementally.
+ */
+public class EntryListShownViewTest {
+
+    private EntryList list;
+    private AtomicInteger predicateCalls;
+
+    @BeforeEach
+    void setUp() {
+        list = new EntryList();
+        predicateCalls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            list.add(new MealEntry("meal" + i, i));
+            list.add(new WorkoutEntry("run" + i, 10 + i, 3));
+        }
+    }
+
+    @Test
+    void add_testsOnlyTheNewEntryAgainstFilter() {
+        list.setFilter(e -> {
+            predicateCalls.incrementAndGet();
+            return e instanceof WorkoutEntry;
+        });
+        assertEquals(20, predicateCalls.get());
+        assertEquals(10, list.shownSize());
+
+        list.add(new WorkoutEntry("swim", 25, 4));
+        list.add(new MealEntry("soup", 150));
+
+        assertEquals(22, predicateCalls.get());
+        assertEquals(11, list.shownSize());
+        assertEquals("swim", list.getShown(10).description());
+    }
+
+    @Test
+    void delete_removesOnlyThatEntryFromShownView() {
+        list.setFilter(EntryType.MEAL);
+
+        list.deleteByShownIndex(3); // meal3
+        list.deleteByIndex(0); // meal0
+
+        assertEquals(8, list.shownSize());
+        assertEquals("meal1", list.getShown(0).description());
+        assertEquals("meal4", list.getShown(2).description());
+    }
+
+    @Test
+    void mutations_withoutFilter_matchFullRebuild() {
+        list.add(new NoteEntry("n"));
+        list.deleteByIndex(5);
+        int incremental = list.shownSize();
+        String last = list.getShown(incremental - 1).description();
+
+        list.clearFilter(); // forces a rebuild
+
+        assertEquals(incremental, list.shownSize());
+        assertEquals(last, list.getShown(list.shownSize() - 1).description());
+        assertEquals(list.size(), list.shownSize());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the timestamp index behind {@link EntryList#entriesBetween}.
+ */
+public class EntryListTimeIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 27, 0, 0);
+
+    private EntryList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new EntryList();
+        list.add(new WorkoutEntry("last week", 20, 3, MONDAY.minusMinutes(1)));
+        list.add(new WorkoutEntry("tue", 30, 4, MONDAY.plusDays(1).withHour(7)));
+        list.add(new NoteEntry("untimed"));
+        list.add(new MealEntry("lunch", 500, null, null, null, MONDAY.plusDays(1).withHour(12)));
+        list.add(new WorkoutEntry("mon", 40, 5, MONDAY)); // inserted out of order
+        list.add(new WorkoutEntry("next week", 50, 2, MONDAY.plusDays(7)));
+    }
+
+    @Test
+    void entriesBetween_returnsHalfOpenRangeInTimeOrder() {
+        List<WorkoutEntry> week = list.entriesBetween(MONDAY, MONDAY.plusDays(7), WorkoutEntry.class);
+
+        assertEquals(2, week.size());
+        assertEquals("mon", week.get(0).getWorkoutType());
+        assertEquals("tue", week.get(1).getWorkoutType());
+        assertEquals(3, list.entriesBetween(MONDAY, MONDAY.plusDays(7)).size());
+    }
+
+    @Test
+    void entriesOn_respectsSecondsWithinBoundaryMinute() {
+        LocalDate day = LocalDate.of(2025, 10, 29);
+        list.add(new MilkEntry("100ml", day.atStartOfDay().minusSeconds(1)));
+        list.add(new MilkEntry("120ml", day.atStartOfDay().plusSeconds(30)));
+
+        List<MilkEntry> milk = list.entriesOn(day, MilkEntry.class);
+
+        assertEquals(1, milk.size());
+        assertEquals("120ml", milk.get(0).getMilk());
+    }
+
+    @Test
+    void deleteByIndex_removesFromTimeIndex() {
+        list.deleteByIndex(1); // "tue"
+
+        List<WorkoutEntry> week = list.entriesBetween(MONDAY, MONDAY.plusDays(7), WorkoutEntry.class);
+        assertEquals(1, week.size());
+        assertEquals(40, WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list, MONDAY));
+        assertEquals(WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list.asList(), MONDAY),
+                WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list, MONDAY));
+    }
+
+    @Test
+    void currentWeekGoal_indexedMatchesScan() {
+        list.add(new WorkoutGoalEntry(150, MONDAY.plusHours(1)));
+        list.add(new WorkoutGoalEntry(200, MONDAY.plusHours(3)));
+        list.add(new WorkoutGoalEntry(999, MONDAY.minusDays(1)));
+
+        WorkoutGoalEntry indexed = WorkoutGoalQueries.currentWeekGoal(list, MONDAY);
+        assertTrue(indexed == WorkoutGoalQueries.currentWeekGoal(list.asList(), MONDAY));
+        assertEquals(200, indexed.getMinutesPerWeek());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the per-{@link EntryType} buckets kept by {@link EntryList}.
+ */
+public class EntryListTypeIndexTest {
+
+    private EntryList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new EntryList();
+        list.add(new MealEntry("a", 100));
+        list.add(new NoteEntry("not a listable type"));
+        list.add(new WorkoutEntry("run", 30, 4));
+        list.add(new MealEntry("b", 200));
+        list.add(new WeightEntry(60.5));
+    }
+
+    @Test
+    void add_routesEntriesToTheirBucket() {
+        assertEquals(2, list.countOfType(EntryType.MEAL));
+        assertEquals(1, list.countOfType(EntryType.WORKOUT));
+        assertEquals(1, list.countOfType(EntryType.WEIGHT));
+        assertEquals(0, list.countOfType(EntryType.MILK));
+        assertEquals(300, list.entriesOfType(EntryType.MEAL, MealEntry.class).stream()
+                .mapToInt(MealEntry::getCalories).sum());
+    }
+
+    @Test
+    void deleteByIndex_removesFromBucket() {
+        list.deleteByIndex(0);
+
+        assertEquals(1, list.countOfType(EntryType.MEAL));
+        assertEquals("b", list.entriesOfType(EntryType.MEAL).get(0).description());
+    }
+
+    @Test
+    void entriesOfType_isReadOnly() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> list.entriesOfType(EntryType.MEAL).add(new MealEntry("c", 1)));
+    }
+
+    @Test
+    void setFilter_type_matchesPredicateFilter() {
+        list.setFilter(EntryType.MEAL);
+        assertEquals(2, list.shownSize());
+        assertTrue(list.getShown(1).description().equals("b"));
+
+        list.setFilter(e -> e.type().equalsIgnoreCase("meal"));
+        assertEquals(2, list.shownSize());
+
+        list.clearFilter();
+        assertEquals(5, list.shownSize());
+    }
+
+    @Test
+    void of_mapsByEntryClass() {
+        assertEquals(EntryType.MEASURE, EntryType.of(new BodyMeasurementEntry(70, 90, null, null, null)));
+        assertNull(EntryType.of(new NoteEntry("x")));
+    }
+}
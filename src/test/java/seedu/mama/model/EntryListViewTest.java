@@ -0,0 +1,78 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the non-copying read API of {@link EntryList}.
+ */
+public class EntryListViewTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 10, 28, 12, 0);
+
+    @Test
+    void view_followsMutationsAndRejectsWrites() {
+        EntryList list = new EntryList();
+        List<Entry> view = list.view();
+        NoteEntry note = new NoteEntry("a");
+
+        list.add(note);
+        list.add(new MilkEntry("90ml", NOON));
+        list.deleteByIndex(1);
+
+        assertEquals(1, view.size());
+        assertSame(note, view.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(note));
+    }
+
+    @Test
+    void shownView_followsFilterAndMutations() {
+        EntryList list = new EntryList();
+        list.add(new NoteEntry("a"));
+        list.setFilter(EntryType.MILK);
+        List<Entry> shown = list.shownView();
+        assertEquals(0, shown.size());
+
+        list.add(new MilkEntry("90ml", NOON));
+        assertEquals(1, shown.size());
+        list.setFilter((Predicate<Entry>) null);
+        assertEquals(2, shown.size());
+    }
+
+    @Test
+    void sumAndForEach_matchListBasedQueries() {
+        EntryList list = new EntryList();
+        list.add(new MealEntry("a", 300, null, null, null, NOON));
+        list.add(new MealEntry("b", 200, null, null, null, NOON.plusDays(1)));
+        list.add(new WorkoutEntry("run", 30, 3, NOON));
+
+        assertEquals(500, list.sumOfType(EntryType.MEAL, MealEntry.class, MealEntry::getCalories));
+        assertEquals(300, list.sumBetween(NOON.minusHours(1), NOON.plusHours(1), MealEntry.class,
+                MealEntry::getCalories));
+        List<String> names = new ArrayList<>();
+        list.forEachBetween(NOON, NOON.plusDays(2), MealEntry.class, m -> names.add(m.description()));
+        assertEquals(List.of("a", "b"), names);
+    }
+
+    @Test
+    void latestBetween_prefersLaterTimestampThenEarlierInsert() {
+        EntryList list = new EntryList();
+        WorkoutGoalEntry first = new WorkoutGoalEntry(100, NOON.plusSeconds(30));
+        list.add(first);
+        list.add(new WorkoutGoalEntry(200, NOON.plusSeconds(10)));
+        list.add(new WorkoutGoalEntry(300, NOON.plusSeconds(30)));
+        list.add(new WorkoutGoalEntry(400, NOON.plusDays(7)));
+
+        assertSame(first, list.latestBetween(NOON, NOON.plusDays(7), WorkoutGoalEntry.class));
+        assertNull(list.latestBetween(NOON.minusDays(1), NOON, WorkoutGoalEntry.class));
+    }
+}
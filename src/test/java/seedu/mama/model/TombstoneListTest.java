@@ -0,0 +1,83 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TombstoneListTest {
+
+    @Test
+    void randomAppendsAndRemovals_matchArrayList() {
+        int[] slotOf = new int[5000];
+        TombstoneList<Integer> list = new TombstoneList<>((value, slot) -> slotOf[value] = slot);
+        List<Integer> expected = new ArrayList<>();
+        Random rnd = new Random(7);
+        int next = 0;
+        for (int step = 0; step < 4000; step++) {
+            if (expected.isEmpty() || rnd.nextInt(3) > 0) {
+                slotOf[next] = list.append(next);
+                expected.add(next++);
+            } else {
+                int index = rnd.nextInt(expected.size());
+                Integer value = list.get(index);
+                assertEquals(expected.remove(index), value);
+                assertEquals(index, list.indexOf(slotOf[value]));
+                list.removeSlot(slotOf[value]);
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        List<Integer> actual = new ArrayList<>();
+        list.forEach(actual::add);
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, list.indexOf(slotOf[expected.get(i)]));
+        }
+    }
+
+    @Test
+    void removingMostElements_compactsAndRelocates() {
+        int[] slotOf = new int[300];
+        TombstoneList<Integer> list = new TombstoneList<>((value, slot) -> slotOf[value] = slot);
+        for (int i = 0; i < 300; i++) {
+            slotOf[i] = list.append(i);
+        }
+        for (int i = 0; i < 290; i++) {
+            list.removeSlot(slotOf[i]);
+        }
+
+        assertEquals(10, list.size());
+        assertEquals(290, (int) list.get(0));
+        assertEquals(9, list.indexOf(slotOf[299]));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+    }
+
+    @Test
+    void entryList_deleteByShownIndex_removesThatOccurrence() {
+        EntryList entries = new EntryList();
+        MilkEntry milk = new MilkEntry("100ml", LocalDateTime.of(2025, 10, 28, 9, 0));
+        entries.add(new NoteEntry("a"));
+        entries.add(milk);
+        entries.add(new NoteEntry("b"));
+        entries.add(milk); // same object twice
+        entries.drainChanges();
+        entries.setFilter(EntryType.MILK);
+
+        entries.deleteByShownIndex(1);
+
+        List<EntryChange> changes = entries.drainChanges();
+        assertEquals(1, changes.size());
+        assertEquals(3, changes.get(0).index());
+        assertEquals(4L, changes.get(0).id());
+        assertEquals(3, entries.size());
+        assertSame(milk, entries.get(1));
+        assertEquals(1, entries.shownSize());
+        assertEquals(1, entries.countOfType(EntryType.MILK));
+    }
+}
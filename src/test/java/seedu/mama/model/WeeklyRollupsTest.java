@@ -0,0 +1,66 @@
+package seedu.mama.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WeeklyRollupsTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 27, 0, 0);
+
+    @Test
+    void weeklyBuckets_matchScanningQueries() {
+        EntryList list = new EntryList();
+        list.add(new WorkoutEntry("sun", 20, 3, MONDAY.minusMinutes(1)));
+        list.add(new WorkoutEntry("mon", 40, 5, MONDAY));
+        list.add(new WorkoutGoalEntry(150, MONDAY.plusHours(1)));
+        list.add(new WorkoutGoalEntry(60, MONDAY.plusHours(3)));
+        list.add(new WorkoutEntry("sun late", 25, 4, MONDAY.plusDays(7).minusSeconds(1)));
+
+        for (LocalDateTime week : List.of(MONDAY.minusWeeks(1), MONDAY, MONDAY.plusWeeks(1))) {
+            assertEquals(WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list.asList(), week),
+                    WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list, week));
+            assertSame(WorkoutGoalQueries.currentWeekGoal(list.asList(), week),
+                    WorkoutGoalQueries.currentWeekGoal(list, week));
+        }
+        assertEquals(2, list.weeklyRollups().week(MONDAY.toLocalDate()).workoutCount());
+    }
+
+    @Test
+    void delete_updatesBucketAndGoal() {
+        EntryList list = new EntryList();
+        list.add(new WorkoutGoalEntry(150, MONDAY.plusHours(1)));
+        list.add(new WorkoutGoalEntry(60, MONDAY.plusHours(3)));
+        list.add(new WorkoutEntry("mon", 40, 5, MONDAY));
+
+        list.deleteByIndex(1);
+        list.deleteByIndex(1);
+
+        assertEquals(0, WorkoutGoalQueries.sumWorkoutMinutesThisWeek(list, MONDAY));
+        assertEquals(150, WorkoutGoalQueries.currentWeekGoal(list, MONDAY).getMinutesPerWeek());
+    }
+
+    @Test
+    void goalAttainment_coversEveryWeekOldestFirst() {
+        EntryList list = new EntryList();
+        list.add(new WorkoutGoalEntry(30, MONDAY.minusWeeks(51)));
+        list.add(new WorkoutEntry("run", 45, 4, MONDAY.minusWeeks(51).plusDays(2)));
+        list.add(new WorkoutGoalEntry(100, MONDAY));
+        list.add(new WorkoutEntry("walk", 20, 3, MONDAY.plusDays(1)));
+
+        List<WeeklyRollups.Week> year = WorkoutGoalQueries.goalAttainment(list, MONDAY.plusDays(3), 52);
+
+        assertEquals(52, year.size());
+        assertEquals(MONDAY.minusWeeks(51).toLocalDate(), year.get(0).start());
+        assertTrue(year.get(0).goalMet());
+        assertFalse(year.get(51).goalMet());
+        assertEquals(20, year.get(51).workoutMinutes());
+        assertEquals(1, year.stream().filter(WeeklyRollups.Week::goalMet).count());
+    }
+}
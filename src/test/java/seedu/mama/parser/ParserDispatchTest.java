@@ -0,0 +1,86 @@
+package seedu.mama.parser;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.command.Command;
+import seedu.mama.command.CommandException;
+import seedu.mama.command.CommandType;
+import seedu.mama.command.DeleteCommand;
+import seedu.mama.command.SetWorkoutGoalCommand;
+import seedu.mama.command.ViewWorkoutGoalCommand;
+import seedu.mama.model.EntryList;
+import seedu.mama.testutil.TestStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParserDispatchTest {
+
+    @Test
+    void commandInput_tokensMatchRegexSplit() {
+        CommandInput in = CommandInput.of("  Meal  Toast\t/cal 200 ");
+        assertEquals("meal  toast\t/cal 200", in.text());
+        assertEquals(4, in.tokenCount());
+        assertEquals("toast", in.token(1));
+        assertTrue(in.tokenIs(2, "/cal"));
+        assertEquals("/cal 200", in.restFrom(2));
+        assertEquals("", in.restFrom(4));
+        assertFalse(in.hasPipe());
+        assertEquals(0, CommandInput.of("   ").tokenCount());
+    }
+
+    @Test
+    void typeOf_longestKeywordWins() {
+        assertEquals(CommandType.WORKOUT_GOAL_VIEW, Parser.typeOf(CommandInput.of("workout goal")));
+        assertEquals(CommandType.WORKOUT_GOAL_SET, Parser.typeOf(CommandInput.of("workout goal 150")));
+        assertEquals(CommandType.WORKOUT, Parser.typeOf(CommandInput.of("workout yoga /dur 30 /feel 4")));
+        assertEquals(CommandType.CALORIE_GOAL_VIEW, Parser.typeOf(CommandInput.of("Calorie Goal")));
+        assertEquals(CommandType.CALORIE_GOAL_SET, Parser.typeOf(CommandInput.of("calorie goal 1800")));
+        assertEquals(CommandType.DELETE, Parser.typeOf(CommandInput.of("delete 2")));
+    }
+
+    @Test
+    void typeOf_exactKeywordsNeedWholeInput() {
+        assertEquals(CommandType.BYE, Parser.typeOf(CommandInput.of(" BYE ")));
+        assertNull(Parser.typeOf(CommandInput.of("bye now")));
+        assertNull(Parser.typeOf(CommandInput.of("workout")));
+        assertNull(Parser.typeOf(CommandInput.of("calorie")));
+        assertNull(Parser.typeOf(CommandInput.of("")));
+    }
+
+    @Test
+    void parseTyped_returnsCommandAndType() throws CommandException {
+        Parser.Parsed parsed = Parser.parseTyped(CommandInput.of("workout goal"));
+        assertEquals(CommandType.WORKOUT_GOAL_VIEW, parsed.type());
+        assertTrue(parsed.command() instanceof ViewWorkoutGoalCommand);
+        assertNull(Parser.parseTyped(CommandInput.of("dance")).type());
+    }
+
+    @Test
+    void parse_dispatchesToSubParsers() throws CommandException {
+        assertTrue(Parser.parse("delete 3") instanceof DeleteCommand);
+        assertTrue(Parser.parse("workout goal 120") instanceof SetWorkoutGoalCommand);
+        assertTrue(Parser.parse("workout goal") instanceof ViewWorkoutGoalCommand);
+    }
+
+    @Test
+    void parse_pipeRejected() {
+        assertThrows(CommandException.class, () -> Parser.parse("milk 100|"));
+    }
+
+    @Test
+    void parse_unknownAndBadArguments_reportedAsResults() throws CommandException {
+        EntryList list = new EntryList();
+        assertEquals("Unknown command.", feedback(Parser.parse("sleep 8"), list));
+        assertTrue(feedback(Parser.parse("delete"), list).contains("Missing index."));
+        assertTrue(feedback(Parser.parse("weight abc"), list).startsWith("Weight must be a number."));
+        assertEquals("Usage: workout goal <minutes>", feedback(Parser.parse("workout goal 1 2"), list));
+    }
+
+    private static String feedback(Command command, EntryList list) throws CommandException {
+        return command.execute(list, new TestStorage.Noop()).getFeedbackToUser();
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.testutil.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that {@link ParallelTextLoader} yields exactly what a sequential read of the same file does.
+ */
+public class ParallelTextLoaderTest {
+
+    private ForkJoinPool pool;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pool = new ForkJoinPool(4);
+        file = Files.createTempDirectory("mama-parallel").resolve("mama.txt");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void load_smallChunks_keepsFileOrderAndGoal() throws IOException {
+        new DatasetGenerator(11).span(LocalDate.of(2024, 1, 1), 30).write(file);
+        List<String> expected = storageLines(new Storage(file).loadOrEmpty());
+
+        List<Entry> entries = new ArrayList<>();
+        List<String> bad = new ArrayList<>();
+        ParallelTextLoader.Result result = new ParallelTextLoader(pool, 97).load(file, entries::add, bad::add);
+
+        assertEquals(expected, storageLines(entries));
+        assertEquals(expected.size(), result.lines);
+        assertEquals("CALORIE_GOAL|1800", result.goalLine);
+        assertEquals(List.of(), bad);
+    }
+
+    @Test
+    void load_badLinesAndLineEndings_matchSequentialRead() throws IOException {
+        String content = "NOTE|first\r\n"
+                + "garbage line\n"
+                + "\n"
+                + "CALORIE_GOAL|1500\n"
+                + "MILK|120ml|28/10/25 02:32\r\n"
+                + "MILK|abc|28/10/25 02:32\n"
+                + "CALORIE_GOAL|999\n"
+                + "NOTE|no newline at end";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+        List<Entry> entries = new ArrayList<>();
+        List<String> bad = new ArrayList<>();
+        ParallelTextLoader.Result result = new ParallelTextLoader(pool, 8).load(file, entries::add, bad::add);
+
+        assertEquals(List.of("NOTE|first", "MILK|120ml|28/10/25 02:32", "NOTE|no newline at end"),
+                storageLines(entries));
+        assertEquals(List.of("garbage line", "", "MILK|abc|28/10/25 02:32"), bad);
+        assertEquals(6, result.lines);
+        assertEquals("CALORIE_GOAL|1500", result.goalLine);
+    }
+
+    @Test
+    void load_emptyFile_yieldsNothing() throws IOException {
+        Files.write(file, new byte[0]);
+        List<Entry> entries = new ArrayList<>();
+        ParallelTextLoader.Result result = new ParallelTextLoader(pool, 8).load(file, entries::add, line -> { });
+
+        assertEquals(0, entries.size());
+        assertEquals(0, result.lines);
+        assertNull(result.goalLine);
+    }
+
+    @Test
+    void loadOrEmpty_parallelEnabled_sameListAndGoalAsSequential() throws IOException {
+        new DatasetGenerator(5).span(LocalDate.of(2023, 6, 1), 120).write(file);
+        Storage sequential = new Storage(file);
+        EntryList expected = sequential.loadOrEmpty();
+
+        Storage parallel = new Storage(file);
+        parallel.setParallelLoad(pool, 0);
+        EntryList actual = parallel.loadOrEmpty();
+
+        assertEquals(storageLines(expected), storageLines(actual));
+        assertEquals(sequential.loadGoal(), parallel.loadGoal());
+        assertEquals(sequential.metrics().linesParsed(), parallel.metrics().linesParsed());
+    }
+
+    private static List<String> storageLines(EntryList list) {
+        return storageLines(list.view());
+    }
+
+    private static List<String> storageLines(List<Entry> entries) {
+        List<String> lines = new ArrayList<>();
+        for (Entry e : entries) {
+            lines.add(e.toStorageString());
+        }
+        return lines;
+    }
+}
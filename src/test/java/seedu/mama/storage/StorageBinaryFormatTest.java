@@ -0,0 +1,159 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MealEntry;
+import seedu.mama.model.NoteEntry;
+import seedu.mama.model.WorkoutEntry;
+import seedu.mama.testutil.DatasetGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the binary snapshot format of {@link Storage}: round trip, detection, goal handling and migration.
+ */
+public class StorageBinaryFormatTest {
+
+    private static final LocalDateTime WHEN = LocalDateTime.of(2025, 10, 28, 9, 15);
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-binary").resolve("mama.txt");
+    }
+
+    @Test
+    void save_binary_roundTripsEveryEntryType() throws IOException {
+        List<Entry> entries = new DatasetGenerator(7).span(LocalDate.of(2024, 1, 1), 60).generate();
+        EntryList list = new EntryList();
+        entries.forEach(list::add);
+
+        new Storage(file, false, 100, StorageFormat.BINARY).save(list);
+        assertTrue(BinaryFormat.isBinary(file));
+
+        Storage reader = new Storage(file);
+        EntryList back = reader.loadOrEmpty();
+        assertEquals(StorageFormat.BINARY, reader.format(), "Format should be detected from the header");
+        assertEquals(storageLines(list), storageLines(back));
+    }
+
+    @Test
+    void save_binary_keepsUnicodeAndEmptyOptionalFields() {
+        EntryList list = new EntryList();
+        list.add(new NoteEntry("宝宝 slept | well"));
+        list.add(new MealEntry("congee", 300, null, 12, null, WHEN));
+
+        new Storage(file, false, 100, StorageFormat.BINARY).save(list);
+
+        EntryList back = new Storage(file).loadOrEmpty();
+        assertEquals(storageLines(list), storageLines(back));
+        assertNull(((MealEntry) back.get(1)).getProtein());
+    }
+
+    @Test
+    void write_failingStream_throwsIoException() {
+        OutputStream full = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("No space left on device");
+            }
+        };
+        List<Entry> entries = new DatasetGenerator(3).span(LocalDate.of(2024, 1, 1), 30).generate();
+
+        IOException e = assertThrows(IOException.class, () -> BinaryFormat.write(full, 1800, entries));
+        assertEquals("No space left on device", e.getMessage());
+    }
+
+    @Test
+    void goal_binary_updatedInPlaceAndKeptOnRewrite() {
+        Storage storage = new Storage(file, false, 100, StorageFormat.BINARY);
+        EntryList list = storage.loadOrEmpty();
+        storage.saveGoal(1800);
+        list.add(new WorkoutEntry("swim", 40, 5, WHEN));
+        storage.save(list);
+        storage.saveGoal(2000);
+
+        Storage reader = new Storage(file);
+        assertEquals(1, reader.loadOrEmpty().size());
+        assertEquals(2000, reader.loadGoal());
+    }
+
+    @Test
+    void migrate_textToBinary_foldsJournalAndShrinksFile() throws IOException {
+        new DatasetGenerator(3).span(LocalDate.of(2024, 1, 1), 90).write(file);
+        Storage text = new Storage(file, true, 1000);
+        EntryList list = text.loadOrEmpty();
+        list.add(new NoteEntry("journalled"));
+        text.save(list);
+        long textSize = Files.size(file);
+        List<String> expected = storageLines(list);
+
+        Storage storage = new Storage(file, true, 1000);
+        EntryList migrated = storage.migrate(StorageFormat.BINARY);
+
+        assertEquals(StorageFormat.BINARY, storage.format());
+        assertTrue(BinaryFormat.isBinary(file));
+        assertFalse(Files.exists(file.resolveSibling("mama.txt.journal")), "Journal should be folded in");
+        assertTrue(Files.size(file) * 2 < textSize, "Binary file should be much smaller than the text one");
+        assertEquals(expected, storageLines(migrated));
+        assertEquals(1800, storage.loadGoal());
+
+        Storage back = new Storage(file, true, 1000);
+        back.migrate(StorageFormat.TEXT);
+        assertFalse(BinaryFormat.isBinary(file));
+        assertEquals(expected, storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void load_binary_journalAppendsStayText() throws IOException {
+        Storage storage = new Storage(file, true, 100, StorageFormat.BINARY);
+        EntryList list = storage.loadOrEmpty();
+        storage.save(list);
+        list.add(new NoteEntry("after snapshot"));
+        storage.save(list);
+
+        assertEquals(List.of("ADD|NOTE|after snapshot"),
+                Files.readAllLines(file.resolveSibling("mama.txt.journal")));
+        assertEquals(1, new Storage(file, true, 100).loadOrEmpty().size());
+    }
+
+    @Test
+    void load_truncatedBinary_keepsRecordsBeforeTheDamage() throws IOException {
+        EntryList list = new EntryList();
+        list.add(new NoteEntry("first"));
+        list.add(new NoteEntry("second"));
+        new Storage(file, false, 100, StorageFormat.BINARY).save(list);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+        EntryList back = new Storage(file).loadOrEmpty();
+        assertEquals(1, back.size());
+        assertEquals("first", back.get(0).description());
+    }
+
+    private static List<String> storageLines(EntryList list) {
+        List<String> lines = new ArrayList<>();
+        for (Entry e : list.view()) {
+            lines.add(e.toStorageString());
+        }
+        return lines;
+    }
+}
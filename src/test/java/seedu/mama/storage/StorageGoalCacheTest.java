@@ -0,0 +1,73 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.EntryList;
+import seedu.mama.model.NoteEntry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the in-memory calorie goal cache in {@link Storage}.
+ */
+public class StorageGoalCacheTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-goal").resolve("mama.txt");
+    }
+
+    @Test
+    void loadOrEmpty_goalLine_isCachedAndSkipped() throws IOException {
+        Files.writeString(file, "CALORIE_GOAL|1800" + System.lineSeparator() + "NOTE|hi" + System.lineSeparator());
+        Storage storage = new Storage(file);
+
+        EntryList list = storage.loadOrEmpty();
+
+        assertEquals(1, list.size());
+        assertEquals(1800, storage.loadGoal());
+    }
+
+    @Test
+    void saveGoal_thenSave_keepsGoal() {
+        Storage storage = new Storage(file);
+        storage.saveGoal(2100);
+
+        EntryList list = new EntryList();
+        list.add(new NoteEntry("n"));
+        storage.save(list);
+
+        assertEquals(2100, storage.loadGoal());
+        assertEquals(2100, new Storage(file).loadGoal());
+    }
+
+    @Test
+    void loadGoal_fileChangedOutsideProcess_rereadsFile() throws IOException {
+        Storage storage = new Storage(file);
+        storage.saveGoal(1500);
+        assertEquals(1500, storage.loadGoal());
+
+        Files.writeString(file, "CALORIE_GOAL|2500" + System.lineSeparator() + "NOTE|edited by hand"
+                + System.lineSeparator());
+
+        assertEquals(2500, storage.loadGoal());
+    }
+
+    @Test
+    void loadGoal_noFile_returnsNull() {
+        Storage storage = new Storage(file);
+        assertNull(storage.loadGoal());
+        storage.saveGoal(900);
+        assertTrue(Files.exists(file));
+        assertEquals(900, storage.loadGoal());
+    }
+}
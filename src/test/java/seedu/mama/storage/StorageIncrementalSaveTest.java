@@ -0,0 +1,198 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.model.NoteEntry;
+import seedu.mama.testutil.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests saving only what changed since the last save, as journal records or segment deltas.
+ */
+public class StorageIncrementalSaveTest {
+
+    private static final LocalDateTime AUGUST = LocalDateTime.of(2025, 8, 20, 9, 0);
+
+    private Path file;
+    private Path journal;
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-delta").resolve("mama.txt");
+        journal = file.resolveSibling("mama.txt.journal");
+        dir = file.resolveSibling("mama.txt.segments");
+    }
+
+    @Test
+    void saveGoal_journalled_appendsGoalRecord() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("first"));
+        storage.save(list);
+        byte[] snapshot = Files.readAllBytes(file);
+
+        storage.saveGoal(2000);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(file), "Snapshot should not be rewritten");
+        assertEquals(List.of("CALORIE_GOAL|2000"), Files.readAllLines(journal));
+        assertEquals(2000, storage.loadGoal());
+        Storage reader = new Storage(file, true, 100);
+        assertEquals(1, reader.loadOrEmpty().size());
+        assertEquals(2000, reader.loadGoal());
+    }
+
+    @Test
+    void compaction_foldsJournalledGoalIntoSnapshot() {
+        Storage storage = new Storage(file, true, 3);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("first"));
+        storage.save(list);
+        storage.saveGoal(1500);
+        list.add(new NoteEntry("second"));
+        list.add(new NoteEntry("third"));
+        storage.save(list);
+
+        assertFalse(Files.exists(journal));
+        Storage reader = new Storage(file);
+        assertEquals(3, reader.loadOrEmpty().size());
+        assertEquals(1500, reader.loadGoal());
+    }
+
+    @Test
+    void save_lazyMonthly_writesAddWithoutReadingHistory() throws IOException {
+        LocalDate today = LocalDate.now();
+        new DatasetGenerator(4).span(today.minusDays(199), 200).write(file);
+        Storage converter = new Storage(file);
+        converter.setMonthlySegments(false);
+        List<String> expected = storageLines(converter.loadOrEmpty());
+
+        Storage storage = new Storage(file);
+        storage.setLazyLoad(30, 0);
+        EntryList list = storage.loadOrEmpty();
+        List<String[]> before = segmentLines();
+        long read = storage.metrics().bytesRead();
+
+        list.add(new NoteEntry("today"));
+        storage.save(list);
+
+        assertEquals(read, storage.metrics().bytesRead(), "Closed segments should not be read");
+        assertTrue(list.hasUnloadedHistory());
+        List<String[]> after = segmentLines();
+        for (int i = 0; i < before.size() - 1; i++) {
+            assertEquals(before.get(i)[3], after.get(i)[3]);
+        }
+        expected.add(new NoteEntry("today").toStorageString());
+        assertEquals(expected, storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void compaction_monthly_foldsJournalIntoSegments() throws IOException {
+        Storage storage = new Storage(file, true, 3);
+        storage.setMonthlySegments(false);
+        storage.save(threeMonths());
+        String augustFile = segmentLines().get(0)[3];
+
+        storage = new Storage(file, true, 3);
+        EntryList list = storage.loadOrEmpty();
+        list.deleteByIndex(1);
+        storage.save(list);
+        assertTrue(Files.exists(journal));
+        list.add(new MilkEntry("90ml", AUGUST.plusMonths(2).plusDays(1)));
+        list.add(new NoteEntry("later"));
+        storage.save(list);
+
+        assertFalse(Files.exists(journal));
+        String[] august = segmentLines().get(0);
+        assertEquals(augustFile, august[3], "Closed segment file should not change");
+        assertEquals("1", august[5]);
+        assertEquals(storageLines(list), storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void compaction_afterRestart_foldsReplayedJournal() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        storage.setMonthlySegments(false);
+        storage.save(threeMonths());
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("journalled"));
+        storage.save(list);
+        storage.saveGoal(1900);
+
+        Storage restarted = new Storage(file, true, 3);
+        EntryList reloaded = restarted.loadOrEmpty();
+        assertEquals(1900, restarted.loadGoal());
+        reloaded.deleteByIndex(0);
+        restarted.save(reloaded);
+
+        assertFalse(Files.exists(journal));
+        Storage reader = new Storage(file);
+        assertEquals(storageLines(reloaded), storageLines(reader.loadOrEmpty()));
+        assertEquals(1900, reader.loadGoal());
+    }
+
+    @Test
+    void save_deltaDoesNotFit_fallsBackToRewrite() throws IOException {
+        Storage storage = new Storage(file);
+        storage.setMonthlySegments(false);
+        storage.save(threeMonths());
+        EntryList list = storage.loadOrEmpty();
+
+        list.add(new NoteEntry("deleted first"));
+        list.add(new NoteEntry("deleted second"));
+        storage.save(list);
+        list.deleteByIndex(7);
+        list.drainChanges(); // the segments never hear of this deletion
+        list.deleteByIndex(7);
+        storage.save(list);
+
+        assertEquals(storageLines(list), storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    /**
+     * Five entries in August, then one each in September and October.
+     */
+    private static EntryList threeMonths() {
+        EntryList list = new EntryList();
+        for (int i = 0; i < 5; i++) {
+            list.add(new MilkEntry("10" + i + "ml", AUGUST.plusDays(i)));
+        }
+        list.add(new MilkEntry("110ml", AUGUST.plusMonths(1)));
+        list.add(new MilkEntry("120ml", AUGUST.plusMonths(2)));
+        return list;
+    }
+
+    private List<String[]> segmentLines() throws IOException {
+        List<String[]> segments = new ArrayList<>();
+        for (String line : Files.readAllLines(dir.resolve(MonthlySegments.MANIFEST))) {
+            if (line.startsWith("SEGMENT|")) {
+                segments.add(line.split("\\|", -1));
+            }
+        }
+        return segments;
+    }
+
+    private static List<String> storageLines(EntryList list) {
+        List<String> lines = new ArrayList<>();
+        for (Entry e : list.view()) {
+            lines.add(e.toStorageString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.EntryList;
+import seedu.mama.model.Entry;
+import seedu.mama.model.MealEntry;
+import seedu.mama.model.NoteEntry;
+import seedu.mama.model.WorkoutEntry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests journal mode of {@link Storage}: appended add/delete records, replay and compaction.
+ */
+public class StorageJournalTest {
+
+    private static final LocalDateTime WHEN = LocalDateTime.of(2025, 10, 28, 9, 15);
+
+    private Path file;
+    private Path journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("mama-journal");
+        file = dir.resolve("mama.txt");
+        journal = dir.resolve("mama.txt.journal");
+    }
+
+    @Test
+    void save_afterLoad_appendsRecordsInsteadOfRewriting() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new MealEntry("toast", 200, null, null, null, WHEN));
+        storage.save(list); // first save creates the snapshot
+        String snapshot = Files.readString(file);
+
+        list.add(new WorkoutEntry("run", 30, 4, WHEN));
+        storage.save(list);
+        list.deleteByIndex(0);
+        storage.save(list);
+
+        assertEquals(snapshot, Files.readString(file), "Snapshot should not be rewritten");
+        assertEquals(2, Files.readAllLines(journal).size());
+        assertEquals(2, storage.journalSize());
+
+        EntryList reloaded = new Storage(file, true, 100).loadOrEmpty();
+        assertEquals(1, reloaded.size());
+        assertTrue(reloaded.get(0).toListLine().contains("run"));
+    }
+
+    @Test
+    void save_thresholdReached_compactsIntoSnapshot() throws IOException {
+        Storage storage = new Storage(file, true, 3);
+        EntryList list = storage.loadOrEmpty();
+        storage.save(list);
+
+        for (int i = 0; i < 3; i++) {
+            list.add(new MealEntry("meal" + i, 100 + i, null, null, null, WHEN));
+            storage.save(list);
+        }
+
+        assertFalse(Files.exists(journal), "Journal should be folded into the snapshot");
+        assertEquals(0, storage.journalSize());
+        assertEquals(3, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void save_foreignList_rewritesSnapshot() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        storage.loadOrEmpty();
+
+        EntryList other = new EntryList();
+        other.add(new MealEntry("soup", 150, null, null, null, WHEN));
+        storage.save(other);
+
+        assertFalse(Files.exists(journal));
+        assertEquals(1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void loadOrEmpty_journalWithoutSnapshot_isDiscarded() throws IOException {
+        Files.writeString(journal, "ADD|NOTE|stale" + System.lineSeparator());
+
+        EntryList list = new Storage(file, true, 100).loadOrEmpty();
+
+        assertEquals(0, list.size());
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    void loadOrEmpty_tornRecord_isSkipped() throws IOException {
+        Files.writeString(file, "NOTE|kept" + System.lineSeparator());
+        Files.writeString(journal, "ADD|NOTE|added" + System.lineSeparator() + "DEL|");
+
+        EntryList list = new Storage(file, true, 100).loadOrEmpty();
+
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void loadOrEmpty_badRecordBeforeDelete_stopsReplay() throws IOException {
+        Files.writeString(file, "NOTE|a" + System.lineSeparator() + "NOTE|b" + System.lineSeparator());
+        Files.writeString(journal, "ADD|NOTE|c" + System.lineSeparator() + "ADD|BROKEN" + System.lineSeparator()
+                + "DEL|3" + System.lineSeparator());
+
+        EntryList list = new Storage(file, true, 100).loadOrEmpty();
+
+        assertEquals(List.of("NOTE|a", "NOTE|b", "NOTE|c"), storageLines(list));
+        assertFalse(Files.exists(journal), "Replayed records should be folded into the snapshot");
+        assertEquals(List.of("NOTE|a", "NOTE|b", "NOTE|c"), Files.readAllLines(file));
+        assertEquals(3, Files.readAllLines(journal.resolveSibling("mama.txt.journal.bad")).size());
+    }
+
+    @Test
+    void loadOrEmpty_crashAfterFoldCommitted_dropsFoldedJournal() throws IOException {
+        // A compaction replaced the snapshot with one holding the journal, then died before dropping it
+        Files.writeString(file, "NOTE|a" + System.lineSeparator() + "NOTE|c" + System.lineSeparator());
+        Files.writeString(file.resolveSibling("mama.txt.journal.folded"), "ADD|NOTE|b" + System.lineSeparator()
+                + "ADD|NOTE|c" + System.lineSeparator() + "DEL|1" + System.lineSeparator());
+
+        EntryList list = new Storage(file, true, 100).loadOrEmpty();
+
+        assertEquals(List.of("NOTE|a", "NOTE|c"), storageLines(list));
+        assertFalse(Files.exists(file.resolveSibling("mama.txt.journal.folded")));
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    void loadOrEmpty_crashBeforeFoldCommitted_replaysFoldedJournal() throws IOException {
+        // A compaction moved the journal aside, then died before its snapshot replaced the old one
+        Files.writeString(file, "NOTE|a" + System.lineSeparator());
+        Files.writeString(file.resolveSibling("mama.txt.tmp"), "NOTE|a" + System.lineSeparator()
+                + "NOTE|c" + System.lineSeparator());
+        Files.writeString(file.resolveSibling("mama.txt.journal.folded"), "ADD|NOTE|b" + System.lineSeparator()
+                + "ADD|NOTE|c" + System.lineSeparator() + "DEL|1" + System.lineSeparator());
+
+        Storage storage = new Storage(file, true, 100);
+        EntryList list = storage.loadOrEmpty();
+
+        assertEquals(List.of("NOTE|a", "NOTE|c"), storageLines(list));
+        assertEquals(3, storage.journalSize());
+        assertFalse(Files.exists(file.resolveSibling("mama.txt.journal.folded")));
+    }
+
+    @Test
+    void save_compaction_leavesNoFoldedJournal() throws IOException {
+        Storage storage = new Storage(file, true, 2);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("a"));
+        storage.save(list);
+        list.add(new NoteEntry("b"));
+        storage.save(list);
+        list.add(new NoteEntry("c"));
+        storage.save(list);
+
+        assertFalse(Files.exists(journal));
+        assertFalse(Files.exists(file.resolveSibling("mama.txt.journal.folded")));
+        assertEquals(List.of("NOTE|a", "NOTE|b", "NOTE|c"), storageLines(new Storage(file, true, 100).loadOrEmpty()));
+    }
+
+    @Test
+    void save_appendFails_rewritesSnapshotInstead() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("a"));
+        storage.save(list);
+        Files.createDirectory(journal); // appending to the journal now fails
+
+        list.add(new NoteEntry("b"));
+        storage.save(list);
+
+        assertFalse(Files.exists(journal));
+        assertEquals(List.of("NOTE|a", "NOTE|b"), Files.readAllLines(file));
+        assertEquals(0, storage.journalSize());
+    }
+
+    @Test
+    void save_rewriteFails_keepsJournalAndRetries() throws IOException {
+        Storage storage = new Storage(file, true, 2);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("a"));
+        storage.save(list);
+        list.add(new NoteEntry("b"));
+        storage.save(list);
+        Path tmp = file.resolveSibling("mama.txt.tmp");
+        Files.createDirectory(tmp);
+        Files.writeString(tmp.resolve("blocker"), "x"); // the snapshot can no longer be replaced
+
+        list.add(new NoteEntry("c"));
+        storage.save(list); // compaction fails
+        list.add(new NoteEntry("d"));
+        storage.save(list); // must not append on top of the stale journal
+
+        assertEquals(1, storage.journalSize());
+        assertEquals(List.of("NOTE|a", "NOTE|b"), storageLines(new Storage(file, true, 100).loadOrEmpty()));
+
+        Files.delete(tmp.resolve("blocker"));
+        Files.delete(tmp);
+        list.add(new NoteEntry("e"));
+        storage.save(list);
+
+        assertFalse(Files.exists(journal));
+        assertEquals(storageLines(list), storageLines(new Storage(file, true, 100).loadOrEmpty()));
+    }
+
+    @Test
+    void close_afterFailedQueuedAppend_rewritesSnapshot() throws IOException {
+        Storage storage = new Storage(file, true, 100);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("a"));
+        storage.save(list);
+        storage.startWriteBehind();
+        Files.createDirectory(journal);
+
+        list.add(new NoteEntry("b"));
+        storage.save(list);
+        list.add(new NoteEntry("c"));
+        storage.save(list);
+        storage.close();
+
+        assertEquals(List.of("NOTE|a", "NOTE|b", "NOTE|c"), storageLines(new Storage(file, true, 100).loadOrEmpty()));
+    }
+
+    private static List<String> storageLines(EntryList list) {
+        List<String> lines = new ArrayList<>();
+        for (Entry e : list.view()) {
+            lines.add(e.toStorageString());
+        }
+        return lines;
+    }
+}
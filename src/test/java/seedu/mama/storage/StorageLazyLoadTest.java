@@ -0,0 +1,130 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.metrics.StorageMetrics;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.NoteEntry;
+import seedu.mama.testutil.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests loading only the recent window of a text snapshot and decoding older segments on demand.
+ */
+public class StorageLazyLoadTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private Path file;
+    private List<String> expected;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-lazy").resolve("mama.txt");
+        new DatasetGenerator(11).span(TODAY.minusDays(399), 400).write(file);
+        expected = storageLines(new Storage(file).loadOrEmpty());
+    }
+
+    @Test
+    void load_largeFile_decodesOnlyRecentSegments() throws IOException {
+        Storage storage = lazyStorage();
+        EntryList list = storage.loadOrEmpty();
+
+        assertTrue(list.hasUnloadedHistory());
+        assertTrue(storage.metrics().bytesRead() * 2 < Files.size(file),
+                "Only a small part of the file should be read at startup");
+        assertEquals(1800, storage.loadGoal());
+
+        EntryList full = new Storage(file).loadOrEmpty();
+        assertEquals(full.rollups().on(TODAY.minusDays(3)).milkMl(), list.rollups().on(TODAY.minusDays(3)).milkMl());
+        assertTrue(list.hasUnloadedHistory(), "A query inside the window should not load history");
+
+        assertEquals(full.rollups().on(TODAY.minusDays(200)).calories(),
+                list.rollups().on(TODAY.minusDays(200)).calories());
+        assertEquals(expected, storageLines(list));
+        assertFalse(list.hasUnloadedHistory());
+    }
+
+    @Test
+    void journal_deleteAfterLazyLoad_usesPositionsInWholeFile() {
+        Storage storage = lazyStorage();
+        EntryList list = storage.loadOrEmpty();
+        list.add(new NoteEntry("recent"));
+        storage.save(list);
+        list.deleteByIndex(0);
+        storage.save(list);
+
+        List<String> after = new ArrayList<>(expected.subList(1, expected.size()));
+        after.add(new NoteEntry("recent").toStorageString());
+        assertEquals(after, storageLines(lazyStorage().loadOrEmpty()));
+    }
+
+    @Test
+    void saveGoal_textFile_loadsHistoryBeforeRewriting() {
+        Storage storage = new Storage(file);
+        storage.setLazyLoad(30, 0);
+        EntryList list = storage.loadOrEmpty();
+        storage.saveGoal(2100);
+
+        assertFalse(list.hasUnloadedHistory());
+        assertEquals(expected, storageLines(list));
+        assertEquals(2100, new Storage(file).loadGoal());
+    }
+
+    @Test
+    void saveGoal_journalled_leavesHistoryOnDisk() {
+        Storage storage = lazyStorage();
+        EntryList list = storage.loadOrEmpty();
+        storage.saveGoal(2100);
+
+        assertTrue(list.hasUnloadedHistory());
+        assertEquals(1800, new Storage(file).loadGoal(), "Snapshot should not be rewritten");
+        assertEquals(2100, new Storage(file, true, 1000).loadGoal());
+        assertEquals(expected, storageLines(lazyStorage().loadOrEmpty()));
+    }
+
+    @Test
+    void older_tinySegments_returnEveryLineOnce() throws IOException {
+        List<Entry> back = new ArrayList<>();
+        TextSegments segments = new TextSegments(file, 7, new StorageMetrics(), line -> { });
+        List<List<Entry>> parts = new ArrayList<>();
+        while (segments.hasOlder()) {
+            parts.add(segments.older());
+        }
+        for (int i = parts.size() - 1; i >= 0; i--) {
+            back.addAll(parts.get(i));
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (Entry e : back) {
+            lines.add(e.toStorageString());
+        }
+        assertEquals(expected, lines);
+    }
+
+    private Storage lazyStorage() {
+        Storage storage = new Storage(file, true, 1000);
+        storage.setLazyLoad(30, 0);
+        return storage;
+    }
+
+    private static List<String> storageLines(EntryList list) {
+        List<String> lines = new ArrayList<>();
+        for (Entry e : list.view()) {
+            lines.add(e.toStorageString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.model.NoteEntry;
+import seedu.mama.model.WorkoutEntry;
+import seedu.mama.testutil.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests keeping entries in monthly segment files with {@link MonthlySegments}.
+ */
+public class StorageMonthlySegmentsTest {
+
+    private static final LocalDateTime AUGUST = LocalDateTime.of(2025, 8, 20, 9, 0);
+
+    private Path file;
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-monthly").resolve("mama.txt");
+        dir = file.resolveSibling("mama.txt.segments");
+    }
+
+    @Test
+    void save_acrossMonths_writesOneSegmentPerMonth() throws IOException {
+        Storage storage = monthlyStorage(false);
+        EntryList list = threeMonths();
+        storage.save(list);
+
+        List<String[]> segments = segmentLines();
+        assertEquals(3, segments.size());
+        assertEquals("2025-08", segments.get(0)[1]);
+        assertEquals("closed", segments.get(1)[2]);
+        assertEquals("open", segments.get(2)[2]);
+        assertFalse(Files.exists(file));
+
+        Storage reader = new Storage(file);
+        assertEquals(storageLines(list), storageLines(reader.loadOrEmpty()));
+        assertTrue(reader.isMonthly(), "Layout should be detected from the manifest");
+    }
+
+    @Test
+    void save_afterAdd_rewritesOnlyOpenSegment() throws IOException {
+        Storage storage = monthlyStorage(false);
+        storage.save(threeMonths());
+        List<String[]> before = segmentLines();
+        byte[] august = Files.readAllBytes(dir.resolve(before.get(0)[3]));
+
+        EntryList list = storage.loadOrEmpty();
+        list.add(new MilkEntry("90ml", AUGUST.plusMonths(2).plusDays(1)));
+        storage.save(list);
+
+        List<String[]> after = segmentLines();
+        assertEquals(before.get(0)[3], after.get(0)[3]);
+        assertEquals(before.get(1)[3], after.get(1)[3]);
+        assertNotEquals(before.get(2)[3], after.get(2)[3]);
+        assertArrayEquals(august, Files.readAllBytes(dir.resolve(after.get(0)[3])));
+        assertFalse(Files.exists(dir.resolve(before.get(2)[3])), "Old open segment should be deleted");
+        assertEquals(storageLines(list), storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void save_newMonth_closesPreviousSegment() throws IOException {
+        Storage storage = monthlyStorage(true);
+        storage.save(threeMonths());
+        EntryList list = storage.loadOrEmpty();
+        list.add(new MilkEntry("90ml", AUGUST.plusMonths(3)));
+        storage.save(list);
+
+        List<String[]> segments = segmentLines();
+        assertEquals(4, segments.size());
+        assertEquals("closed", segments.get(2)[2]);
+        assertTrue(segments.get(2)[3].endsWith(".txt.gz"), "Closed segment should be compressed");
+        assertTrue(segments.get(3)[3].endsWith(".txt"));
+        assertEquals(storageLines(list), storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void delete_inClosedMonth_tombstonesThenCompacts() throws IOException {
+        Storage storage = monthlyStorage(false);
+        storage.save(threeMonths());
+        String augustFile = segmentLines().get(0)[3];
+
+        EntryList list = storage.loadOrEmpty();
+        list.deleteByIndex(1);
+        storage.save(list);
+        assertEquals(augustFile, segmentLines().get(0)[3], "Closed segment file should not change");
+        assertEquals("1", segmentLines().get(0)[5]);
+        assertEquals(storageLines(list), storageLines(new Storage(file).loadOrEmpty()));
+
+        list.deleteByIndex(0);
+        storage.save(list);
+        String[] august = segmentLines().get(0);
+        assertNotEquals(augustFile, august[3], "Segment with many tombstones should be compacted");
+        assertEquals("", august[5]);
+        assertEquals("3", august[4]);
+        assertEquals(storageLines(list), storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void load_badLineInClosedMonth_keepsTombstonesOnTheirRecords() throws IOException {
+        Storage storage = monthlyStorage(false);
+        storage.save(threeMonths());
+        EntryList list = storage.loadOrEmpty();
+        list.deleteByIndex(3);
+        storage.save(list);
+        Path august = dir.resolve(segmentLines().get(0)[3]);
+        List<String> lines = Files.readAllLines(august);
+        lines.set(1, "BROKEN|record");
+        Files.write(august, lines);
+
+        List<String> expected = storageLines(list);
+        expected.remove(1); // the workout on the broken line
+        assertEquals(expected, storageLines(new Storage(file).loadOrEmpty()));
+    }
+
+    @Test
+    void load_singleFile_convertsToSegments() throws IOException {
+        new DatasetGenerator(5).span(LocalDate.of(2025, 6, 1), 120).write(file);
+        List<String> expected = storageLines(new Storage(file).loadOrEmpty());
+
+        Storage storage = new Storage(file, true, 1000);
+        storage.setMonthlySegments(true);
+        EntryList list = storage.loadOrEmpty();
+
+        assertFalse(Files.exists(file), "Single file should be replaced by segments");
+        assertEquals(4, segmentLines().size(), "June to September");
+        assertEquals(expected, storageLines(list));
+        assertEquals(1800, new Storage(file).loadGoal());
+
+        list.add(new NoteEntry("journalled"));
+        storage.save(list);
+        expected.add(new NoteEntry("journalled").toStorageString());
+        assertEquals(expected, storageLines(new Storage(file, true, 1000).loadOrEmpty()));
+    }
+
+    @Test
+    void load_lazyWindow_readsOldMonthsOnDemand() throws IOException {
+        LocalDate today = LocalDate.now();
+        new DatasetGenerator(9).span(today.minusDays(199), 200).write(file);
+        List<String> expected = storageLines(new Storage(file).loadOrEmpty());
+        Storage converter = new Storage(file);
+        converter.setMonthlySegments(true);
+        converter.loadOrEmpty();
+
+        Storage storage = new Storage(file);
+        storage.setLazyLoad(30, 0);
+        EntryList list = storage.loadOrEmpty();
+
+        assertTrue(list.hasUnloadedHistory());
+        list.rollups().on(today.minusDays(100));
+        assertTrue(list.hasUnloadedHistory(), "Months before the query should stay on disk");
+        assertEquals(expected, storageLines(list));
+    }
+
+    @Test
+    void overallTotals_lazyWindow_comeFromTheManifest() throws IOException {
+        LocalDate today = LocalDate.now();
+        new DatasetGenerator(9).span(today.minusDays(199), 200).write(file);
+        Storage converter = new Storage(file);
+        converter.setMonthlySegments(true);
+        EntryList full = converter.loadOrEmpty();
+        full.deleteByIndex(1); // tombstoned in the oldest, closed month
+        converter.save(full);
+
+        Storage storage = new Storage(file);
+        storage.setLazyLoad(30, 0);
+        EntryList list = storage.loadOrEmpty();
+
+        assertEquals(full.rollups().overall().calories(), list.rollups().overall().calories());
+        assertEquals(full.rollups().overall().milkMl(), list.rollups().overall().milkMl());
+        assertEquals(full.rollups().overall().workoutMinutes(), list.rollups().overall().workoutMinutes());
+        assertTrue(list.hasUnloadedHistory(), "Overall totals should not load old months");
+    }
+
+    @Test
+    void saveGoal_monthly_onlyRewritesManifest() throws IOException {
+        Storage storage = monthlyStorage(false);
+        storage.save(threeMonths());
+        List<String[]> before = segmentLines();
+
+        storage.saveGoal(2100);
+
+        assertEquals(2100, new Storage(file).loadGoal());
+        List<String[]> after = segmentLines();
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(before.get(i)[3], after.get(i)[3]);
+        }
+    }
+
+    @Test
+    void migrate_monthlyToBinary_rewritesEverySegment() throws IOException {
+        Storage storage = monthlyStorage(false);
+        EntryList list = threeMonths();
+        storage.save(list);
+
+        EntryList migrated = storage.migrate(StorageFormat.BINARY);
+
+        for (String[] segment : segmentLines()) {
+            assertTrue(segment[3].endsWith(".bin"), segment[3]);
+        }
+        assertEquals(storageLines(list), storageLines(migrated));
+        Storage reader = new Storage(file);
+        assertEquals(storageLines(list), storageLines(reader.loadOrEmpty()));
+        assertEquals(StorageFormat.BINARY, reader.format());
+    }
+
+    private Storage monthlyStorage(boolean compress) {
+        Storage storage = new Storage(file, false, 100);
+        storage.setMonthlySegments(compress);
+        return storage;
+    }
+
+    /**
+     * Five entries in August, one untimed note and an entry in September, and one in October.
+     */
+    private static EntryList threeMonths() {
+        EntryList list = new EntryList();
+        list.add(new MilkEntry("100ml", AUGUST));
+        list.add(new WorkoutEntry("yoga", 30, 3, AUGUST.plusDays(2)));
+        for (int i = 1; i <= 3; i++) {
+            list.add(new MilkEntry("10" + i + "ml", AUGUST.plusDays(2 + i)));
+        }
+        list.add(new MilkEntry("110ml", AUGUST.plusMonths(1)));
+        list.add(new NoteEntry("slept well"));
+        list.add(new MilkEntry("120ml", AUGUST.plusMonths(2)));
+        return list;
+    }
+
+    private List<String[]> segmentLines() throws IOException {
+        List<String[]> segments = new ArrayList<>();
+        for (String line : Files.readAllLines(dir.resolve(MonthlySegments.MANIFEST))) {
+            if (line.startsWith("SEGMENT|")) {
+                segments.add(line.split("\\|", -1));
+            }
+        }
+        return segments;
+    }
+
+    private static List<String> storageLines(EntryList list) {
+        List<String> lines = new ArrayList<>();
+        for (Entry e : list.view()) {
+            lines.add(e.toStorageString());
+        }
+        return lines;
+    }
+}
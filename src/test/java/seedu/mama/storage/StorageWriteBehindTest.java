@@ -0,0 +1,145 @@
+package seedu.mama.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MealEntry;
+import seedu.mama.model.MilkEntry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests write-behind mode of {@link Storage}: queued saves, flush on close and ordering against goal writes.
+ */
+public class StorageWriteBehindTest {
+
+    private static final LocalDateTime WHEN = LocalDateTime.of(2025, 10, 28, 9, 15);
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mama-write-behind").resolve("mama.txt");
+    }
+
+    @Test
+    void burstOfSaves_isOnDiskAfterClose() {
+        Storage storage = new Storage(file, true, 50);
+        EntryList list = storage.loadOrEmpty();
+        storage.startWriteBehind();
+        assertTrue(storage.isWriteBehind());
+
+        for (int i = 0; i < 120; i++) { // crosses the compaction threshold twice
+            list.add(new MilkEntry((i + 1) + "ml", WHEN.plusMinutes(i)));
+            storage.save(list);
+            if (i % 7 == 0) {
+                list.deleteByIndex(0);
+                storage.save(list);
+            }
+        }
+        storage.close();
+        assertFalse(storage.isWriteBehind());
+
+        EntryList reloaded = new Storage(file, true, 50).loadOrEmpty();
+        assertEquals(list.size(), reloaded.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.get(i).toStorageString(), reloaded.get(i).toStorageString());
+        }
+    }
+
+    @Test
+    void burstOfSaves_monthlyJournalled_foldsIntoSegments() {
+        Storage storage = new Storage(file, true, 20);
+        storage.setMonthlySegments(false);
+        EntryList list = storage.loadOrEmpty();
+        storage.startWriteBehind();
+
+        for (int i = 0; i < 90; i++) { // one entry a day, so segments close and get tombstones
+            list.add(new MilkEntry((i + 1) + "ml", WHEN.plusDays(i)));
+            storage.save(list);
+            if (i % 5 == 0) {
+                list.deleteByIndex(i / 3);
+                storage.save(list);
+            }
+        }
+        storage.saveGoal(1700);
+        storage.close();
+
+        Storage reader = new Storage(file, true, 20);
+        EntryList reloaded = reader.loadOrEmpty();
+        assertTrue(reader.isMonthly());
+        assertEquals(list.size(), reloaded.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.get(i).toStorageString(), reloaded.get(i).toStorageString());
+        }
+        assertEquals(1700, reader.loadGoal());
+    }
+
+    @Test
+    void saveGoal_afterQueuedSnapshot_keepsBoth() {
+        Storage storage = new Storage(file, false, 50);
+        EntryList list = storage.loadOrEmpty();
+        storage.startWriteBehind();
+
+        list.add(new MealEntry("toast", 200, null, null, null, WHEN));
+        storage.save(list);
+        storage.saveGoal(1800);
+        list.add(new MealEntry("soup", 300, null, null, null, WHEN));
+        storage.save(list);
+        storage.flush();
+
+        Storage fresh = new Storage(file);
+        assertEquals(2, fresh.loadOrEmpty().size());
+        assertEquals(1800, fresh.loadGoal());
+        storage.close();
+    }
+
+    @Test
+    void shutdownHook_flushesQueuedSaves() {
+        Storage storage = new Storage(file, true, 50);
+        EntryList list = storage.loadOrEmpty();
+        storage.startWriteBehind();
+        Thread hook = storage.shutdownHook();
+        assertNotNull(hook);
+
+        for (int i = 0; i < 30; i++) {
+            list.add(new MilkEntry((i + 1) + "ml", WHEN.plusMinutes(i)));
+            storage.save(list);
+        }
+        hook.run(); // what the JVM does on Ctrl-C or SIGTERM
+        assertFalse(storage.isWriteBehind());
+        assertNull(storage.shutdownHook());
+        storage.close(); // the normal exit path may still run afterwards
+
+        assertEquals(30, new Storage(file, true, 50).loadOrEmpty().size());
+    }
+
+    @Test
+    void flushWithoutWriteBehind_isNoop() {
+        Storage storage = new Storage(file);
+        EntryList list = storage.loadOrEmpty();
+        list.add(new MealEntry("toast", 200, null, null, null, WHEN));
+        storage.save(list);
+        storage.flush();
+        storage.close();
+
+        assertTrue(Files.exists(file));
+        assertThrows(IllegalStateException.class, () -> {
+            WriteBehindWriter writer = new WriteBehindWriter("test-writer", (s, d, r) -> { });
+            writer.close();
+            writer.submit(PendingWrite.append(List.of("x")));
+        });
+    }
+}
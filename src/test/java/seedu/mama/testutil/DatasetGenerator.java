@@ -0,0 +1,270 @@
+package seedu.mama.testutil;
+
+import seedu.mama.model.BodyMeasurementEntry;
+import seedu.mama.model.CalorieGoalEntry;
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MealEntry;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.model.NoteEntry;
+import seedu.mama.model.WeightEntry;
+import seedu.mama.model.WorkoutEntry;
+import seedu.mama.model.WorkoutGoalEntry;
+import seedu.mama.util.DateTimeUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates realistic multi-day data sets for scale testing.
+ * <p>
+ * Each simulated day gets milk sessions every few hours, several meals, and with some probability a
+ * workout, a weigh-in, a body measurement and a note; every Monday starts with a workout goal. All
+ * rates are configurable, as is a cap on the total number of entries. Output uses each entry's own
+ * {@link Entry#toStorageString()}, so a generated file is exactly what {@code Storage} would write.
+ * <p>
+ * Generation is deterministic for a given seed and configuration.
+ */
+public final class DatasetGenerator {
+    private static final String[] MEALS = {"oatmeal", "chicken rice", "salad", "toast", "fish soup", "pasta"};
+    private static final String[] WORKOUTS = {"walk", "yoga", "swim", "pilates", "jog"};
+    private static final String[] NOTES = {"slept well", "baby fussy", "doctor visit", "feeling tired"};
+
+    private final long seed;
+    private LocalDate start = LocalDate.of(2022, 1, 3);
+    private int days = 3 * 365;
+    private int maxEntries = Integer.MAX_VALUE;
+    private int mealsPerDay = 4;
+    private int milkEveryHours = 3;
+    private double workoutsPerWeek = 3;
+    private double weighInsPerWeek = 1;
+    private double measurementsPerMonth = 2;
+    private double notesPerWeek = 1;
+    private boolean weeklyGoals = true;
+    private Integer calorieGoal = 1800;
+
+    public DatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Simulates {@code days} days starting on {@code start}.
+     */
+    public DatasetGenerator span(LocalDate start, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("days must be positive");
+        }
+        this.start = start;
+        this.days = days;
+        return this;
+    }
+
+    /**
+     * Stops after {@code maxEntries} entries, whatever the span.
+     */
+    public DatasetGenerator maxEntries(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    public DatasetGenerator mealsPerDay(int mealsPerDay) {
+        this.mealsPerDay = requireNotNegative(mealsPerDay, "mealsPerDay");
+        return this;
+    }
+
+    /**
+     * Hours between milk sessions; 0 disables milk entries.
+     */
+    public DatasetGenerator milkEveryHours(int milkEveryHours) {
+        this.milkEveryHours = requireNotNegative(milkEveryHours, "milkEveryHours");
+        return this;
+    }
+
+    public DatasetGenerator workoutsPerWeek(double workoutsPerWeek) {
+        this.workoutsPerWeek = requireNotNegative(workoutsPerWeek, "workoutsPerWeek");
+        return this;
+    }
+
+    public DatasetGenerator weighInsPerWeek(double weighInsPerWeek) {
+        this.weighInsPerWeek = requireNotNegative(weighInsPerWeek, "weighInsPerWeek");
+        return this;
+    }
+
+    public DatasetGenerator measurementsPerMonth(double measurementsPerMonth) {
+        this.measurementsPerMonth = requireNotNegative(measurementsPerMonth, "measurementsPerMonth");
+        return this;
+    }
+
+    public DatasetGenerator notesPerWeek(double notesPerWeek) {
+        this.notesPerWeek = requireNotNegative(notesPerWeek, "notesPerWeek");
+        return this;
+    }
+
+    public DatasetGenerator weeklyGoals(boolean weeklyGoals) {
+        this.weeklyGoals = weeklyGoals;
+        return this;
+    }
+
+    /**
+     * Calorie goal written as the first line of the file, or null for none.
+     */
+    public DatasetGenerator calorieGoal(Integer calorieGoal) {
+        this.calorieGoal = calorieGoal;
+        return this;
+    }
+
+    /**
+     * Generates the entries in chronological order (untimed weigh-ins sit where they were logged).
+     */
+    public List<Entry> generate() {
+        Random random = new Random(seed);
+        List<Entry> entries = new ArrayList<>();
+        List<Timed> day = new ArrayList<>();
+        for (int d = 0; d < days && entries.size() < maxEntries; d++) {
+            LocalDate date = start.plusDays(d);
+            day.clear();
+            fillDay(date, d, random, day);
+            day.sort(Comparator.comparingInt(t -> t.minute));
+            for (Timed t : day) {
+                if (entries.size() == maxEntries) {
+                    break;
+                }
+                entries.add(t.entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Generates the entries into a fresh {@link EntryList}.
+     */
+    public EntryList toEntryList() {
+        EntryList list = new EntryList();
+        for (Entry e : generate()) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    /**
+     * Writes a {@code mama.txt}-style file: the calorie goal line (if any), then one line per entry.
+     *
+     * @return number of entries written, not counting the goal line
+     */
+    public int write(Path file) throws IOException {
+        List<Entry> entries = generate();
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (calorieGoal != null) {
+                out.write(new CalorieGoalEntry(calorieGoal).toStorageString());
+                out.newLine();
+            }
+            for (Entry e : entries) {
+                out.write(e.toStorageString());
+                out.newLine();
+            }
+        }
+        return entries.size();
+    }
+
+    private void fillDay(LocalDate date, int dayIndex, Random random, List<Timed> day) {
+        if (weeklyGoals && date.getDayOfWeek() == DayOfWeek.MONDAY) {
+            // goal changes roughly once a month
+            int minutes = 90 + (dayIndex / 28 % 5) * 30;
+            day.add(new Timed(0, new WorkoutGoalEntry(minutes, date.atStartOfDay())));
+        }
+        if (milkEveryHours > 0) {
+            for (int hour = 0; hour < 24; hour += milkEveryHours) {
+                int minute = hour * 60 + 15 + random.nextInt(30);
+                int ml = 60 + 10 * random.nextInt(13);
+                day.add(new Timed(minute, new MilkEntry(ml + "ml", at(date, minute))));
+            }
+        }
+        for (int m = 0; m < mealsPerDay; m++) {
+            // spread meals between 07:00 and 21:00
+            int minute = 7 * 60 + m * (14 * 60) / Math.max(1, mealsPerDay) + random.nextInt(60);
+            String name = MEALS[random.nextInt(MEALS.length)];
+            Integer protein = random.nextBoolean() ? 10 + random.nextInt(40) : null;
+            Integer carbs = random.nextBoolean() ? 20 + random.nextInt(80) : null;
+            Integer fat = random.nextBoolean() ? 5 + random.nextInt(30) : null;
+            int calories = 150 + random.nextInt(700);
+            day.add(new Timed(minute, new MealEntry(name, calories, protein, carbs, fat, at(date, minute))));
+        }
+        if (chance(random, workoutsPerWeek / 7)) {
+            int minute = 6 * 60 + random.nextInt(13 * 60);
+            String name = WORKOUTS[random.nextInt(WORKOUTS.length)];
+            int duration = 15 + 5 * random.nextInt(12);
+            day.add(new Timed(minute, new WorkoutEntry(name, duration, 1 + random.nextInt(5), at(date, minute))));
+        }
+        if (chance(random, measurementsPerMonth / 30)) {
+            int minute = 8 * 60 + random.nextInt(60);
+            day.add(new Timed(minute, measurement(random, at(date, minute))));
+        }
+        if (chance(random, weighInsPerWeek / 7)) {
+            double kg = Math.round((55 + random.nextDouble() * 20) * 10) / 10.0;
+            day.add(new Timed(8 * 60 + 30, new WeightEntry(kg)));
+        }
+        if (chance(random, notesPerWeek / 7)) {
+            day.add(new Timed(22 * 60, new NoteEntry(NOTES[random.nextInt(NOTES.length)])));
+        }
+    }
+
+    /**
+     * Body measurements only have a public constructor for "now", so the stored form is built and
+     * parsed back to get one at {@code when}.
+     */
+    private static Entry measurement(Random random, LocalDateTime when) {
+        int waist = 65 + random.nextInt(25);
+        int hips = 88 + random.nextInt(20);
+        String chest = random.nextBoolean() ? String.valueOf(80 + random.nextInt(20)) : "-";
+        String thigh = random.nextBoolean() ? String.valueOf(45 + random.nextInt(15)) : "-";
+        String arm = random.nextBoolean() ? String.valueOf(25 + random.nextInt(10)) : "-";
+        String line = String.join("|", "MEASURE", String.valueOf(waist), String.valueOf(hips), chest, thigh, arm,
+                DateTimeUtil.format(when));
+        return BodyMeasurementEntry.fromStorage(line);
+    }
+
+    private static LocalDateTime at(LocalDate date, int minuteOfDay) {
+        return date.atStartOfDay().plusMinutes(Math.min(minuteOfDay, 24 * 60 - 1));
+    }
+
+    private static boolean chance(Random random, double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    private static int requireNotNegative(int value, String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return value;
+    }
+
+    private static double requireNotNegative(double value, String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return value;
+    }
+
+    private static final class Timed {
+        private final int minute;
+        private final Entry entry;
+
+        private Timed(int minute, Entry entry) {
+            this.minute = minute;
+            this.entry = entry;
+        }
+    }
+}
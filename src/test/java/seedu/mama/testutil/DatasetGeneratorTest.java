@@ -0,0 +1,73 @@
+package seedu.mama.testutil;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.EntryList;
+import seedu.mama.model.MilkEntry;
+import seedu.mama.model.WorkoutGoalEntry;
+import seedu.mama.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DatasetGeneratorTest {
+
+    @Test
+    void generate_isDeterministicAndFollowsMix() {
+        DatasetGenerator gen = new DatasetGenerator(7).span(LocalDate.of(2024, 1, 1), 28)
+                .mealsPerDay(3).milkEveryHours(4);
+        List<Entry> first = gen.generate();
+        List<Entry> second = gen.generate();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).toStorageString(), second.get(i).toStorageString());
+        }
+        assertEquals(28 * 6, first.stream().filter(e -> e instanceof MilkEntry).count());
+        assertEquals(4, first.stream().filter(e -> e instanceof WorkoutGoalEntry).count());
+        assertEquals(28 * 3, first.stream().filter(e -> e.type().equals("MEAL")).count());
+    }
+
+    @Test
+    void maxEntries_capsOutput() {
+        assertEquals(100, new DatasetGenerator(1).maxEntries(100).generate().size());
+    }
+
+    @Test
+    void write_loadsBackThroughStorage() throws IOException {
+        Path file = Files.createTempDirectory("mama-dataset").resolve("mama.txt");
+        DatasetGenerator gen = new DatasetGenerator(3).span(LocalDate.of(2023, 5, 1), 60).calorieGoal(2000);
+
+        int written = gen.write(file);
+
+        Storage storage = new Storage(file);
+        EntryList loaded = storage.loadOrEmpty();
+        assertEquals(written, loaded.size());
+        assertEquals(2000, storage.loadGoal());
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 0; i < loaded.size(); i++) {
+            assertEquals(lines.get(i + 1), loaded.get(i).toStorageString());
+        }
+    }
+
+    @Test
+    void loadHarness_reportsEveryCommand() {
+        EntryList list = new DatasetGenerator(5).span(LocalDate.of(2024, 1, 1), 14).toEntryList();
+        List<String> commands = LoadHarness.CommandMix.typical().sample(200, 11);
+
+        LoadHarness.Report report = new LoadHarness(list, new TestStorage.Noop()).run(commands);
+
+        assertEquals(200, report.count());
+        assertEquals(0, report.failures());
+        assertTrue(report.percentile(50) <= report.percentile(99));
+        assertTrue(report.percentile("MILK", 100) > 0);
+        assertTrue(report.format().contains("ALL"));
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.mama.testutil;
+
+import seedu.mama.command.Command;
+import seedu.mama.command.CommandException;
+import seedu.mama.command.CommandType;
+import seedu.mama.model.EntryList;
+import seedu.mama.parser.CommandInput;
+import seedu.mama.parser.Parser;
+import seedu.mama.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replays a mix of commands through {@link Parser} and {@link Command#execute} against a list and
+ * storage, timing each command end to end, and reports latency percentiles per {@link CommandType}.
+ * <p>
+ * Can be run directly to load a generated multi-year data set and replay the default mix:
+ * {@code LoadHarness [days] [commands] [seed]}.
+ */
+public final class LoadHarness {
+    private final EntryList list;
+    private final Storage storage;
+
+    public LoadHarness(EntryList list, Storage storage) {
+        this.list = list;
+        this.storage = storage;
+    }
+
+    /**
+     * Runs every command in order and returns the latency report.
+     */
+    public Report run(List<String> commands) {
+        Report report = new Report();
+        for (String input : commands) {
+            CommandType type = Parser.typeOf(CommandInput.of(input));
+            String key = type == null ? "UNKNOWN" : type.name();
+            long start = System.nanoTime();
+            boolean ok = true;
+            try {
+                Command command = Parser.parse(input);
+                command.execute(list, storage);
+            } catch (CommandException | RuntimeException e) {
+                ok = false;
+            }
+            report.record(key, System.nanoTime() - start, ok);
+        }
+        return report;
+    }
+
+    /**
+     * Weighted set of command lines to sample a replay from.
+     */
+    public static final class CommandMix {
+        private final List<String> commands = new ArrayList<>();
+        private final List<Integer> cumulative = new ArrayList<>();
+        private int total;
+
+        /**
+         * Adds {@code command} with relative frequency {@code weight}.
+         */
+        public CommandMix add(String command, int weight) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight must be positive");
+            }
+            total += weight;
+            commands.add(command);
+            cumulative.add(total);
+            return this;
+        }
+
+        /**
+         * Draws {@code count} commands, deterministically for a given {@code seed}.
+         */
+        public List<String> sample(int count, long seed) {
+            if (commands.isEmpty()) {
+                throw new IllegalStateException("mix is empty");
+            }
+            Random random = new Random(seed);
+            List<String> out = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int r = random.nextInt(total);
+                int k = 0;
+                while (cumulative.get(k) <= r) {
+                    k++;
+                }
+                out.add(commands.get(k));
+            }
+            return out;
+        }
+
+        /**
+         * A day-to-day mix: mostly logging, some viewing, the occasional delete.
+         */
+        public static CommandMix typical() {
+            return new CommandMix()
+                    .add("milk 120", 30)
+                    .add("meal chicken rice /cal 650 /protein 30", 20)
+                    .add("workout walk /dur 30 /feel 4", 5)
+                    .add("weight 62.5", 3)
+                    .add("measure waist/75 hips/95", 1)
+                    .add("dashboard", 15)
+                    .add("list /t meal", 8)
+                    .add("list", 3)
+                    .add("workout goal", 4)
+                    .add("calorie goal", 4)
+                    .add("delete 1", 2);
+        }
+    }
+
+    /**
+     * Latency samples grouped by command type.
+     */
+    public static final class Report {
+        private final Map<String, Samples> byType = new TreeMap<>();
+        private final Samples overall = new Samples();
+
+        private void record(String type, long nanos, boolean ok) {
+            byType.computeIfAbsent(type, t -> new Samples()).add(nanos, ok);
+            overall.add(nanos, ok);
+        }
+
+        public int count() {
+            return overall.count;
+        }
+
+        public int failures() {
+            return overall.failures;
+        }
+
+        /**
+         * Latency in nanoseconds at {@code percentile} (0-100) over all commands.
+         */
+        public long percentile(double percentile) {
+            return overall.percentile(percentile);
+        }
+
+        /**
+         * Latency in nanoseconds at {@code percentile} for one command type, e.g. {@code "MILK"}.
+         */
+        public long percentile(String type, double percentile) {
+            Samples s = byType.get(type);
+            if (s == null) {
+                throw new IllegalArgumentException("No samples for " + type);
+            }
+            return s.percentile(percentile);
+        }
+
+        /**
+         * Table of count, failures and p50/p90/p99/max in microseconds, one row per type plus a total.
+         */
+        public String format() {
+            StringBuilder sb = new StringBuilder(String.format("%-18s %7s %5s %9s %9s %9s %9s%n",
+                    "command", "count", "fail", "p50 us", "p90 us", "p99 us", "max us"));
+            for (Map.Entry<String, Samples> e : byType.entrySet()) {
+                e.getValue().appendRow(sb, e.getKey());
+            }
+            overall.appendRow(sb, "ALL");
+            return sb.toString();
+        }
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[64];
+        private int count;
+        private int failures;
+        private boolean sorted = true;
+
+        void add(long value, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            sorted = false;
+            if (!ok) {
+                failures++;
+            }
+        }
+
+        /**
+         * Nearest-rank percentile.
+         */
+        long percentile(double p) {
+            if (p < 0 || p > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(nanos, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(p / 100 * count);
+            return nanos[Math.max(0, rank - 1)];
+        }
+
+        void appendRow(StringBuilder sb, String name) {
+            sb.append(String.format("%-18s %7d %5d %9.1f %9.1f %9.1f %9.1f%n", name, count, failures,
+                    percentile(50) / 1e3, percentile(90) / 1e3, percentile(99) / 1e3, percentile(100) / 1e3));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int days = args.length > 0 ? Integer.parseInt(args[0]) : 3 * 365;
+        int commands = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        Path dir = Files.createTempDirectory("mama-load");
+        Path file = dir.resolve("mama.txt");
+        long genStart = System.nanoTime();
+        int entries = new DatasetGenerator(seed).span(LocalDate.now().minusDays(days - 1), days)
+                .write(file);
+        System.out.printf("Generated %d entries over %d days in %.1f ms (%d bytes) at %s%n",
+                entries, days, (System.nanoTime() - genStart) / 1e6, Files.size(file), file);
+
+        Storage storage = new Storage(file, true, Storage.DEFAULT_COMPACT_THRESHOLD);
+        long loadStart = System.nanoTime();
+        EntryList list = storage.loadOrEmpty();
+        System.out.printf("Loaded %d entries in %.1f ms%n", list.size(), (System.nanoTime() - loadStart) / 1e6);
+
+        Report report = new LoadHarness(list, storage).run(CommandMix.typical().sample(commands, seed));
+        storage.close();
+        System.out.print(report.format());
+    }
+}
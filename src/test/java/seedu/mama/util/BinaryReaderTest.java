@@ -0,0 +1,65 @@
+package seedu.mama.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryReaderTest {
+
+    @Test
+    void read_valuesWrittenByBinaryWriter_roundTrip() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryWriter out = new BinaryWriter(bytes);
+        out.writeInt(0);
+        out.writeInt(-1);
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeInt(Integer.MIN_VALUE);
+        out.writeOptionalInt(null);
+        out.writeOptionalInt(0);
+        out.writeOptionalInt(-7);
+        out.writeDouble(62.35);
+        out.writeTimestamp(LocalDateTime.of(2025, 10, 28, 9, 15, 42));
+        out.writeString("café");
+        out.flush();
+        assertEquals(bytes.size(), out.size());
+
+        BinaryReader in = new BinaryReader(ByteBuffer.wrap(bytes.toByteArray()));
+        assertEquals(0, in.readInt());
+        assertEquals(-1, in.readInt());
+        assertEquals(Integer.MAX_VALUE, in.readInt());
+        assertEquals(Integer.MIN_VALUE, in.readInt());
+        assertNull(in.readOptionalInt());
+        assertEquals(0, in.readOptionalInt());
+        assertEquals(-7, in.readOptionalInt());
+        assertEquals(62.35, in.readDouble());
+        assertEquals(LocalDateTime.of(2025, 10, 28, 9, 15), in.readTimestamp(), "Seconds are dropped");
+        assertEquals("café", in.readString());
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void writeInt_smallValues_takeOneByte() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryWriter out = new BinaryWriter(bytes);
+        out.writeInt(63);
+        out.writeInt(-64);
+        out.flush();
+        assertEquals(2, bytes.size());
+    }
+
+    @Test
+    void read_truncatedInput_throwsIllegalArgument() {
+        BinaryReader in = new BinaryReader(ByteBuffer.wrap(new byte[] {(byte) 0x80}));
+        assertThrows(IllegalArgumentException.class, in::readInt);
+
+        BinaryReader str = new BinaryReader(ByteBuffer.wrap(new byte[] {5, 'a', 'b'}));
+        assertThrows(IllegalArgumentException.class, str::readString);
+    }
+}
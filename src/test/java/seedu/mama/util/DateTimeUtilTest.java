@@ -0,0 +1,45 @@
+package seedu.mama.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DateTimeUtilTest {
+
+    @Test
+    void formatAndParse_matchFormatter() {
+        LocalDateTime t = LocalDateTime.of(2000, 1, 1, 0, 0);
+        LocalDateTime stop = LocalDateTime.of(2099, 12, 31, 23, 59);
+        while (t.isBefore(stop)) {
+            String expected = t.format(DateTimeUtil.FMT);
+            assertEquals(expected, DateTimeUtil.format(t));
+            assertEquals(LocalDateTime.parse(expected, DateTimeUtil.FMT), DateTimeUtil.parse(expected));
+            t = t.plusDays(13).plusHours(7).plusMinutes(17);
+        }
+    }
+
+    @Test
+    void parse_leapDayAndPadding() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), DateTimeUtil.parse(" 29/02/24 23:59 "));
+        assertEquals(LocalDateTime.of(2025, 10, 28, 9, 5), DateTimeUtil.parse("x|28/10/25 09:05", 2, 16));
+    }
+
+    @Test
+    void parse_outOfRangeValues_fallBackToFormatter() {
+        // the formatter's SMART resolver clamps 29/02 in a non-leap year; the fast path must agree
+        assertEquals(LocalDateTime.parse("29/02/25 10:00", DateTimeUtil.FMT), DateTimeUtil.parse("29/02/25 10:00"));
+        assertThrows(DateTimeException.class, () -> DateTimeUtil.parse("32/01/25 10:00"));
+        assertThrows(DateTimeException.class, () -> DateTimeUtil.parse("2025-10-28T10:00"));
+        assertThrows(DateTimeException.class, () -> DateTimeUtil.parse("aa/01/25 10:00"));
+    }
+
+    @Test
+    void format_outsideFastRange_usesFormatter() {
+        LocalDateTime t = LocalDateTime.of(1999, 12, 31, 8, 30);
+        assertEquals(t.format(DateTimeUtil.FMT), DateTimeUtil.format(t));
+    }
+}
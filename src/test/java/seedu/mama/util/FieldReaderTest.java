@@ -0,0 +1,69 @@
+package seedu.mama.util;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mama.model.Entry;
+import seedu.mama.model.MealEntry;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldReaderTest {
+
+    @Test
+    void next_readsFieldsInOrder() {
+        FieldReader r = new FieldReader("MEAL|toast|200|-| 12 |");
+
+        assertEquals(6, r.fieldCount());
+        assertTrue(r.peekIs("MEAL"));
+        r.skip();
+        assertEquals("toast", r.next());
+        assertEquals(200, r.nextInt());
+        assertNull(r.nextNullableInt());
+        assertEquals(12, r.nextNullableInt());
+        assertNull(r.nextNullableInt());
+        assertFalse(r.hasNext());
+        assertThrows(IllegalArgumentException.class, r::next);
+    }
+
+    @Test
+    void rest_keepsSeparators() {
+        FieldReader r = new FieldReader("NOTE|a|b");
+        r.skip();
+        assertEquals("a|b", r.rest());
+        assertEquals("", r.rest());
+    }
+
+    @Test
+    void parseInt_edgeCases() {
+        assertEquals(-42, FieldReader.parseInt("x-42x", 1, 4));
+        assertEquals(Integer.MAX_VALUE, FieldReader.parseInt("2147483647", 0, 10));
+        assertEquals(Integer.MIN_VALUE, FieldReader.parseInt("-2147483648", 0, 11));
+        assertThrows(NumberFormatException.class, () -> FieldReader.parseInt("2147483648", 0, 10));
+        assertThrows(NumberFormatException.class, () -> FieldReader.parseInt("12a", 0, 3));
+        assertThrows(NumberFormatException.class, () -> FieldReader.parseInt("-", 0, 1));
+        assertThrows(NumberFormatException.class, () -> FieldReader.parseInt("  ", 0, 2));
+    }
+
+    @Test
+    void fromStorageString_mealRoundTrip() {
+        MealEntry meal = new MealEntry("toast", 200, 5, null, 3, LocalDateTime.of(2025, 10, 28, 9, 5));
+
+        Entry back = Entry.fromStorageString(meal.toStorageString());
+
+        assertEquals(meal.toStorageString(), back.toStorageString());
+    }
+
+    @Test
+    void fromStorageString_malformedLines_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> Entry.fromStorageString("MEAL|toast|200"));
+        assertThrows(IllegalArgumentException.class, () -> Entry.fromStorageString("MILK|150ml|not a date"));
+        assertThrows(IllegalArgumentException.class, () -> Entry.fromStorageString("WORKOUT|run|x|3|28/10/25 09:00"));
+        assertThrows(IllegalArgumentException.class, () -> Entry.fromStorageString("BOGUS|1"));
+    }
+}
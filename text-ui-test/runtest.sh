@@ -9,7 +9,8 @@ cd ..
 STORAGE_FILE="text-ui-test/data/mama.txt"
 
 echo "Resetting storage for a clean test run..."
-rm -f "$STORAGE_FILE"
+rm -f "$STORAGE_FILE" "$STORAGE_FILE.journal" "$STORAGE_FILE.tmp"
+rm -rf "$STORAGE_FILE.segments"
 
 cd text-ui-test
 